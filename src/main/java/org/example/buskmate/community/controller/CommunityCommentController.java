@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.buskmate.auth.dto.UsersPrincipal;
 import org.example.buskmate.community.dto.CommunityCommentCreateRequestDto;
+import org.example.buskmate.community.dto.CommunityCommentPageResponse;
 import org.example.buskmate.community.dto.CommunityCommentResponseDto;
 import org.example.buskmate.community.dto.CommunityCommentUpdateRequestDto;
 import org.example.buskmate.community.service.CommunityCommentService;
@@ -19,7 +20,7 @@ import java.util.List;
 
 /**
  * 커뮤니티 댓글 API 컨트롤러
- * - 특정 게시글의 댓글 조회/작성/수정/삭제 기능을 제공한다.
+ * - 특정 게시글의 댓글 조회(전체/커서 페이지)/작성/수정/삭제 기능을 제공한다.
  * - 인증된 사용자(@AuthenticationPrincipal)를 댓글 작성자(author)로 사용한다.
  */
 @RestController
@@ -32,11 +33,15 @@ public class CommunityCommentController {
 
     /**
      * 특정 게시글의 활성 댓글 목록을 시간순으로 조회한다.
+     * - 댓글 수에 상한이 없어 응답 크기가 제한되지 않으므로 더 이상 사용하지 않는다. (/comments/page 사용)
      */
+    @Deprecated
     @GetMapping("/posts/{postId}/comments")
     @Operation(
-            summary = "댓글 목록 조회",
-            description = "특정 커뮤니티 게시글에 대한 활성 댓글 목록을 시간 순으로 조회합니다."
+            summary = "댓글 목록 조회 (deprecated)",
+            description = "특정 커뮤니티 게시글에 대한 활성 댓글 목록을 시간 순으로 조회합니다. "
+                    + "응답 크기에 상한이 없으므로 댓글 페이지 조회(/comments/page)를 사용하세요.",
+            deprecated = true
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공"),
@@ -49,6 +54,34 @@ public class CommunityCommentController {
         return ResponseEntity.ok(commentService.getCommentsByPostId(postId));
     }
 
+    /**
+     * 특정 게시글의 활성 댓글을 커서 기반으로 조회한다.
+     * - 응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회한다. (null이면 마지막 페이지)
+     * - 게시글 단건 조회 응답의 commentNextCursor로 두 번째 페이지부터 이어서 조회할 수 있다.
+     */
+    @GetMapping("/posts/{postId}/comments/page")
+    @Operation(
+            summary = "댓글 페이지 조회",
+            description = "특정 커뮤니티 게시글에 대한 활성 댓글을 시간 순으로 커서 기반 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "댓글 페이지 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 커서"),
+            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+    })
+    public ResponseEntity<CommunityCommentPageResponse> getCommentPage(
+            @Parameter(description = "커뮤니티 게시글 ID", example = "1")
+            @PathVariable Long postId,
+
+            @Parameter(description = "이전 응답의 nextCursor (없으면 첫 페이지)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentPage(postId, cursor, size));
+    }
+
     /**
      * 특정 게시글에 댓글을 작성한다.
      * - authorId는 인증 Principal에서 주입받아 작성자로 사용한다.
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.buskmate.auth.dto.UsersPrincipal;
 import org.example.buskmate.community.dto.post.crud.request.*;
+import org.example.buskmate.community.dto.post.crud.response.CommunityPostFeedResponse;
 import org.example.buskmate.community.dto.post.crud.response.CommunityPostReadAllPostResponse;
 import org.example.buskmate.community.dto.post.crud.response.CommunityPostReadPostResponse;
 import org.example.buskmate.community.service.CommunityPostDeleteFacadeService;
@@ -22,7 +23,7 @@ import org.springframework.web.bind.annotation.*;
 
 /**
  * 커뮤니티 게시글 API 컨트롤러
- * - 게시글 생성/전체 조회/단일 조회/수정/삭제 기능을 제공한다.
+ * - 게시글 생성/전체 조회(페이지, 커서)/단일 조회/수정/삭제 기능을 제공한다.
  * - 단일 조회는 Facade를 통해 조회수 기록 및 댓글 포함 응답을 함께 처리한다.
  * - 삭제는 Facade를 통해 댓글 소프트 삭제까지 함께 처리한다.
  */
@@ -78,6 +79,28 @@ public class CommunityPostController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 전체 게시글을 커서 기반으로 조회한다.
+     * - 응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회한다. (null이면 마지막 페이지)
+     * - includeTotal=true이면 캐시된 대략적인 전체 게시글 수를 함께 반환한다.
+     */
+    @GetMapping("/posts/feed")
+    @Operation(
+            summary = "게시글 피드 조회",
+            description = "최신 게시물부터 커서 기반으로 제목, 작성자, 조회수, 댓글수를 확인 할 수 있습니다."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "게시글 피드 조회 성공"
+    )
+    public ResponseEntity<CommunityPostFeedResponse> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ){
+        return ResponseEntity.ok(communityPostService.getFeed(cursor, size, includeTotal));
+    }
+
     /**
      * 단일 게시글을 조회한다.
      * - 조회 시 조회수 기록/집계 및 댓글 목록 포함 응답을 Facade에서 처리한다.
@@ -16,7 +16,13 @@ import java.time.LocalDateTime;
  * - @Version을 통해 낙관적 락 기반 동시성 제어를 지원한다.
  */
 @Getter
-@Table(name = "community_comment")
+@Table(
+        name = "community_comment",
+        indexes = @Index(
+                name = "idx_community_comment_post_active_created_id",
+                columnList = "community_post_id, is_active, created_at, id"
+        )
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 public class CommunityComment {
@@ -3,6 +3,7 @@ package org.example.buskmate.community.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,9 +13,15 @@ import java.time.LocalDateTime;
  * 커뮤니티 게시글 엔티티
  * - 작성자/제목/본문/상태(활성/삭제)를 관리한다.
  * - @Version을 통해 낙관적 락 기반 동시성 제어를 지원한다.
+ * - 조회수(viewCount)/댓글수(commentCount)는 목록 조회용 비정규화 카운터로, 증감 UPDATE로만 갱신하므로 엔티티에서는 읽기 전용이다.
+ *   (조회수: CommunityPostLogService, 댓글수: CommunityCommentServiceImpl, 보정: CommunityPostCounterReconciler)
+ * - 댓글 집합 버전(commentVersion)도 같은 방식으로 증가시키며, @Version과 함께 게시글 상세 캐시의 유효성 검증에 사용한다.
  */
 @Getter
-@Table(name = "community_post")
+@Table(
+        name = "community_post",
+        indexes = @Index(name = "idx_community_post_active_created", columnList = "is_active, created_at, id")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 public class CommunityPost {
@@ -48,6 +55,21 @@ public class CommunityPost {
     @Column(nullable = false)
     private Long version;
 
+    // 조회수 (버전/수정 시각과 무관하게 증가하므로 엔티티 UPDATE에 포함하지 않는다)
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
+    // 활성 댓글 수 (조회수와 같은 이유로 엔티티 UPDATE에 포함하지 않는다)
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private long commentCount;
+
+    // 댓글 집합 버전 (댓글 생성/수정/삭제마다 증가, 게시글 상세 캐시 검증용)
+    @ColumnDefault("0")
+    @Column(name = "comment_version", nullable = false, updatable = false)
+    private long commentVersion;
+
     /**
      * 게시글 엔티티 생성자(Builder)
      * - 제목/작성자/본문/상태를 초기화한다.
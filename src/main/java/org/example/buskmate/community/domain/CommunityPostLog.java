@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 /**
  * 게시글 조회 기록 엔티티
  * - 어떤 사용자가(viewerId) 어떤 게시글을 언제(viewedAt) 조회했는지 기록한다.
- * - 조회수 집계 시, viewerId 중복을 제거하여 고유 조회자를 기준으로 계산한다.
+ * - 조회수에 반영된 조회만 기록된다. (같은 조회자의 재조회는 community.view.dedupe-window-ms마다 1회)
+ * - 기록은 CommunityPostLogService가 모아서 JDBC 배치로 INSERT한다.
  */
 @Entity
 @Getter
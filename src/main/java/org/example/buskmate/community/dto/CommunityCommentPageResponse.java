@@ -0,0 +1,12 @@
+package org.example.buskmate.community.dto;
+
+import java.util.List;
+
+/**
+ * 댓글 커서 페이지 응답 DTO (record)
+ * - 댓글은 작성 순(createdAt, id 오름차순)이며, nextCursor가 null이면 마지막 페이지이다.
+ */
+public record CommunityCommentPageResponse(
+        List<CommunityCommentResponseDto> comments,
+        String nextCursor
+) {}
@@ -21,8 +21,9 @@ public class CommunityCommentResponseDto {
     private final LocalDateTime updatedAt;
     private final Long version;
 
+    // JPQL 생성자 프로젝션(CommunityCommentRepository)에서도 사용하므로 public으로 둔다.
     @Builder
-    private CommunityCommentResponseDto(
+    public CommunityCommentResponseDto(
             Long id,
             Long postId,
             String authorId,
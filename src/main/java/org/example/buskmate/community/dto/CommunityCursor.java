@@ -0,0 +1,53 @@
+package org.example.buskmate.community.dto;
+
+import org.example.buskmate.community.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 목록 조회의 기준 위치 (record)
+ * - (createdAt, id) 순서의 마지막 항목을 가리키며, 다음 조회는 이 항목 바로 뒤부터 시작한다.
+ * - 클라이언트에는 내부 형식을 감춘 불투명 문자열(Base64 URL-safe)로 전달한다.
+ */
+public record CommunityCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final char SEPARATOR = '_';
+
+    /**
+     * 커서를 불투명 문자열로 인코딩한다.
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 문자열을 커서로 디코딩한다. (null/빈 값이면 null = 처음부터)
+     *
+     * @throws InvalidCursorException 형식이 올바르지 않은 경우
+     */
+    public static CommunityCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            if (sep < 0) {
+                throw new InvalidCursorException("올바르지 않은 커서입니다.");
+            }
+            return new CommunityCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("올바르지 않은 커서입니다.");
+        }
+    }
+}
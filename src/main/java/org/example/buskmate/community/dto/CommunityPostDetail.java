@@ -0,0 +1,46 @@
+package org.example.buskmate.community.dto;
+
+import org.example.buskmate.community.domain.CommunityPost;
+import org.example.buskmate.community.dto.post.crud.response.CommunityPostReadPostResponse;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 캐시 항목 (record)
+ * - 조립된 게시글 본문과 댓글 첫 페이지(+ 다음 커서)를, 적재 시점의 게시글 버전/댓글 집합 버전과 함께 보관한다.
+ * - 조회수는 포함하지 않으며 응답을 만들 때 채운다.
+ */
+public record CommunityPostDetail(
+        Long id,
+        String authorId,
+        String title,
+        String content,
+        Long version,
+        long commentVersion,
+        List<CommunityCommentResponseDto> comments,
+        String commentNextCursor
+) {
+    public static CommunityPostDetail of(CommunityPost post, CommunityCommentPageResponse firstComments) {
+        return new CommunityPostDetail(
+                post.getId(),
+                post.getAuthorId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getVersion(),
+                post.getCommentVersion(),
+                List.copyOf(firstComments.comments()),
+                firstComments.nextCursor()
+        );
+    }
+
+    /**
+     * 검증용 상태와 버전이 모두 같은지 확인한다.
+     */
+    public boolean matches(CommunityPostVersionState state) {
+        return version.equals(state.version()) && commentVersion == state.commentVersion();
+    }
+
+    public CommunityPostReadPostResponse toResponse(Long viewCount) {
+        return new CommunityPostReadPostResponse(id, authorId, title, content, comments, commentNextCursor, viewCount);
+    }
+}
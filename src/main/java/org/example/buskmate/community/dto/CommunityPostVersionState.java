@@ -0,0 +1,13 @@
+package org.example.buskmate.community.dto;
+
+/**
+ * 게시글 상세 캐시 검증용 상태 (record)
+ * - 게시글 @Version과 댓글 집합 버전이 캐시된 값과 같으면 캐시된 본문/댓글을 그대로 사용한다.
+ * - 조회수는 캐시하지 않으므로 매 요청마다 함께 읽는다.
+ */
+public record CommunityPostVersionState(
+        Long postId,
+        Long version,
+        long commentVersion,
+        long viewCount
+) {}
@@ -0,0 +1,13 @@
+package org.example.buskmate.community.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 조회 기록 (record)
+ * - 조회수 버퍼가 모아 두었다가 조회 로그 INSERT/조회수 UPDATE 배치에 사용한다.
+ */
+public record CommunityPostViewRecord(
+        Long postId,
+        String viewerId,
+        LocalDateTime viewedAt
+) {}
@@ -0,0 +1,14 @@
+package org.example.buskmate.community.dto.post.crud.response;
+
+import java.util.List;
+
+/**
+ * 게시글 피드(커서 기반 목록) 응답 DTO (record)
+ * - nextCursor가 null이면 마지막 페이지이다.
+ * - approximateTotal은 요청한 경우에만 채워지며, 캐시된 값이라 실제 개수와 조금 다를 수 있다.
+ */
+public record CommunityPostFeedResponse(
+        List<CommunityPostReadAllPostResponse> posts,
+        String nextCursor,
+        Long approximateTotal
+) {}
@@ -1,12 +1,12 @@
 package org.example.buskmate.community.dto.post.crud.response;
 
-import org.example.buskmate.community.domain.CommunityPost;
 import org.example.buskmate.community.dto.CommunityCommentResponseDto;
 
 import java.util.List;
 /**
  * 게시글 단건 조회 응답 DTO (record)
- * - 게시글 본문 + 댓글 목록 + 조회수 정보를 포함한다.
+ * - 게시글 본문 + 댓글 첫 페이지 + 조회수 정보를 포함한다.
+ * - commentNextCursor가 있으면 댓글 목록 API(cursor)로 나머지 댓글을 이어서 조회한다.
  */
 public record CommunityPostReadPostResponse(
         Long id,
@@ -14,20 +14,6 @@ public record CommunityPostReadPostResponse(
         String title,
         String content,
         List<CommunityCommentResponseDto> comments,
+        String commentNextCursor,
         Long viewCount
-) {
-    public static CommunityPostReadPostResponse of(
-            CommunityPost c,
-            List<CommunityCommentResponseDto> comments,
-            Long viewCount
-    ){
-        return new CommunityPostReadPostResponse(
-                c.getId(),
-                c.getAuthorId(),
-                c.getTitle(),
-                c.getContent(),
-                comments,
-                viewCount
-        );
-    }
-}
+) {}
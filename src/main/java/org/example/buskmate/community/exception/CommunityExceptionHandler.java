@@ -44,4 +44,17 @@ public class CommunityExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
     }
+
+    /**
+     * 해석할 수 없는 커서로 목록을 조회한 경우를 처리한다.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException e) {
+        ErrorResponse body = new ErrorResponse(
+                "INVALID_CURSOR",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
 }
@@ -0,0 +1,10 @@
+package org.example.buskmate.community.exception;
+
+/**
+ * 커서 기반 목록 조회에서 커서 값을 해석할 수 없을 때 발생하는 예외
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
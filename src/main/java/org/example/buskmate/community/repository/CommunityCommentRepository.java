@@ -2,14 +2,19 @@ package org.example.buskmate.community.repository;
 
 import org.example.buskmate.community.domain.CommunityComment;
 import org.example.buskmate.community.domain.PostStatus;
+import org.example.buskmate.community.dto.CommunityCommentResponseDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 댓글 JPA 레포지토리
- * - 게시글별 활성 댓글 조회 쿼리를 제공한다.
+ * - 게시글별 활성 댓글 조회(전체/커서 페이지) 쿼리를 제공한다.
  */
 @Repository
 public interface CommunityCommentRepository extends JpaRepository<CommunityComment, Long> {
@@ -21,4 +26,57 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
             Long communityPostId,
             PostStatus isActive
     );
+
+    /**
+     * 특정 게시글의 활성 댓글 첫 페이지를 (createdAt, id) 오름차순으로 조회한다.
+     * - 응답 DTO로 바로 프로젝션하므로 댓글/게시글 엔티티를 적재하지 않는다. (postId는 FK 컬럼에서 읽는다)
+     */
+    @Query("""
+        select new org.example.buskmate.community.dto.CommunityCommentResponseDto(
+            c.id,
+            c.communityPost.id,
+            c.authorId,
+            c.content,
+            c.createdAt,
+            c.updatedAt,
+            c.version
+        )
+        from CommunityComment c
+        where c.communityPost.id = :postId
+          and c.isActive = :status
+        order by c.createdAt ASC, c.id ASC
+    """)
+    List<CommunityCommentResponseDto> findPageFirst(
+            @Param("postId") Long postId,
+            @Param("status") PostStatus status,
+            Limit limit
+    );
+
+    /**
+     * 커서(createdAt, id) 바로 다음부터 특정 게시글의 활성 댓글을 조회한다.
+     * - idx_community_comment_post_active_created_id 인덱스에서 커서 위치로 바로 이동한다.
+     */
+    @Query("""
+        select new org.example.buskmate.community.dto.CommunityCommentResponseDto(
+            c.id,
+            c.communityPost.id,
+            c.authorId,
+            c.content,
+            c.createdAt,
+            c.updatedAt,
+            c.version
+        )
+        from CommunityComment c
+        where c.communityPost.id = :postId
+          and c.isActive = :status
+          and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))
+        order by c.createdAt ASC, c.id ASC
+    """)
+    List<CommunityCommentResponseDto> findPageAfter(
+            @Param("postId") Long postId,
+            @Param("status") PostStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
 }
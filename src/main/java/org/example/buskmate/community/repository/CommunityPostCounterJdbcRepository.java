@@ -0,0 +1,56 @@
+package org.example.buskmate.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글 카운터 보정 JDBC 레포지토리
+ * - 게시글 ID 구간 단위로 조회수/댓글수를 원본(조회 로그, 활성 댓글)에서 다시 계산해 덮어쓴다.
+ * - 구간마다 별도의 짧은 UPDATE 한 번으로 처리하여, 긴 트랜잭션/대량 잠금을 피한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityPostCounterJdbcRepository {
+
+    private static final String FIND_CHUNK_END_SQL = """
+        select max(t.id)
+          from (select id
+                  from community_post
+                 where id > ?
+                 order by id
+                 limit ?) t
+    """;
+
+    private static final String RECONCILE_SQL = """
+        update community_post p
+           set p.view_count = (select count(*)
+                                 from community_post_log l
+                                where l.community_post_id = p.id),
+               p.comment_count = (select count(*)
+                                    from community_comment c
+                                   where c.community_post_id = p.id
+                                     and c.is_active = 'ACTIVE')
+         where p.id > ?
+           and p.id <= ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * afterId 다음부터 chunkSize개 게시글 구간의 마지막 ID를 반환한다. (없으면 null)
+     */
+    public Long findChunkEnd(long afterId, int chunkSize) {
+        return jdbcTemplate.queryForObject(FIND_CHUNK_END_SQL, Long.class, afterId, chunkSize);
+    }
+
+    /**
+     * (afterId, toId] 구간 게시글의 조회수/댓글수를 다시 계산한다.
+     * - 조회 로그 INSERT와 조회수 증가는 같은 트랜잭션에서 반영되므로, 로그 건수가 곧 조회수다.
+     *
+     * @return 갱신된 게시글 수
+     */
+    public int reconcileCounters(long afterId, long toId) {
+        return jdbcTemplate.update(RECONCILE_SQL, afterId, toId);
+    }
+}
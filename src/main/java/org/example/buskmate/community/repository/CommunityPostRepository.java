@@ -2,23 +2,32 @@ package org.example.buskmate.community.repository;
 
 import org.example.buskmate.community.domain.CommunityPost;
 import org.example.buskmate.community.domain.PostStatus;
+import org.example.buskmate.community.dto.CommunityPostVersionState;
 import org.example.buskmate.community.dto.post.crud.response.CommunityPostReadAllPostResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 게시글 JPA 레포지토리
- * - 게시글 목록 요약(조회수/댓글수 집계 포함) 조회 쿼리를 제공한다.
+ * - 게시글 목록 요약(페이지/커서) 조회, 상세 캐시 검증용 버전 조회, 댓글수/댓글 버전 갱신 쿼리를 제공한다.
  */
 @Repository
 public interface CommunityPostRepository extends JpaRepository<CommunityPost,Long> {
 
     /**
-     * 활성 게시글 목록을 페이징으로 조회하며, 조회수/댓글수를 함께 집계하여 DTO로 반환한다.
+     * 활성 게시글 목록을 페이징으로 조회하여 DTO로 반환한다.
+     * - 조회수/댓글수는 게시글의 비정규화 카운터를 그대로 읽으므로 조회 로그/댓글을 조인하지 않는다.
+     * - idx_community_post_active_created(is_active, created_at, id) 인덱스를 순서대로 읽는다.
      */
     @Query(
             value = """
@@ -26,15 +35,12 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost,Lon
             p.id,
             p.authorId,
             p.title,
-            count(distinct l.viewerId),
+            p.viewCount,
             p.createdAt,
-            count(distinct c.id)
+            p.commentCount
         )
         from CommunityPost p
-        left join CommunityPostLog l on l.communityPost = p
-        left join CommunityComment c on c.communityPost = p and c.isActive = :status
         where p.isActive = :status
-        group by p.id, p.authorId, p.title, p.createdAt
         order by p.createdAt DESC
     """,
             countQuery = """
@@ -47,4 +53,99 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost,Lon
             @Param("status") PostStatus status,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    /**
+     * 활성 게시글 피드의 첫 페이지를 (createdAt, id) 내림차순으로 조회한다.
+     */
+    @Query("""
+        select new org.example.buskmate.community.dto.post.crud.response.CommunityPostReadAllPostResponse(
+            p.id,
+            p.authorId,
+            p.title,
+            p.viewCount,
+            p.createdAt,
+            p.commentCount
+        )
+        from CommunityPost p
+        where p.isActive = :status
+        order by p.createdAt DESC, p.id DESC
+    """)
+    List<CommunityPostReadAllPostResponse> findFeedFirst(
+            @Param("status") PostStatus status,
+            Limit limit
+    );
+
+    /**
+     * 커서(createdAt, id) 바로 다음부터 활성 게시글 피드를 조회한다.
+     * - idx_community_post_active_created(is_active, created_at, id) 인덱스에서 커서 위치로 바로 이동하므로, 페이지 깊이와 무관하게 비용이 일정하다.
+     */
+    @Query("""
+        select new org.example.buskmate.community.dto.post.crud.response.CommunityPostReadAllPostResponse(
+            p.id,
+            p.authorId,
+            p.title,
+            p.viewCount,
+            p.createdAt,
+            p.commentCount
+        )
+        from CommunityPost p
+        where p.isActive = :status
+          and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+        order by p.createdAt DESC, p.id DESC
+    """)
+    List<CommunityPostReadAllPostResponse> findFeedAfter(
+            @Param("status") PostStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    /**
+     * 상태별 게시글 수를 조회한다.
+     */
+    long countByIsActive(PostStatus isActive);
+
+    /**
+     * 해당 상태의 게시글이 있는지 PK로 확인한다.
+     */
+    boolean existsByIdAndIsActive(Long id, PostStatus isActive);
+
+    /**
+     * 게시글 상세 캐시 검증에 필요한 버전/조회수만 PK로 조회한다.
+     */
+    @Query("""
+        select new org.example.buskmate.community.dto.CommunityPostVersionState(
+            p.id,
+            p.version,
+            p.commentVersion,
+            p.viewCount
+        )
+        from CommunityPost p
+        where p.id = :postId
+    """)
+    Optional<CommunityPostVersionState> findVersionStateById(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 댓글수 카운터를 증감하고 댓글 집합 버전을 올린다.
+     * - 엔티티 @Version/수정 시각을 건드리지 않도록 네이티브 UPDATE로 처리한다.
+     */
+    @Modifying
+    @Query(value = """
+        update community_post
+           set comment_count = greatest(comment_count + :delta, 0),
+               comment_version = comment_version + 1
+         where id = :postId
+    """, nativeQuery = true)
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    /**
+     * 댓글 수정 시 댓글 집합 버전만 올린다.
+     */
+    @Modifying
+    @Query(value = """
+        update community_post
+           set comment_version = comment_version + 1
+         where id = :postId
+    """, nativeQuery = true)
+    int bumpCommentVersion(@Param("postId") Long postId);
+}
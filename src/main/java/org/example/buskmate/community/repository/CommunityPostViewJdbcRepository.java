@@ -0,0 +1,59 @@
+package org.example.buskmate.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.community.dto.CommunityPostViewRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 조회수 배치 반영 JDBC 레포지토리
+ * - 모인 조회 기록을 조회 로그 INSERT 배치 1회 + 게시글별 조회수 증가 UPDATE 배치 1회로 반영한다.
+ * - 조회수 증가는 엔티티 @Version을 건드리지 않으므로 게시글 수정과 충돌하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityPostViewJdbcRepository {
+
+    private static final String INSERT_LOG_SQL = """
+        insert into community_post_log (community_post_id, viewer_id, viewed_at)
+        values (?, ?, ?)
+    """;
+
+    private static final String INCREMENT_VIEW_COUNT_SQL = """
+        update community_post
+           set view_count = view_count + ?
+         where id = ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회 기록과 게시글별 조회수 증가분을 하나의 트랜잭션으로 반영한다.
+     *
+     * @param views  조회 기록 목록
+     * @param deltas 게시글 ID → 조회수 증가분
+     */
+    @Transactional
+    public void saveViews(List<CommunityPostViewRecord> views, Map<Long, Long> deltas) {
+        if (views.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_LOG_SQL, views, views.size(), (ps, v) -> {
+            ps.setLong(1, v.postId());
+            ps.setString(2, v.viewerId());
+            ps.setTimestamp(3, Timestamp.valueOf(v.viewedAt()));
+        });
+
+        List<Map.Entry<Long, Long>> increments = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, increments, increments.size(), (ps, e) -> {
+            ps.setLong(1, e.getValue());
+            ps.setLong(2, e.getKey());
+        });
+    }
+}
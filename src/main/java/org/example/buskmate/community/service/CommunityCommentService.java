@@ -1,6 +1,8 @@
 package org.example.buskmate.community.service;
 
+import org.example.buskmate.community.domain.CommunityPost;
 import org.example.buskmate.community.dto.CommunityCommentCreateRequestDto;
+import org.example.buskmate.community.dto.CommunityCommentPageResponse;
 import org.example.buskmate.community.dto.CommunityCommentResponseDto;
 import org.example.buskmate.community.dto.CommunityCommentUpdateRequestDto;
 
@@ -14,9 +16,22 @@ public interface CommunityCommentService {
 
     /**
      * 게시글별 댓글 목록을 조회한다.
+     * - 댓글 수에 상한이 없으므로 getCommentPage를 사용한다.
      */
+    @Deprecated
     List<CommunityCommentResponseDto> getCommentsByPostId(Long postId);
 
+    /**
+     * 게시글별 댓글을 커서 기반으로 조회한다.
+     * - 활성 게시글이 아니면 IllegalArgumentException을 던진다.
+     */
+    CommunityCommentPageResponse getCommentPage(Long postId, String cursor, int size);
+
+    /**
+     * 이미 조회한 게시글의 댓글을 커서 기반으로 조회한다. (게시글 존재 확인 생략)
+     */
+    CommunityCommentPageResponse getCommentPage(CommunityPost post, String cursor, int size);
+
     /**
      * 특정 게시글에 댓글을 생성한다.
      */
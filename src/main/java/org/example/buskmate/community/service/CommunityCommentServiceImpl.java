@@ -6,10 +6,13 @@ import org.example.buskmate.community.domain.CommunityComment;
 import org.example.buskmate.community.domain.CommunityPost;
 import org.example.buskmate.community.domain.PostStatus;
 import org.example.buskmate.community.dto.CommunityCommentCreateRequestDto;
+import org.example.buskmate.community.dto.CommunityCommentPageResponse;
 import org.example.buskmate.community.dto.CommunityCommentResponseDto;
 import org.example.buskmate.community.dto.CommunityCommentUpdateRequestDto;
+import org.example.buskmate.community.dto.CommunityCursor;
 import org.example.buskmate.community.repository.CommunityCommentRepository;
 import org.example.buskmate.community.repository.CommunityPostRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +21,8 @@ import java.util.List;
 /**
  * 댓글 서비스 구현체
  * - 댓글 CRUD 및 소프트 삭제 로직을 처리한다.
+ * - 댓글 생성/소프트 삭제 시 게시글의 댓글수 카운터를 같은 트랜잭션에서 증감한다.
+ * - 댓글 생성/수정/삭제 시 게시글의 댓글 집합 버전을 올리고 게시글 상세 캐시를 제거한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -26,11 +31,15 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
 
     private final CommunityCommentRepository commentRepository;
     private final CommunityPostRepository postRepository;
+    private final CommunityPostDetailCache detailCache;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
      * 특정 게시글의 활성 댓글을 시간순으로 조회해 응답 DTO로 반환한다.
      */
     @Override
+    @Deprecated
     public List<CommunityCommentResponseDto> getCommentsByPostId(Long postId) {
         List<CommunityComment> comments =
                 commentRepository.findByCommunityPostIdAndIsActiveOrderByCreatedAtAsc(
@@ -43,6 +52,46 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
                 .toList();
     }
 
+    /**
+     * 활성 게시글인지 확인한 뒤 댓글을 커서 기반으로 조회한다.
+     * - 없는 게시글/삭제된 게시글이면 빈 페이지 대신 IllegalArgumentException(404)을 던진다.
+     */
+    @Override
+    public CommunityCommentPageResponse getCommentPage(Long postId, String cursor, int size) {
+        if (!postRepository.existsByIdAndIsActive(postId, PostStatus.ACTIVE)) {
+            throw new IllegalArgumentException("존재하지 않는 게시물 입니다.");
+        }
+        return findCommentPage(postId, cursor, size);
+    }
+
+    /**
+     * 이미 조회한 게시글의 댓글을 커서 기반으로 조회한다.
+     */
+    @Override
+    public CommunityCommentPageResponse getCommentPage(CommunityPost post, String cursor, int size) {
+        return findCommentPage(post.getId(), cursor, size);
+    }
+
+    /**
+     * size + 1건을 DTO 프로젝션으로 조회해 다음 페이지 존재 여부를 판단한다.
+     */
+    private CommunityCommentPageResponse findCommentPage(Long postId, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        CommunityCursor after = CommunityCursor.decode(cursor);
+
+        List<CommunityCommentResponseDto> rows = after == null
+                ? commentRepository.findPageFirst(postId, PostStatus.ACTIVE, Limit.of(pageSize + 1))
+                : commentRepository.findPageAfter(postId, PostStatus.ACTIVE, after.createdAt(), after.id(), Limit.of(pageSize + 1));
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            CommunityCommentResponseDto last = rows.get(pageSize - 1);
+            nextCursor = new CommunityCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CommunityCommentPageResponse(rows, nextCursor);
+    }
+
     /**
      * 특정 게시글을 조회한 뒤 댓글 엔티티를 생성/저장하고 응답 DTO로 반환한다.
      */
@@ -60,6 +109,8 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
                 .build();
 
         CommunityComment saved = commentRepository.save(comment);
+        postRepository.addCommentCount(postId, 1);
+        detailCache.evict(postId);
         return CommunityCommentResponseDto.from(saved);
     }
 
@@ -73,6 +124,9 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
                 .orElseThrow(() -> new EntityNotFoundException("Comment not found: " + commentId));
 
         comment.updateComment(requestDto.getContent());
+        Long postId = comment.getCommunityPost().getId();
+        postRepository.bumpCommentVersion(postId);
+        detailCache.evict(postId);
 
         return CommunityCommentResponseDto.from(comment);
     }
@@ -86,7 +140,12 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
         CommunityComment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("Comment not found: " + commentId));
 
-        comment.softDelete();
+        if (comment.getIsActive() == PostStatus.ACTIVE) {
+            comment.softDelete();
+            Long postId = comment.getCommunityPost().getId();
+            postRepository.addCommentCount(postId, -1);
+            detailCache.evict(postId);
+        }
     }
 
     /**
@@ -99,5 +158,9 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
                 commentRepository.findByCommunityPostIdAndIsActiveOrderByCreatedAtAsc(postId, PostStatus.ACTIVE);
 
         comments.forEach(CommunityComment::softDelete);
+        if (!comments.isEmpty()) {
+            postRepository.addCommentCount(postId, -comments.size());
+            detailCache.evict(postId);
+        }
     }
 }
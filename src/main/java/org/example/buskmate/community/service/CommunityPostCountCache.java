@@ -0,0 +1,57 @@
+package org.example.buskmate.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.community.domain.PostStatus;
+import org.example.buskmate.community.repository.CommunityPostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활성 게시글 수 캐시
+ * - 피드 응답의 대략적인 전체 개수(approximateTotal)를 위해 count 쿼리 결과를 community.feed.total-ttl-ms 동안 재사용한다.
+ * - 만료 시 한 요청만 다시 세고, 나머지 요청은 이전 값을 그대로 반환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityPostCountCache {
+
+    private final CommunityPostRepository postRepository;
+
+    @Value("${community.feed.total-ttl-ms:60000}")
+    private long ttlMs;
+
+    private final AtomicLong count = new AtomicLong(-1);
+    private final AtomicLong expiresAt = new AtomicLong();
+
+    /**
+     * 활성 게시글 수를 반환한다. (최대 community.feed.total-ttl-ms 만큼 오래된 값일 수 있다)
+     */
+    public long activeCount() {
+        long now = System.currentTimeMillis();
+        long expires = expiresAt.get();
+        long cached = count.get();
+        if (now < expires && cached >= 0) {
+            return cached;
+        }
+        // 다른 요청이 이미 갱신 중이면 이전 값을 사용한다. (첫 조회는 값이 없으므로 직접 센다)
+        if (!expiresAt.compareAndSet(expires, now + ttlMs) && cached >= 0) {
+            return cached;
+        }
+        try {
+            long counted = postRepository.countByIsActive(PostStatus.ACTIVE);
+            count.set(counted);
+            return counted;
+        } catch (RuntimeException e) {
+            expiresAt.set(0);
+            if (cached >= 0) {
+                log.warn("[COMMUNITY] active post count refresh failed - using cached={}", cached, e);
+                return cached;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.buskmate.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.community.repository.CommunityPostCounterJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 카운터 보정 작업
+ * - 비정규화된 조회수/댓글수(view_count, comment_count)를 조회 로그/활성 댓글 기준으로 주기적으로 다시 계산한다.
+ * - 한 주기에 community.counter-reconcile.chunk-size개씩 최대 max-chunks-per-run번 처리하고,
+ *   다음 주기에는 이어서 진행한다. (끝까지 가면 처음부터 다시 순회)
+ * - 카운터 도입 이전 게시글의 초기값 채우기와, 증감 누락(노드 장애 등) 보정을 함께 담당한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityPostCounterReconciler {
+
+    private final CommunityPostCounterJdbcRepository counterJdbcRepository;
+
+    @Value("${community.counter-reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${community.counter-reconcile.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${community.counter-reconcile.max-chunks-per-run:20}")
+    private int maxChunksPerRun;
+
+    // 다음 주기에 이어서 처리할 마지막 게시글 ID
+    private long cursor;
+
+    @Scheduled(
+            initialDelayString = "${community.counter-reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${community.counter-reconcile.interval-ms:60000}"
+    )
+    void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        int total = 0;
+        try {
+            for (int i = 0; i < maxChunksPerRun; i++) {
+                Long chunkEnd = counterJdbcRepository.findChunkEnd(cursor, chunkSize);
+                if (chunkEnd == null) {
+                    cursor = 0;
+                    break;
+                }
+                total += counterJdbcRepository.reconcileCounters(cursor, chunkEnd);
+                cursor = chunkEnd;
+            }
+        } catch (RuntimeException e) {
+            log.warn("[COMMUNITY] counter reconcile failed - cursor={}", cursor, e);
+            return;
+        }
+        log.debug("[COMMUNITY] counters reconciled - posts={}, cursor={}", total, cursor);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.buskmate.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.buskmate.community.dto.CommunityPostDetail;
+import org.example.buskmate.community.dto.CommunityPostVersionState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 상세 캐시
+ * - 게시글 ID별로 조립된 본문/댓글 목록(CommunityPostDetail)을 보관하는 read-through 캐시이다.
+ * - 조회 시 PK로 읽은 게시글 @Version + 댓글 집합 버전과 비교해, 하나라도 다르면 캐시를 버리고 다시 적재한다.
+ *   (버전은 DB에 있으므로 다른 노드의 수정도 감지된다)
+ * - 게시글 수정/삭제, 댓글 생성/수정/삭제 시 해당 항목을 바로 제거한다.
+ * - 최대 community.post-detail-cache.max-entries개까지 유지하며, 전역 락 없이 동시에 읽고 쓸 수 있는 Caffeine 캐시를 쓴다.
+ * - 지표: community.post_detail_cache.requests{result=hit|stale|miss} (버전 검증 포함),
+ *   cache.*{cache=community.post_detail} (Caffeine 통계: 크기/적중/축출)
+ */
+@Component
+public class CommunityPostDetailCache {
+
+    static final String CACHE_NAME = "community.post_detail";
+
+    private final Cache<Long, CommunityPostDetail> entries;
+    private final Counter hits;
+    private final Counter stale;
+    private final Counter misses;
+
+    public CommunityPostDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${community.post-detail-cache.max-entries:1000}") int maxEntries) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+        this.hits = Counter.builder("community.post_detail_cache.requests").tag("result", "hit").register(meterRegistry);
+        this.stale = Counter.builder("community.post_detail_cache.requests").tag("result", "stale").register(meterRegistry);
+        this.misses = Counter.builder("community.post_detail_cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 현재 버전과 일치하는 캐시 항목을 반환한다. (없거나 버전이 다르면 null)
+     */
+    public CommunityPostDetail get(CommunityPostVersionState state) {
+        CommunityPostDetail detail = entries.getIfPresent(state.postId());
+        if (detail == null) {
+            misses.increment();
+            return null;
+        }
+        if (!detail.matches(state)) {
+            stale.increment();
+            return null;
+        }
+        hits.increment();
+        return detail;
+    }
+
+    /**
+     * 적재한 항목을 저장한다.
+     * - 이미 더 최신 버전의 항목이 있으면 덮어쓰지 않는다.
+     */
+    public void put(CommunityPostDetail detail) {
+        entries.asMap().merge(detail.id(), detail, (old, loaded) -> isNewer(old, loaded) ? old : loaded);
+    }
+
+    /**
+     * 게시글 항목을 제거한다.
+     */
+    public void evict(Long postId) {
+        entries.invalidate(postId);
+    }
+
+    /**
+     * a가 b보다 최신인지 판단한다.
+     * - 게시글 버전/댓글 집합 버전이 모두 같거나 크고, 하나 이상이 더 클 때만 최신으로 본다.
+     */
+    static boolean isNewer(CommunityPostDetail a, CommunityPostDetail b) {
+        return a.version() >= b.version() && a.commentVersion() >= b.commentVersion()
+                && (a.version() > b.version() || a.commentVersion() > b.commentVersion());
+    }
+}
@@ -2,17 +2,20 @@ package org.example.buskmate.community.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.buskmate.community.domain.CommunityPost;
-import org.example.buskmate.community.dto.CommunityCommentResponseDto;
+import org.example.buskmate.community.dto.CommunityCommentPageResponse;
+import org.example.buskmate.community.dto.CommunityPostDetail;
+import org.example.buskmate.community.dto.CommunityPostVersionState;
 import org.example.buskmate.community.dto.post.crud.response.CommunityPostReadPostResponse;
 import org.example.buskmate.community.repository.CommunityPostRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * 게시글 조회 파사드 서비스
- * - 게시글 단건 조회 시 조회수 기록/집계와 댓글 조회를 결합하여 응답을 만든다.
+ * - 게시글 단건 조회 시 조회수 기록/집계와 댓글 첫 페이지 조회를 결합하여 응답을 만든다.
+ * - 조회수는 메모리에서 집계되므로 읽기 전용 트랜잭션으로 처리한다.
+ * - 본문/댓글 목록은 CommunityPostDetailCache에서 버전 검증 후 재사용하고, 버전이 바뀐 경우에만 다시 조회한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -21,19 +24,37 @@ public class CommunityPostFacadeService {
     private final CommunityPostRepository postRepository;
     private final CommunityCommentService commentService;
     private final CommunityPostLogService logService;
+    private final CommunityPostDetailCache detailCache;
+
+    @Value("${community.comment.detail-page-size:20}")
+    private int commentPageSize;
 
     /**
-     * 게시글을 조회하면서 조회수 기록/집계 및 댓글 목록을 포함한 응답 DTO를 반환한다.
+     * 게시글을 조회하면서 조회수 기록/집계 및 댓글 첫 페이지(community.comment.detail-page-size)를 포함한 응답 DTO를 반환한다.
+     * - 캐시 적중 시 DB 접근은 버전/조회수 PK 조회 1회뿐이다.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public CommunityPostReadPostResponse getPostWithCommentAndView(String viewerId, Long postId) {
-        CommunityPost post = postRepository.findById(postId)
+        CommunityPostVersionState state = postRepository.findVersionStateById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시물 입니다."));
 
-        Long viewCount = logService.recordAndGetViewCount(viewerId, post);
+        CommunityPostDetail detail = detailCache.get(state);
+        if (detail == null) {
+            detail = loadDetail(postId);
+            detailCache.put(detail);
+        }
+
+        Long viewCount = logService.recordAndGetViewCount(viewerId, postId, state.viewCount());
+
+        return detail.toResponse(viewCount);
+    }
+
+    private CommunityPostDetail loadDetail(Long postId) {
+        CommunityPost post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시물 입니다."));
 
-        List<CommunityCommentResponseDto> comments = commentService.getCommentsByPostId(postId);
+        CommunityCommentPageResponse firstComments = commentService.getCommentPage(post, null, commentPageSize);
 
-        return CommunityPostReadPostResponse.of(post, comments, viewCount);
+        return CommunityPostDetail.of(post, firstComments);
     }
 }
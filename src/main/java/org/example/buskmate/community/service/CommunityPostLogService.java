@@ -1,40 +1,134 @@
 package org.example.buskmate.community.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
-import org.example.buskmate.community.domain.CommunityPost;
-import org.example.buskmate.community.domain.CommunityPostLog;
-import org.example.buskmate.community.repository.CommunityPostLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.community.dto.CommunityPostViewRecord;
+import org.example.buskmate.community.repository.CommunityPostViewJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 게시글 조회 로그 서비스
- * - 조회 로그를 기록하고, 해당 게시글의 조회수를 집계하여 반환한다.
+ * - 조회를 메모리에서 중복 제거/집계하고, 주기적으로 조회 로그와 조회수(view_count)에 배치로 반영한다.
+ * - 같은 사용자가 같은 게시글을 community.view.dedupe-window-ms 안에 다시 조회하면 조회수에 세지 않는다.
+ * - 응답 조회수 = 게시글의 view_count + 아직 반영되지 않은 증가분 이므로, 조회 시 조회 로그를 읽지 않는다.
+ * - 중복 제거 상태는 노드 로컬이며, 비정상 종료 시 마지막 플러시 이후의 조회는 유실될 수 있다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommunityPostLogService {
 
-    private final CommunityPostLogRepository communityPostLogRepo;
+    private final CommunityPostViewJdbcRepository viewJdbcRepository;
+
+    @Value("${community.view.dedupe-window-ms:1800000}")
+    private long dedupeWindowMs;
+
+    @Value("${community.view.max-tracked:100000}")
+    private int maxTracked;
+
+    /** (게시글, 조회자) → 마지막으로 조회수에 센 시각 */
+    private final Map<ViewKey, Long> recentViews = new ConcurrentHashMap<>();
+    /** 아직 DB에 반영하지 않은 조회 기록 */
+    private final Queue<CommunityPostViewRecord> pending = new ConcurrentLinkedQueue<>();
+    /** 게시글 ID → 아직 DB에 반영하지 않은 조회수 증가분 */
+    private final Map<Long, AtomicLong> pendingDeltas = new ConcurrentHashMap<>();
+
+    /**
+     * 조회를 기록하고 게시글의 현재 조회수를 반환한다.
+     * - DB 접근 없이 메모리에서만 처리한다.
+     * - storedViewCount는 호출자가 읽은 게시글의 view_count 값이다.
+     */
+    public Long recordAndGetViewCount(String viewerId, Long postId, long storedViewCount) {
+        long now = System.currentTimeMillis();
+
+        boolean[] counted = new boolean[1];
+        recentViews.compute(new ViewKey(postId, viewerId), (key, last) -> {
+            if (last != null && now - last < dedupeWindowMs) {
+                return last;
+            }
+            counted[0] = true;
+            return now;
+        });
+        if (counted[0]) {
+            // 증가분을 먼저 올려야, 그 사이 플러시가 기록을 반영하고 증가분을 빼도 음수가 되지 않는다.
+            pendingDeltas.computeIfAbsent(postId, k -> new AtomicLong()).incrementAndGet();
+            pending.add(new CommunityPostViewRecord(postId, viewerId, LocalDateTime.now()));
+        }
+
+        AtomicLong delta = pendingDeltas.get(postId);
+        return storedViewCount + (delta == null ? 0L : delta.get());
+    }
+
+    @Scheduled(fixedDelayString = "${community.view.flush-interval-ms:1000}")
+    void flush() {
+        evictExpired();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<CommunityPostViewRecord> batch = new ArrayList<>();
+        CommunityPostViewRecord view;
+        while ((view = pending.poll()) != null) {
+            batch.add(view);
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        for (CommunityPostViewRecord v : batch) {
+            deltas.merge(v.postId(), 1L, Long::sum);
+        }
+
+        try {
+            viewJdbcRepository.saveViews(batch, deltas);
+        } catch (RuntimeException e) {
+            log.warn("[COMMUNITY] view count flush failed - views={}", batch.size(), e);
+            // 다음 주기에 다시 시도한다. 증가분은 아직 빼지 않았으므로 응답 조회수는 그대로 유지된다.
+            pending.addAll(batch);
+            return;
+        }
+
+        // 반영된 만큼 미반영 증가분에서 뺀다.
+        deltas.forEach((postId, applied) -> pendingDeltas.computeIfPresent(postId, (k, delta) ->
+                delta.addAndGet(-applied) == 0 ? null : delta));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
 
     /**
-     * 조회 로그를 기록하고 게시글의 고유 조회자 기준 조회수를 반환한다.
+     * 중복 제거 창이 지난 항목을 정리한다.
+     * - 그래도 community.view.max-tracked를 넘으면 가장 오래 전에 센 항목부터 넘친 만큼만 지운다.
      */
-    @Transactional
-    public Long recordAndGetViewCount(String viewerId, CommunityPost post){
-
-        boolean viewedRecently = communityPostLogRepo
-                .findTop1ByCommunityPostIdAndViewerIdOrderByViewedAtDesc(post.getId(), viewerId)
-                .isPresent();
-
-        if(!viewedRecently) {
-            CommunityPostLog newLog = CommunityPostLog.builder()
-                    .communityPost(post)
-                    .viewerId(viewerId)
-                    .build();
-            communityPostLogRepo.save(newLog);
+    private void evictExpired() {
+        long cutoff = System.currentTimeMillis() - dedupeWindowMs;
+        recentViews.values().removeIf(last -> last <= cutoff);
+
+        int overflow = recentViews.size() - maxTracked;
+        if (overflow <= 0) {
+            return;
         }
+        log.warn("[COMMUNITY] view dedupe table overflow - size={}, evict={}", recentViews.size(), overflow);
+        recentViews.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .limit(overflow)
+                .toList()
+                // 정렬 후 다시 세어진 항목은 남긴다.
+                .forEach(e -> recentViews.remove(e.getKey(), e.getValue()));
+    }
 
-        return communityPostLogRepo.countByCommunityPostId(post.getId());
+    private record ViewKey(Long postId, String viewerId) {
     }
 }
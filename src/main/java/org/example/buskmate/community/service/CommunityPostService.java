@@ -1,6 +1,7 @@
 package org.example.buskmate.community.service;
 
 import org.example.buskmate.community.dto.post.crud.request.*;
+import org.example.buskmate.community.dto.post.crud.response.CommunityPostFeedResponse;
 import org.example.buskmate.community.dto.post.crud.response.CommunityPostReadAllPostResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +22,11 @@ public interface CommunityPostService {
      */
     Page<CommunityPostReadAllPostResponse> getAllPost(Pageable pageable, String authorId);
 
+    /**
+     * 활성 게시글 피드를 커서 기반으로 조회한다.
+     */
+    CommunityPostFeedResponse getFeed(String cursor, int size, boolean includeTotal);
+
     /**
      * 게시글을 수정한다.
      */
@@ -3,15 +3,20 @@ package org.example.buskmate.community.service;
 import lombok.RequiredArgsConstructor;
 import org.example.buskmate.community.domain.CommunityPost;
 import org.example.buskmate.community.domain.PostStatus;
+import org.example.buskmate.community.dto.CommunityCursor;
 import org.example.buskmate.community.dto.post.crud.request.*;
+import org.example.buskmate.community.dto.post.crud.response.CommunityPostFeedResponse;
 import org.example.buskmate.community.dto.post.crud.response.CommunityPostReadAllPostResponse;
 import org.example.buskmate.community.exception.UnauthorizedPostAccessException;
 import org.example.buskmate.community.repository.CommunityPostRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 게시글 서비스 구현체
  * - 게시글 생성/목록 조회/수정/삭제(소프트) 로직을 처리한다.
@@ -22,6 +27,10 @@ public class CommunityPostServiceImpl implements CommunityPostService {
 
     private final CommunityPostRepository communityPostRepo;
     private final CommunityPostDataHistoryService historyService;
+    private final CommunityPostCountCache postCountCache;
+    private final CommunityPostDetailCache detailCache;
+
+    private static final int MAX_FEED_SIZE = 100;
 
     /**
      * 게시글 엔티티를 생성하여 저장한다.
@@ -49,6 +58,31 @@ public class CommunityPostServiceImpl implements CommunityPostService {
         return communityPostRepo.findAllPostSummary(PostStatus.ACTIVE, pageable);
     }
 
+    /**
+     * 활성 게시글 피드를 커서 기반으로 조회한다.
+     * - size + 1건을 조회해 다음 페이지 존재 여부를 판단하고, 마지막 항목으로 다음 커서를 만든다.
+     * - OFFSET/count 쿼리가 없으므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회된다.
+     */
+    @Transactional(readOnly = true)
+    public CommunityPostFeedResponse getFeed(String cursor, int size, boolean includeTotal){
+        int pageSize = Math.clamp(size, 1, MAX_FEED_SIZE);
+        CommunityCursor after = CommunityCursor.decode(cursor);
+
+        List<CommunityPostReadAllPostResponse> rows = after == null
+                ? communityPostRepo.findFeedFirst(PostStatus.ACTIVE, Limit.of(pageSize + 1))
+                : communityPostRepo.findFeedAfter(PostStatus.ACTIVE, after.createdAt(), after.id(), Limit.of(pageSize + 1));
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            CommunityPostReadAllPostResponse last = rows.get(pageSize - 1);
+            nextCursor = new CommunityCursor(last.createdAt(), last.postId()).encode();
+        }
+
+        Long total = includeTotal ? postCountCache.activeCount() : null;
+        return new CommunityPostFeedResponse(rows, nextCursor, total);
+    }
+
     /**
      * 게시글 제목/본문을 수정한다. (작성자 검증 포함)
      */
@@ -64,6 +98,7 @@ public class CommunityPostServiceImpl implements CommunityPostService {
         historyService.saveHistory(post, post.getContent());
 
         post.updatePost(request.title(), request.content());
+        detailCache.evict(postId);
     }
 
     /**
@@ -79,5 +114,6 @@ public class CommunityPostServiceImpl implements CommunityPostService {
         }
 
         post.softDelete();
+        detailCache.evict(id);
     }
 }
@@ -9,17 +9,27 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.buskmate.auth.dto.UsersPrincipal;
 import org.example.buskmate.band.dto.CustomUser;
+import org.example.buskmate.messenger.chat.dto.ChatExportFormat;
+import org.example.buskmate.messenger.chat.dto.ChatMessageDirection;
 import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.chat.dto.ChatReadRequest;
+import org.example.buskmate.messenger.chat.dto.ChatRoomSyncResponse;
+import org.example.buskmate.messenger.chat.dto.ChatSyncRequest;
 import org.example.buskmate.messenger.chat.service.ChatUseCase;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Tag(
         name = "Chat Messages",
-        description = "채팅 메시지 조회"
+        description = "채팅 메시지 조회/읽음 처리"
 )
 @RestController
 @RequiredArgsConstructor
@@ -34,7 +44,10 @@ public class ChatMessageController {
 
             - Path: /api/chat/rooms/{roomId}/messages
             - roomId: 채팅방 식별자(외부 노출용)
-            - cursor: 커서(선택) — 페이징을 위한 기준 값 (정책에 따라 messageId 또는 내부 PK 등을 사용)
+            - cursor: 커서(선택) — 마지막으로 받은 메시지의 messageId(ULID). 인덱스 범위 조회 1회로 처리된다.
+            - direction: 조회 방향 (기본 BEFORE)
+              - BEFORE: cursor보다 과거 메시지 (최신 → 과거 순)
+              - AFTER: cursor보다 최신 메시지, 재연결 catch-up 용도 (과거 → 최신 순, cursor 필수)
             - size: 조회 개수 (기본 30)
 
             응답:
@@ -59,11 +72,200 @@ public class ChatMessageController {
     public ResponseEntity<List<ChatMessageResponse>> getMessages(
             @PathVariable String roomId,
             @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "BEFORE") ChatMessageDirection direction,
             @RequestParam(defaultValue = "30") int size,
             @AuthenticationPrincipal UsersPrincipal user
             ) {
 
-        return ResponseEntity.ok(chatUseCase.getMessages(roomId, user.getUserId(), cursor, size));
+        return ResponseEntity.ok(chatUseCase.getMessages(roomId, user.getUserId(), cursor, direction, size));
+    }
+
+    @Operation(
+            summary = "채팅방 메시지 순번 이후 조회 (재연결 catch-up)",
+            description = """
+            인증 필요.
+
+            - Path: /api/chat/rooms/{roomId}/messages/since
+            - seq: 마지막으로 받은 메시지의 seq (0이면 처음부터)
+            - size: 조회 개수 (기본 100, 최대 500)
+
+            응답:
+            - List<ChatMessageResponse> (seq 오름차순)
+
+            참고:
+            - seq는 방마다 빠짐없이 증가하므로, 응답 개수가 size보다 적으면 누락분을 모두 받은 것이다.
+            - 최근 메시지는 서버 메모리에서, 그 이전은 (room_id, seq) 범위 조회 1회로 응답한다.
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ChatMessageResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "요청 값 검증 실패", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "403", description = "권한 없음(채팅방 멤버 아님)", content = @Content),
+            @ApiResponse(responseCode = "404", description = "채팅방 없음", content = @Content)
+    })
+    @GetMapping("/{roomId}/messages/since")
+    public ResponseEntity<List<ChatMessageResponse>> getMessagesSince(
+            @PathVariable String roomId,
+            @RequestParam long seq,
+            @RequestParam(defaultValue = "100") int size,
+            @AuthenticationPrincipal UsersPrincipal user
+    ) {
+        return ResponseEntity.ok(chatUseCase.getMessagesSince(roomId, user.getUserId(), seq, size));
+    }
+
+    @Operation(
+            summary = "채팅방 메시지 검색",
+            description = """
+            인증 필요.
+
+            - Path: /api/chat/rooms/{roomId}/search
+            - q: 검색어 (두 글자 이상의 단어 포함, 최대 100자). 대소문자/전각·반각 구분 없이 부분 문자열로 일치한다.
+            - cursor: 커서(선택) — 이전 페이지 마지막 결과의 messageId(ULID)
+            - size: 조회 개수 (기본 20, 최대 100)
+
+            응답:
+            - List<ChatMessageResponse> (최신 → 과거 순, /messages 의 BEFORE 와 같은 커서 규칙)
+
+            참고:
+            - 참여 중인 채팅방만 검색할 수 있다.
+            - 서버 메모리의 역색인으로 후보를 찾으므로 메시지 전체를 훑지 않는다.
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "검색 성공",
+                    content = @Content(schema = @Schema(implementation = ChatMessageResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "요청 값 검증 실패", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "403", description = "권한 없음(채팅방 멤버 아님)", content = @Content),
+            @ApiResponse(responseCode = "404", description = "채팅방 없음", content = @Content)
+    })
+    @GetMapping("/{roomId}/search")
+    public ResponseEntity<List<ChatMessageResponse>> search(
+            @PathVariable String roomId,
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UsersPrincipal user
+    ) {
+        return ResponseEntity.ok(chatUseCase.search(roomId, user.getUserId(), query, cursor, size));
+    }
+
+    @Operation(
+            summary = "채팅방 대화 내보내기",
+            description = """
+            인증 필요. (OWNER 권한 필요)
+
+            - Path: /api/chat/rooms/{roomId}/export
+            - format: NDJSON(기본) | CSV
+            - after: 이어받기(선택) — 마지막으로 받은 메시지의 messageId(ULID). 그 다음 메시지부터 내려준다.
+
+            응답:
+            - NDJSON: 한 줄에 ChatMessageResponse JSON 하나 (application/x-ndjson)
+            - CSV: messageId,seq,senderId,createdAt,content 헤더 + 메시지당 1줄 (text/csv)
+            - 과거 → 최신 순, 보관된 메시지 포함
+
+            참고:
+            - 서버는 방 전체를 메모리에 올리지 않고 DB 커서로 읽으며 바로 내려보낸다.
+            - 전송이 끊기면 마지막으로 받은 줄의 messageId를 after로 넘겨 이어받는다.
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+            @ApiResponse(responseCode = "400", description = "요청 값 검증 실패", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "403", description = "권한 없음(OWNER 아님)", content = @Content),
+            @ApiResponse(responseCode = "404", description = "채팅방 없음", content = @Content)
+    })
+    @GetMapping("/{roomId}/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String roomId,
+            @RequestParam(defaultValue = "NDJSON") ChatExportFormat format,
+            @RequestParam(required = false) String after,
+            @AuthenticationPrincipal UsersPrincipal user
+    ) {
+        StreamingResponseBody body = chatUseCase.export(roomId, user.getUserId(), after, format);
+        boolean csv = format == ChatExportFormat.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("chat-" + roomId + (csv ? ".csv" : ".ndjson"))
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "참여 중인 채팅방 전체 동기화 (재연결 catch-up)",
+            description = """
+            인증 필요.
+
+            - Path: /api/chat/rooms/sync
+            - Body: ChatSyncRequest
+              - lastSeqByRoom: 방 식별자 → 마지막으로 받은 seq
+              - limitPerRoom: 방별 최대 메시지 수 (기본 50, 최대 200)
+
+            응답:
+            - List<ChatRoomSyncResponse> — 새 메시지가 있는 방만 포함 (messages는 seq 오름차순)
+
+            참고:
+            - 방마다 /messages 를 호출하는 대신 한 번의 호출로 모든 참여 방의 누락분을 받는다.
+            - lastSeqByRoom에 없는 참여 방은 최근 메시지를, 더 이상 참여하지 않는 방은 무시한다.
+            - hasMore가 true인 방은 /messages/since 로 이어서 조회한다.
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ChatRoomSyncResponse.class))
+            ),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    })
+    @PostMapping("/sync")
+    public ResponseEntity<List<ChatRoomSyncResponse>> sync(
+            @RequestBody ChatSyncRequest request,
+            @AuthenticationPrincipal UsersPrincipal user
+    ) {
+        return ResponseEntity.ok(chatUseCase.sync(user.getUserId(), request.lastSeqByRoom(), request.limitPerRoom()));
+    }
+
+    @Operation(
+            summary = "채팅방 메시지 읽음 처리",
+            description = """
+            인증 필요.
+
+            - Path: /api/chat/rooms/{roomId}/read
+            - Body: ChatReadRequest (messageId, seq) — 마지막으로 읽은 메시지
+            - STOMP로는 /chat/cmd/room/{roomId}/read 로 같은 Body를 전송할 수 있다.
+
+            참고:
+            - 읽음 상태는 서버에서 (방, 사용자) 단위로 합쳐진 뒤 주기적으로 반영된다.
+            - 이미 더 뒤의 메시지까지 읽은 경우 무시된다.
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 성공", content = @Content),
+            @ApiResponse(responseCode = "400", description = "요청 값 검증 실패", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "403", description = "권한 없음(채팅방 멤버 아님)", content = @Content),
+            @ApiResponse(responseCode = "404", description = "채팅방 없음", content = @Content)
+    })
+    @PostMapping("/{roomId}/read")
+    public ResponseEntity<Void> markRead(
+            @PathVariable String roomId,
+            @RequestBody ChatReadRequest request,
+            @AuthenticationPrincipal UsersPrincipal user
+    ) {
+        chatUseCase.markRead(roomId, user.getUserId(), request.messageId(), request.seq());
+        return ResponseEntity.ok().build();
     }
 
 }
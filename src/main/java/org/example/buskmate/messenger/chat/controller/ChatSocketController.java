@@ -1,12 +1,24 @@
 package org.example.buskmate.messenger.chat.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.chat.dto.ChatErrorResponse;
 import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.chat.dto.ChatReadRequest;
 import org.example.buskmate.messenger.chat.dto.ChatSendRequest;
+import org.example.buskmate.messenger.chat.service.ChatBroadcaster;
+import org.example.buskmate.messenger.chat.exception.ChatRateLimitExceededException;
+import org.example.buskmate.messenger.chat.service.ChatRoomSendExecutor;
+import org.example.buskmate.messenger.chat.service.ChatSendRateLimiter;
 import org.example.buskmate.messenger.chat.service.ChatUseCase;
+import org.example.buskmate.messenger.presence.service.ChatPresenceRegistry;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
@@ -16,16 +28,86 @@ import java.security.Principal;
 public class ChatSocketController {
 
     private final ChatUseCase chatUseCase;
+    private final ChatBroadcaster chatBroadcaster;
+    private final ChatRoomSendExecutor chatRoomSendExecutor;
+    private final ChatPresenceRegistry chatPresenceRegistry;
+    private final ChatSendRateLimiter chatSendRateLimiter;
     private final SimpMessagingTemplate messagingTemplate;
 
     @MessageMapping("/room/{roomId}/send")
     public void send(@DestinationVariable String roomId,
                      ChatSendRequest request,
-                     Principal principal) {
+                     Principal principal,
+                     @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
 
         String senderId = principal.getName();
-        ChatMessageResponse saved = chatUseCase.sendMessage(roomId, senderId, request.content());
+        // DB 쓰기/브로드캐스트 전에 사용자·방 단위 전송 속도를 제한한다.
+        chatSendRateLimiter.acquire(senderId, roomId);
+        // 메시지를 보냈으면 입력 중 상태는 끝난 것으로 본다.
+        chatPresenceRegistry.typing(roomId, senderId, false);
+
+        // 같은 방의 전송은 저장/브로드캐스트까지 순서대로, 다른 방은 병렬로 처리한다.
+        // 실행기에서 실패하면 @MessageExceptionHandler를 거치지 않으므로 보낸 세션의 에러 큐로 직접 알린다.
+        chatRoomSendExecutor.execute(roomId, () -> {
+            ChatMessageResponse saved;
+            try {
+                saved = chatUseCase.sendMessage(roomId, senderId, request.content());
+            } catch (RuntimeException e) {
+                sendError(senderId, sessionId, errorOf(roomId, e));
+                throw e;
+            }
+            // JSON 구독자와, 바이너리 구독자가 있는 경우 바이너리 구독자에게 전달한다.
+            chatBroadcaster.broadcastMessage(roomId, saved);
+        });
+    }
+
+    @MessageMapping("/room/{roomId}/read")
+    public void read(@DestinationVariable String roomId,
+                     ChatReadRequest request,
+                     Principal principal) {
+
+        chatUseCase.markRead(roomId, principal.getName(), request.messageId(), request.seq());
+    }
+
+    /**
+     * 속도 제한으로 거절된 전송을 보낸 세션에만 알린다.
+     */
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public ChatErrorResponse handleRateLimit(ChatRateLimitExceededException e) {
+        return new ChatErrorResponse("CHAT_RATE_LIMITED", e.getMessage(), e.getRoomId(), e.getRetryAfterMs());
+    }
+
+    /**
+     * 지금 처리할 수 없어 거절된 요청(전송 대기열 가득 참 등)을 보낸 세션에만 알린다.
+     */
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public ChatErrorResponse handleRejected(IllegalStateException e,
+                                            @DestinationVariable String roomId) {
+        return new ChatErrorResponse("CHAT_REJECTED", e.getMessage(), roomId, 0);
+    }
+
+    /**
+     * 요청을 보낸 세션의 {@code /user/queue/errors}로만 전달한다. (같은 사용자의 다른 세션 제외)
+     */
+    private void sendError(String userId, String sessionId, ChatErrorResponse error) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(userId, "/queue/errors", error, accessor.getMessageHeaders());
+    }
 
-        messagingTemplate.convertAndSend("/chat/room/" + roomId, saved);
+    /**
+     * 도메인 예외는 메시지를 그대로, 그 외(DB 오류 등)는 내부 정보 없이 알린다.
+     */
+    private static ChatErrorResponse errorOf(String roomId, RuntimeException e) {
+        if (e instanceof SecurityException) {
+            return new ChatErrorResponse("CHAT_FORBIDDEN", e.getMessage(), roomId, 0);
+        }
+        if (e instanceof IllegalArgumentException) {
+            return new ChatErrorResponse("CHAT_INVALID_REQUEST", e.getMessage(), roomId, 0);
+        }
+        return new ChatErrorResponse("CHAT_SEND_FAILED", "메시지 전송에 실패했습니다. 잠시 후 다시 시도해주세요.", roomId, 0);
     }
 }
@@ -16,14 +16,34 @@ public class ChatStompDocsController {
 
         [SUBSCRIBE]
         - /chat/room/{roomId}
+        - /chat/room/{roomId}/presence (접속/입력 중 상태)
+        - /user/queue/errors (내 요청의 실패 알림)
+        - /user/queue/rooms (내 채팅방 목록 갱신)
 
         [SEND]
         - /chat/cmd/room/{roomId}/send
         payload(JSON):
         { "content": "hello" }
+        - /chat/cmd/room/{roomId}/typing
+        payload(JSON):
+        { "typing": true }   // 입력하는 동안 몇 초마다, 멈추면 false
 
         [BROADCAST payload]
         ChatMessageResponse가 그대로 내려옵니다.
+        presence 구독에는 ChatPresenceResponse(roomId, onlineUserIds, typingUserIds) 스냅샷이
+        방마다 최대 1초에 한 번 내려옵니다.
+
+        [ROOM LIST]
+        참여 중인 방에 새 메시지가 오면 List<ChatRoomUpdateEvent>
+        (roomId, lastMessageAt, lastMessagePreview, lastMessageSeq, unreadCount)가 최대 0.5초에 한 번 내려옵니다.
+        같은 roomId 항목을 덮어쓰고 lastMessageAt 순으로 정렬하면 되며, 목록 API를 다시 호출할 필요가 없습니다.
+
+        [ERRORS]
+        전송 속도 제한(사용자/방 단위)에 걸린 send는 버려지고, 보낸 세션에만
+        ChatErrorResponse(code="CHAT_RATE_LIMITED", message, roomId, retryAfterMs)가 내려옵니다.
+
+        [HEARTBEAT]
+        CONNECT 시 heart-beat 헤더(예: 10000,10000)를 보내면 접속 상태가 유지됩니다.
         """
     )
     @GetMapping("/api/docs/chat-stomp")
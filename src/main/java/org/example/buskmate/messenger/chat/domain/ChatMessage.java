@@ -20,6 +20,16 @@ import java.time.LocalDateTime;
  *   <li>{@code messageId}: 외부 노출/클라이언트 식별용 문자열(예: ULID 26자)</li>
  * </ul>
  *
+ * <h2>커서</h2>
+ * <p>{@code messageId}(ULID)는 시간 순으로 정렬되므로, 히스토리 페이지네이션은
+ * {@code (room_id, message_id)} 인덱스 위의 키셋 범위 조회로 수행한다.</p>
+ *
+ * <h2>방 내 순번</h2>
+ * <p>{@code seq}는 방마다 1부터 빠짐없이 증가하는 메시지 순번이다. 안 읽은 메시지 수를
+ * {@code COUNT(*)} 없이 “방의 마지막 순번 − 멤버의 마지막 읽은 순번”으로 계산하고,
+ * 재연결한 클라이언트가 “마지막으로 받은 순번 이후”를 {@code (room_id, seq)} 범위 조회로 받아가기 위해 사용한다.
+ * (순번 이전에 저장된 메시지는 {@code null}이며, {@code ChatMessageSeqBackfiller}가 방마다 앞 구간부터 채운다)</p>
+ *
  * <h2>삭제 정책</h2>
  * <p>물리 삭제 대신 {@code deletedAt}을 설정하여 논리 삭제를 수행한다.
  * {@link #isActive()}로 활성 여부를 판단한다.</p>
@@ -28,8 +38,12 @@ import java.time.LocalDateTime;
 @Getter
 @Table(
         name = "chat_message",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_chat_message_room_id_seq", columnNames = {"room_id", "seq"})
+        },
         indexes = {
                 @Index(name = "idx_chat_message_room_id_id", columnList = "room_id, id"),
+                @Index(name = "idx_chat_message_room_id_message_id", columnList = "room_id, message_id"),
         }
 )
 @NoArgsConstructor
@@ -53,6 +67,10 @@ public class ChatMessage {
     @Column(name = "sender_id", nullable = false, length = 26)
     private String senderId;
 
+    // 방 내 순번
+    @Column(name = "seq")
+    private Long seq;
+
     // 텍스트 내용
     @Column(name = "content", columnDefinition = "text")
     private String content;
@@ -64,16 +82,21 @@ public class ChatMessage {
     private LocalDateTime createdAt;
 
 
-    public ChatMessage(String messageId, ChatRoom room, String senderId, String content) {
+    public ChatMessage(String messageId, ChatRoom room, long seq, String senderId, String content) {
         this.messageId = messageId;
         this.room = room;
+        this.seq = seq;
         this.senderId = senderId;
         this.content = content;
+        // write-behind 모드에서는 INSERT 이전에 브로드캐스트되므로 생성 시각을 즉시 확정한다.
+        this.createdAt = LocalDateTime.now();
     }
 
     @PrePersist
     void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
         this.deletedAt = null;
     }
 
@@ -0,0 +1,62 @@
+package org.example.buskmate.messenger.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+/**
+ * 보관(cold) 채팅 메시지 엔티티.
+ *
+ * <p>보관 기간이 지난 {@link ChatMessage}는 {@code ChatMessageArchiver}가 이 테이블로 옮긴다.
+ * 핫 테이블({@code chat_message})과 그 인덱스를 최근 메시지만큼만 유지해 버퍼 풀에 머물게 하기 위한 저장소이다.</p>
+ *
+ * <h2>핫 테이블과의 차이</h2>
+ * <ul>
+ *   <li>{@code id}: 원본 {@code chat_message.id}를 그대로 사용한다. (자동 생성 아님)</li>
+ *   <li>{@code roomPk}: 채팅방 PK 값만 보관한다. (연관관계/FK 없음)</li>
+ *   <li>{@code content}: 본문을 DEFLATE로 압축한 바이트로 보관한다.</li>
+ *   <li>논리 삭제된 메시지는 보관하지 않는다.</li>
+ * </ul>
+ *
+ * <p>읽기/쓰기는 {@code ChatMessageArchiveJdbcRepository}가 담당하며, 엔티티는 스키마 정의용이다.</p>
+ */
+@Entity
+@Getter
+@Table(
+        name = "chat_message_archive",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_chat_message_archive_room_id_seq", columnNames = {"room_id", "seq"})
+        },
+        indexes = {
+                @Index(name = "idx_chat_message_archive_room_id_message_id", columnList = "room_id, message_id"),
+        }
+)
+@NoArgsConstructor
+public class ChatMessageArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "message_id", nullable = false, length = 26, unique = true)
+    private String messageId;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomPk;
+
+    @Column(name = "seq")
+    private Long seq;
+
+    @Column(name = "sender_id", nullable = false, length = 26)
+    private String senderId;
+
+    // DEFLATE 압축된 본문
+    @Lob
+    @Column(name = "content")
+    private byte[] content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
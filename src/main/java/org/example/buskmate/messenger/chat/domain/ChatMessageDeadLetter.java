@@ -0,0 +1,61 @@
+package org.example.buskmate.messenger.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+/**
+ * 저장 실패 채팅 메시지(dead letter) 엔티티.
+ *
+ * <p>write-behind 배치 저장이 재시도 후에도 실패한 메시지를 버리지 않고 이 테이블에 남긴다.
+ * 운영자가 원인을 해소한 뒤 {@code chat_message}로 다시 옮길 수 있도록 원본 컬럼을 그대로 보관한다.</p>
+ *
+ * <ul>
+ *   <li>{@code roomPk}: 채팅방 PK 값만 보관한다. (연관관계/FK 없음)</li>
+ *   <li>{@code error}: 마지막 실패 원인 (최대 500자)</li>
+ * </ul>
+ *
+ * <p>쓰기는 {@code ChatMessageJdbcRepository}가 담당하며, 엔티티는 스키마 정의용이다.</p>
+ */
+@Entity
+@Getter
+@Table(
+        name = "chat_message_dead_letter",
+        indexes = {
+                @Index(name = "idx_chat_message_dead_letter_room_id_seq", columnList = "room_id, seq"),
+        }
+)
+@NoArgsConstructor
+public class ChatMessageDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "message_id", nullable = false, length = 26)
+    private String messageId;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomPk;
+
+    @Column(name = "seq")
+    private Long seq;
+
+    @Column(name = "sender_id", nullable = false, length = 26)
+    private String senderId;
+
+    @Column(name = "content", columnDefinition = "text")
+    private String content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "failed_at", nullable = false, updatable = false)
+    private LocalDateTime failedAt;
+
+    @Column(name = "error", length = 500)
+    private String error;
+}
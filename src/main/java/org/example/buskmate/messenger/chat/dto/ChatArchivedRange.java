@@ -0,0 +1,21 @@
+package org.example.buskmate.messenger.chat.dto;
+
+/**
+ * 채팅방 1개의 보관 테이블({@code chat_message_archive}) 범위.
+ *
+ * @param maxSeq       보관된 메시지의 마지막 순번 (순번이 있는 보관분이 없으면 0)
+ * @param maxMessageId 보관된 메시지의 가장 최신 메시지 식별자 (보관분이 없으면 null)
+ */
+public record ChatArchivedRange(
+        long maxSeq,
+        String maxMessageId
+) {
+    public static final ChatArchivedRange EMPTY = new ChatArchivedRange(0L, null);
+
+    /**
+     * @return 보관된 메시지가 한 건이라도 있으면 {@code true}
+     */
+    public boolean hasAny() {
+        return maxMessageId != null;
+    }
+}
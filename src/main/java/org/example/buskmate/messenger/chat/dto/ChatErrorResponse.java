@@ -0,0 +1,18 @@
+package org.example.buskmate.messenger.chat.dto;
+
+/**
+ * STOMP 요청 실패 응답 DTO. ({@code /user/queue/errors})
+ *
+ * <p>요청을 보낸 세션에만 전달된다.</p>
+ *
+ * @param code         에러 코드 (예: {@code CHAT_RATE_LIMITED})
+ * @param message      에러 메시지
+ * @param roomId       요청 대상 채팅방 식별자
+ * @param retryAfterMs 다시 시도해도 되는 최소 대기 시간(ms), 해당 없으면 0
+ */
+public record ChatErrorResponse(
+        String code,
+        String message,
+        String roomId,
+        long retryAfterMs
+) {}
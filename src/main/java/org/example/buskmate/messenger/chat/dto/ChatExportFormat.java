@@ -0,0 +1,14 @@
+package org.example.buskmate.messenger.chat.dto;
+
+/**
+ * 채팅 내보내기 형식.
+ *
+ * <ul>
+ *   <li>{@link #NDJSON}: 한 줄에 {@link ChatMessageResponse} JSON 하나 ({@code application/x-ndjson})</li>
+ *   <li>{@link #CSV}: 헤더 1줄 + 메시지당 1줄, RFC 4180 인용 규칙 ({@code text/csv})</li>
+ * </ul>
+ */
+public enum ChatExportFormat {
+    NDJSON,
+    CSV
+}
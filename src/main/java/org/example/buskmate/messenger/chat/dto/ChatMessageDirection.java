@@ -0,0 +1,14 @@
+package org.example.buskmate.messenger.chat.dto;
+
+/**
+ * 채팅 메시지 커서 조회 방향.
+ *
+ * <ul>
+ *   <li>{@link #BEFORE}: 커서보다 과거 메시지 (스크롤 업, 최신 → 과거 순 반환)</li>
+ *   <li>{@link #AFTER}: 커서보다 최신 메시지 (재연결 catch-up, 과거 → 최신 순 반환)</li>
+ * </ul>
+ */
+public enum ChatMessageDirection {
+    BEFORE,
+    AFTER
+}
@@ -17,6 +17,7 @@ import java.time.LocalDateTime;
  * <ul>
  *   <li>{@code roomId}: 메시지가 속한 채팅방 식별자(외부 노출용)</li>
  *   <li>{@code messageId}: 메시지 식별자(외부 노출용, 예: ULID 26자)</li>
+ *   <li>{@code seq}: 방 내 메시지 순번 (읽음 처리 요청 시 함께 전달, 순번 도입 이전 메시지는 null)</li>
  *   <li>{@code senderId}: 발신자 식별자</li>
  *   <li>{@code content}: 메시지 본문</li>
  *   <li>{@code createdAt}: 메시지 생성 시각</li>
@@ -26,6 +27,7 @@ import java.time.LocalDateTime;
  *
  * @param roomId 메시지가 속한 채팅방 식별자
  * @param messageId 메시지 식별자
+ * @param seq 방 내 메시지 순번
  * @param senderId 발신자 식별자
  * @param content 메시지 본문
  * @param createdAt 생성 시각
@@ -33,6 +35,7 @@ import java.time.LocalDateTime;
 public record ChatMessageResponse(
         String roomId,
         String messageId,
+        Long seq,
         String senderId,
         String content,
         LocalDateTime createdAt
@@ -0,0 +1,17 @@
+package org.example.buskmate.messenger.chat.dto;
+
+/**
+ * 채팅 메시지 읽음 처리 요청 DTO.
+ *
+ * <p>클라이언트가 채팅방에서 “어디까지 읽었는지”를 알릴 때 사용하는 입력 모델이다.
+ * 메시지 수신/조회 시 함께 전달된 {@code messageId}와 {@code seq}를 그대로 보낸다.</p>
+ *
+ * <h2>예시(JSON)</h2>
+ * <pre>{@code
+ * { "messageId": "01HZX3K6M7Q8R9S0T1V2W3X4Y5", "seq": 42 }
+ * }</pre>
+ *
+ * @param messageId 마지막으로 읽은 메시지 식별자(ULID)
+ * @param seq       마지막으로 읽은 메시지의 방 내 순번
+ */
+public record ChatReadRequest(String messageId, Long seq) { }
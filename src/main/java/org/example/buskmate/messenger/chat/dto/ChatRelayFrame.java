@@ -0,0 +1,69 @@
+package org.example.buskmate.messenger.chat.dto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 노드 간 브로드캐스트 릴레이 프레임.
+ *
+ * <p>한 번 직렬화된 STOMP 페이로드를 목적지/콘텐츠 타입과 함께 묶어 pub/sub 백본으로 전달한다.
+ * 여러 프레임은 {@link #encodeBatch(List)}로 하나의 pub/sub 메시지에 담긴다.</p>
+ *
+ * <h2>배치 바이너리 레이아웃</h2>
+ * <pre>
+ * int count
+ * (UTF destination, UTF contentType, int length, byte[length] payload) * count
+ * </pre>
+ *
+ * @param destination STOMP 목적지
+ * @param contentType 페이로드 콘텐츠 타입 (예: application/json)
+ * @param payload     직렬화된 페이로드
+ */
+public record ChatRelayFrame(
+        String destination,
+        String contentType,
+        byte[] payload
+) {
+
+    public static byte[] encodeBatch(List<ChatRelayFrame> frames) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(frames.size());
+            for (ChatRelayFrame frame : frames) {
+                out.writeUTF(frame.destination());
+                out.writeUTF(frame.contentType());
+                out.writeInt(frame.payload().length);
+                out.write(frame.payload());
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static List<ChatRelayFrame> decodeBatch(byte[] batch) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(batch));
+            int count = in.readInt();
+            List<ChatRelayFrame> frames = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String destination = in.readUTF();
+                String contentType = in.readUTF();
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                frames.add(new ChatRelayFrame(destination, contentType, payload));
+            }
+            return frames;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.buskmate.messenger.chat.dto;
+
+import java.util.List;
+
+/**
+ * 다중 채팅방 동기화(catch-up) 응답 DTO. (방 1개 단위)
+ *
+ * <h2>필드 의미</h2>
+ * <ul>
+ *   <li>{@code roomId}: 채팅방 식별자(외부 노출용)</li>
+ *   <li>{@code messages}: 새 메시지 목록 (순번 오름차순)</li>
+ *   <li>{@code hasMore}: 방별 제한을 넘는 메시지가 더 있으면 {@code true}
+ *       (이어서 {@code /messages/since}로 조회)</li>
+ * </ul>
+ *
+ * @param roomId   채팅방 식별자
+ * @param messages 새 메시지 목록
+ * @param hasMore  추가 메시지 존재 여부
+ */
+public record ChatRoomSyncResponse(
+        String roomId,
+        List<ChatMessageResponse> messages,
+        boolean hasMore
+) {}
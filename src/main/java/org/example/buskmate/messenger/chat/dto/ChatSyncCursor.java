@@ -0,0 +1,14 @@
+package org.example.buskmate.messenger.chat.dto;
+
+/**
+ * 다중 채팅방 동기화에서 방 1개의 조회 기준.
+ *
+ * @param roomPk   채팅방 내부 PK
+ * @param roomId   채팅방 식별자(외부 노출용, 응답 DTO 매핑용)
+ * @param afterSeq 기준 순번 (결과에 포함되지 않음)
+ */
+public record ChatSyncCursor(
+        Long roomPk,
+        String roomId,
+        long afterSeq
+) {}
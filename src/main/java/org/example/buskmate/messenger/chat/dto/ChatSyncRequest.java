@@ -0,0 +1,18 @@
+package org.example.buskmate.messenger.chat.dto;
+
+import java.util.Map;
+
+/**
+ * 다중 채팅방 동기화(catch-up) 요청 DTO.
+ *
+ * <p>재연결한 클라이언트가 방마다 “마지막으로 받은 메시지 순번”을 한 번에 보내, 누락된 메시지를 한 번의 호출로 받아간다.</p>
+ *
+ * <h2>예시(JSON)</h2>
+ * <pre>{@code
+ * { "lastSeqByRoom": { "01HZX...A": 42, "01HZX...B": 7 }, "limitPerRoom": 50 }
+ * }</pre>
+ *
+ * @param lastSeqByRoom 방 식별자 → 마지막으로 받은 순번 (맵에 없는 참여 방은 최근 메시지만 반환)
+ * @param limitPerRoom  방별 최대 메시지 수 (null이면 50)
+ */
+public record ChatSyncRequest(Map<String, Long> lastSeqByRoom, Integer limitPerRoom) { }
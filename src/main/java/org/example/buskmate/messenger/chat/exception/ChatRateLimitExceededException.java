@@ -0,0 +1,26 @@
+package org.example.buskmate.messenger.chat.exception;
+
+/**
+ * 채팅 메시지 전송이 속도 제한에 걸렸을 때 발생하는 예외.
+ *
+ * <p>STOMP 전송 경로에서 던져지며, 보낸 세션의 {@code /user/queue/errors}로 전달된다.</p>
+ */
+public class ChatRateLimitExceededException extends RuntimeException {
+
+    private final String roomId;
+    private final long retryAfterMs;
+
+    public ChatRateLimitExceededException(String message, String roomId, long retryAfterMs) {
+        super(message);
+        this.roomId = roomId;
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public long getRetryAfterMs() {
+        return retryAfterMs;
+    }
+}
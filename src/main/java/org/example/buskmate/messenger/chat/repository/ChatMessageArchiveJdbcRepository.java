@@ -0,0 +1,261 @@
+package org.example.buskmate.messenger.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.chat.domain.ChatMessageArchive;
+import org.example.buskmate.messenger.chat.dto.ChatArchivedRange;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link ChatMessageArchive} 전용 JDBC 리포지토리.
+ *
+ * <p>핫 테이블에서 보관 테이블로의 이동과, 보관 메시지 조회(본문 압축 해제 포함)를 담당한다.
+ * 조회 결과는 엔티티를 거치지 않고 바로 {@link ChatMessageResponse}로 매핑한다.</p>
+ *
+ * <h2>본문 인코딩</h2>
+ * <pre>
+ * [0x00][UTF-8 원문]        압축 이득이 없는 짧은 본문
+ * [0x01][DEFLATE(UTF-8)]    그 외
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageArchiveJdbcRepository {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+
+    /**
+     * 가장 오래된 행부터 PK 순으로 읽는다. {@code created_at} 조건을 WHERE에 두면 대상이 없을 때
+     * 테이블 전체를 훑게 되므로, PK 앞부분만 읽고 나이 판단은 애플리케이션에서 한다.
+     * 순번이 아직 없는 메시지는 {@code ChatMessageSeqBackfiller}가 순번을 채운 뒤에 옮긴다.
+     */
+    private static final String SELECT_OLDEST_SQL = """
+        select id, message_id, room_id, seq, sender_id, content, deleted_at, created_at
+          from chat_message
+         where seq is not null
+         order by id
+         limit ?
+           for update
+    """;
+
+    private static final String INSERT_SQL = """
+        insert into chat_message_archive (id, message_id, room_id, seq, sender_id, content, created_at)
+        values (?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private static final String SELECT_COLUMNS = "select message_id, seq, sender_id, content, created_at from chat_message_archive ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * {@code cutoff} 이전에 생성된 메시지를 최대 {@code limit}건 보관 테이블로 옮긴다.
+     *
+     * <p>보관 INSERT와 핫 테이블 DELETE는 한 트랜잭션으로 처리된다. 논리 삭제된 메시지는 보관하지 않고 지운다.</p>
+     *
+     * @param cutoff 보관 기준 시각 (이 시각 이전 생성분이 대상)
+     * @param limit  한 번에 옮길 최대 건수
+     * @return 핫 테이블에서 제거한 건수
+     */
+    @Transactional
+    public int moveOlderThan(LocalDateTime cutoff, int limit) {
+        List<Object[]> archived = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+
+        jdbcTemplate.query(SELECT_OLDEST_SQL, rs -> {
+            LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+            if (!createdAt.isBefore(cutoff)) {
+                return;
+            }
+            long id = rs.getLong("id");
+            ids.add(id);
+            if (rs.getTimestamp("deleted_at") == null) {
+                long seq = rs.getLong("seq");
+                Long nullableSeq = rs.wasNull() ? null : seq;
+                archived.add(new Object[]{
+                        id,
+                        rs.getString("message_id"),
+                        rs.getLong("room_id"),
+                        nullableSeq,
+                        rs.getString("sender_id"),
+                        encode(rs.getString("content")),
+                        Timestamp.valueOf(createdAt)
+                });
+            }
+        }, limit);
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (!archived.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, archived);
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.update("delete from chat_message where id in (" + placeholders + ")", ids.toArray());
+        return ids.size();
+    }
+
+    /**
+     * 보관 메시지 중 커서보다 과거의 메시지를 조회한다. (최신 → 과거 순)
+     *
+     * @param roomPk          채팅방 DB PK
+     * @param roomId          응답에 채울 채팅방 식별자
+     * @param cursorMessageId 커서 메시지 ID (null이면 보관분의 가장 최신부터)
+     * @param limit           최대 건수
+     */
+    public List<ChatMessageResponse> findBefore(Long roomPk, String roomId, String cursorMessageId, int limit) {
+        if (cursorMessageId == null) {
+            return jdbcTemplate.query(
+                    SELECT_COLUMNS + "where room_id = ? order by message_id desc limit ?",
+                    mapper(roomId), roomPk, limit);
+        }
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + "where room_id = ? and message_id < ? order by message_id desc limit ?",
+                mapper(roomId), roomPk, cursorMessageId, limit);
+    }
+
+    /**
+     * 보관 메시지 중 커서보다 최신의 메시지를 조회한다. (과거 → 최신 순)
+     */
+    public List<ChatMessageResponse> findAfter(Long roomPk, String roomId, String cursorMessageId, int limit) {
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + "where room_id = ? and message_id > ? order by message_id limit ?",
+                mapper(roomId), roomPk, cursorMessageId, limit);
+    }
+
+    /**
+     * 보관 메시지 중 지정한 순번 이후의 메시지를 조회한다. (순번 오름차순)
+     */
+    public List<ChatMessageResponse> findAfterSeq(Long roomPk, String roomId, long afterSeq, int limit) {
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + "where room_id = ? and seq > ? order by seq limit ?",
+                mapper(roomId), roomPk, afterSeq, limit);
+    }
+
+    /**
+     * 보관 메시지 중 지정한 순번들의 메시지를 조회한다. (순번 내림차순)
+     */
+    public List<ChatMessageResponse> findBySeqs(Long roomPk, String roomId, List<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return List.of();
+        }
+        List<Object> args = new ArrayList<>(seqs.size() + 1);
+        args.add(roomPk);
+        args.addAll(seqs);
+        String placeholders = String.join(",", Collections.nCopies(seqs.size(), "?"));
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + "where room_id = ? and seq in (" + placeholders + ") order by seq desc",
+                mapper(roomId), args.toArray());
+    }
+
+    /**
+     * 보관 메시지의 순번을 메시지 식별자로 조회한다.
+     *
+     * @return 순번 (없으면 {@code null})
+     */
+    public Long findSeqByMessageId(Long roomPk, String messageId) {
+        List<Long> seqs = jdbcTemplate.queryForList(
+                "select seq from chat_message_archive where room_id = ? and message_id = ?",
+                Long.class, roomPk, messageId);
+        return seqs.isEmpty() ? null : seqs.getFirst();
+    }
+
+    /**
+     * 보관된 메시지의 범위(마지막 순번, 가장 최신 메시지 식별자)를 조회한다.
+     *
+     * <p>{@code (room_id, seq)}, {@code (room_id, message_id)} 인덱스의 끝값만 읽는다.</p>
+     */
+    public ChatArchivedRange findArchivedRange(Long roomPk) {
+        return jdbcTemplate.queryForObject(
+                "select coalesce(max(seq), 0), max(message_id) from chat_message_archive where room_id = ?",
+                (rs, rowNum) -> rs.getString(2) == null
+                        ? ChatArchivedRange.EMPTY
+                        : new ChatArchivedRange(rs.getLong(1), rs.getString(2)),
+                roomPk);
+    }
+
+    private static RowMapper<ChatMessageResponse> mapper(String roomId) {
+        return (rs, rowNum) -> {
+            long seq = rs.getLong("seq");
+            return new ChatMessageResponse(
+                    roomId,
+                    rs.getString("message_id"),
+                    rs.wasNull() ? null : seq,
+                    rs.getString("sender_id"),
+                    decode(rs.getBytes("content")),
+                    rs.getTimestamp("created_at").toLocalDateTime()
+            );
+        };
+    }
+
+    private static byte[] encode(String content) {
+        if (content == null) {
+            return null;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length + 1);
+            out.write(DEFLATED);
+            byte[] buf = new byte[Math.max(64, raw.length)];
+            while (!deflater.finished()) {
+                out.write(buf, 0, deflater.deflate(buf));
+            }
+            if (out.size() < raw.length + 1) {
+                return out.toByteArray();
+            }
+        } finally {
+            deflater.end();
+        }
+
+        byte[] stored = new byte[raw.length + 1];
+        stored[0] = RAW;
+        System.arraycopy(raw, 0, stored, 1, raw.length);
+        return stored;
+    }
+
+    private static String decode(byte[] stored) {
+        if (stored == null || stored.length == 0) {
+            return null;
+        }
+        if (stored[0] == RAW) {
+            return new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+        }
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(stored, 1, stored.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length * 3);
+            byte[] buf = new byte[Math.max(256, stored.length * 2)];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buf);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("보관 메시지 본문이 손상되었습니다.");
+                }
+                out.write(buf, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("보관 메시지 본문이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package org.example.buskmate.messenger.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.chat.domain.ChatMessage;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.chat.dto.ChatSyncCursor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link ChatMessage} 대량 쓰기 전용 JDBC 리포지토리.
+ *
+ * <p>{@code ChatMessage.id}가 {@code GenerationType.IDENTITY}이므로 Hibernate는 INSERT를 JDBC 배치로 묶지 못한다.
+ * write-behind 모드에서는 이 리포지토리로 여러 메시지를 하나의 JDBC 배치로 저장한다.</p>
+ *
+ * <p>MySQL 드라이버에서 {@code rewriteBatchedStatements=true}가 설정되면
+ * 배치는 multi-row {@code INSERT ... VALUES (...), (...)} 한 문장으로 재작성된다.</p>
+ *
+ * <p>다중 방 동기화처럼 방마다 따로 조회하면 왕복이 N회가 되는 읽기도 이 리포지토리에서
+ * {@code UNION ALL} 한 문장으로 처리한다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    /**
+     * 재시도 중 이전 시도가 실제로는 커밋된 경우를 위해 중복 키는 무시한다.
+     * (무시된 행은 {@link #findExistingMessageIds(List)}로 확인한다)
+     */
+    private static final String INSERT_SQL = """
+        insert ignore into chat_message (message_id, room_id, seq, sender_id, content, created_at)
+        values (?, ?, ?, ?, ?, ?)
+    """;
+
+    private static final String INSERT_DEAD_LETTER_SQL = """
+        insert into chat_message_dead_letter (message_id, room_id, seq, sender_id, content, created_at, failed_at, error)
+        values (?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    /**
+     * 방별 {@code (room_id, seq)} 범위 조회. 방마다 LIMIT을 걸기 위해 괄호로 감싸 {@code UNION ALL}로 잇는다.
+     */
+    private static final String AFTER_SEQ_PART_SQL = """
+        (select room_id, message_id, seq, sender_id, content, created_at
+           from chat_message
+          where room_id = ? and seq > ? and deleted_at is null
+          order by seq
+          limit ?)
+    """;
+
+    /**
+     * 순번 없는(순번 도입 이전) 메시지가 남은 방. 방 PK 키셋으로 나눠 읽는다.
+     */
+    private static final String UNSEQUENCED_ROOMS_SQL = """
+        select room_id from (
+            select distinct room_id from chat_message where seq is null and room_id > ?
+            union
+            select distinct room_id from chat_message_archive where seq is null and room_id > ?
+        ) t
+         order by room_id
+         limit ?
+    """;
+
+    /**
+     * 기준 메시지보다 앞선(ULID가 작은) 메시지 중 최대 순번. 순번 없는 메시지는 항상 순번 있는 메시지보다 과거이므로,
+     * 이미 채워진 이전 메시지의 마지막 순번이 된다.
+     */
+    private static final String MAX_SEQ_BEFORE_SQL = """
+        select greatest(
+                   (select coalesce(max(seq), 0) from chat_message where room_id = ? and message_id < ?),
+                   (select coalesce(max(seq), 0) from chat_message_archive where room_id = ? and message_id < ?))
+    """;
+
+    /**
+     * 순번 구간 안에서 본문에 검색어가 포함된 메시지. (검색 색인이 아직 반영하지 못한 최근 구간용)
+     * {@code (room_id, seq)} 인덱스로 구간을 좁힌 뒤 본문을 대조한다.
+     */
+    private static final String SEARCH_BETWEEN_SEQS_SQL = """
+        select message_id, seq, sender_id, content, created_at
+          from chat_message
+         where room_id = ? and seq > ? and seq < ? and deleted_at is null
+           and content like concat('%', ?, '%') escape '!'
+         order by seq desc
+         limit ?
+    """;
+
+    /**
+     * 순번 없는 메시지가 남았는지 확인한다. {@code (room_id, seq)} 인덱스 앞부분만 읽는다.
+     */
+    private static final String HAS_UNSEQUENCED_SQL = """
+        select exists(select 1 from chat_message where room_id = ? and seq is null)
+            or exists(select 1 from chat_message_archive where room_id = ? and seq is null)
+    """;
+
+    /** 순번을 채우는 순서: 보관 테이블(더 과거) → 핫 테이블 */
+    private static final List<String> SEQ_BACKFILL_TABLES = List.of("chat_message_archive", "chat_message");
+
+    /** 한 문장에 묶을 최대 방 수 (SQL 길이/바인드 변수 수 제한) */
+    private static final int MAX_ROOMS_PER_STATEMENT = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지 목록을 하나의 JDBC 배치로 저장한다.
+     *
+     * <p>{@code room}은 지연 로딩 프록시여도 되며, 내부 PK만 사용한다.
+     * 이미 있는 키({@code message_id} 또는 {@code (room_id, seq)})와 충돌하는 행은 오류 없이 건너뛴다.</p>
+     *
+     * @param messages 저장할 메시지 목록
+     */
+    public void batchInsert(List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, m) -> {
+            ps.setString(1, m.getMessageId());
+            ps.setLong(2, m.getRoom().getId());
+            ps.setLong(3, m.getSeq());
+            ps.setString(4, m.getSenderId());
+            ps.setString(5, m.getContent());
+            ps.setTimestamp(6, Timestamp.valueOf(m.getCreatedAt()));
+        });
+    }
+
+    /**
+     * 주어진 메시지 식별자 중 {@code chat_message}에 저장되어 있는 식별자를 조회한다.
+     *
+     * @param messageIds 메시지 식별자 목록
+     * @return 저장된 메시지 식별자 집합
+     */
+    public Set<String> findExistingMessageIds(List<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return Set.of();
+        }
+        String sql = "select message_id from chat_message where message_id in ("
+                + String.join(",", Collections.nCopies(messageIds.size(), "?")) + ")";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, messageIds.toArray()));
+    }
+
+    /**
+     * 저장에 실패한 메시지를 {@code chat_message_dead_letter}에 남긴다.
+     *
+     * @param messages 저장 실패 메시지 목록
+     * @param error    실패 원인 (500자를 넘으면 잘라낸다)
+     */
+    public void insertDeadLetters(List<ChatMessage> messages, String error) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Timestamp failedAt = Timestamp.valueOf(LocalDateTime.now());
+        String reason = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+        jdbcTemplate.batchUpdate(INSERT_DEAD_LETTER_SQL, messages, messages.size(), (ps, m) -> {
+            ps.setString(1, m.getMessageId());
+            ps.setLong(2, m.getRoom().getId());
+            ps.setLong(3, m.getSeq());
+            ps.setString(4, m.getSenderId());
+            ps.setString(5, m.getContent());
+            ps.setTimestamp(6, Timestamp.valueOf(m.getCreatedAt()));
+            ps.setTimestamp(7, failedAt);
+            ps.setString(8, reason);
+        });
+    }
+
+    /**
+     * 여러 방의 “기준 순번 이후” 메시지를 방마다 최대 {@code limitPerRoom}건씩 조회한다.
+     *
+     * <p>방 {@value #MAX_ROOMS_PER_STATEMENT}개까지 하나의 {@code UNION ALL} 문장으로 조회하며,
+     * 각 부분 조회는 {@code (room_id, seq)} 유니크 인덱스 범위 조회이다.</p>
+     *
+     * @param cursors      방별 조회 기준
+     * @param limitPerRoom 방별 최대 메시지 수
+     * @return 방 PK → 메시지 목록(순번 오름차순). 새 메시지가 없는 방은 포함되지 않는다.
+     */
+    public Map<Long, List<ChatMessageResponse>> findAfterSeqByRooms(List<ChatSyncCursor> cursors, int limitPerRoom) {
+        Map<Long, List<ChatMessageResponse>> result = new HashMap<>();
+        for (int from = 0; from < cursors.size(); from += MAX_ROOMS_PER_STATEMENT) {
+            List<ChatSyncCursor> chunk = cursors.subList(from, Math.min(cursors.size(), from + MAX_ROOMS_PER_STATEMENT));
+
+            Map<Long, String> roomIds = new HashMap<>();
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (ChatSyncCursor cursor : chunk) {
+                roomIds.put(cursor.roomPk(), cursor.roomId());
+                args.add(cursor.roomPk());
+                args.add(cursor.afterSeq());
+                args.add(limitPerRoom);
+            }
+            String sql = String.join(" union all ", Collections.nCopies(chunk.size(), AFTER_SEQ_PART_SQL));
+
+            jdbcTemplate.query(sql, rs -> {
+                long roomPk = rs.getLong("room_id");
+                result.computeIfAbsent(roomPk, k -> new ArrayList<>()).add(new ChatMessageResponse(
+                        roomIds.get(roomPk),
+                        rs.getString("message_id"),
+                        rs.getLong("seq"),
+                        rs.getString("sender_id"),
+                        rs.getString("content"),
+                        rs.getTimestamp("created_at").toLocalDateTime()
+                ));
+            }, args.toArray());
+        }
+        // UNION ALL 결과 순서는 보장되지 않으므로 방별로 다시 정렬한다.
+        result.values().forEach(messages -> messages.sort(Comparator.comparing(ChatMessageResponse::seq)));
+        return result;
+    }
+
+    /**
+     * 순번 없는 메시지가 남은 방 PK를 오름차순으로 조회한다.
+     *
+     * @param afterRoomPk 이 PK보다 큰 방부터 (처음이면 0)
+     * @param limit       최대 방 수
+     */
+    public List<Long> findRoomsWithUnsequencedMessages(long afterRoomPk, int limit) {
+        return jdbcTemplate.queryForList(UNSEQUENCED_ROOMS_SQL, Long.class, afterRoomPk, afterRoomPk, limit);
+    }
+
+    /**
+     * 방의 순번 없는 메시지 최대 {@code limit}건에 {@code message_id} 순서대로 순번을 채운다.
+     *
+     * <p>보관 테이블의 메시지를 먼저 채우고, 남은 것이 없으면 핫 테이블을 채운다.
+     * 호출자는 방의 순번 카운터를 먼저 초기화(잠금)한 트랜잭션 안에서 호출해야 한다.</p>
+     *
+     * @param roomPk     채팅방 DB PK
+     * @param messageSeq 방의 순번 카운터 값 (채울 순번은 이 값을 넘을 수 없다)
+     * @param limit      한 번에 채울 최대 건수
+     * @return 순번을 채운 건수 (남은 메시지가 없으면 0)
+     * @throws IllegalStateException 채울 순번이 카운터를 넘어 새 메시지와 겹치는 경우
+     */
+    public int assignLegacySeqs(Long roomPk, long messageSeq, int limit) {
+        for (String table : SEQ_BACKFILL_TABLES) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "select id, message_id from " + table
+                            + " where room_id = ? and seq is null order by message_id limit ? for update",
+                    roomPk, limit);
+            if (rows.isEmpty()) {
+                continue;
+            }
+            String firstMessageId = (String) rows.getFirst().get("message_id");
+            Long maxSeqBefore = jdbcTemplate.queryForObject(
+                    MAX_SEQ_BEFORE_SQL, Long.class, roomPk, firstMessageId, roomPk, firstMessageId);
+            long next = (maxSeqBefore == null ? 0L : maxSeqBefore) + 1;
+            if (next + rows.size() - 1 > messageSeq) {
+                throw new IllegalStateException("이전 메시지 순번이 새 메시지 순번과 겹칩니다: roomPk=" + roomPk);
+            }
+            List<Object[]> args = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                args.add(new Object[]{next++, row.get("id")});
+            }
+            jdbcTemplate.batchUpdate("update " + table + " set seq = ? where id = ?", args);
+            return rows.size();
+        }
+        return 0;
+    }
+
+    /**
+     * 방의 마지막(순번이 가장 큰) 활성 메시지를 조회한다. (핫 테이블만)
+     *
+     * @param roomPk 채팅방 DB PK
+     * @param roomId 응답에 채울 채팅방 식별자
+     * @return 마지막 메시지 (순번 있는 활성 메시지가 없으면 empty)
+     */
+    public Optional<ChatMessageResponse> findLatest(Long roomPk, String roomId) {
+        return jdbcTemplate.query("""
+                select message_id, seq, sender_id, content, created_at
+                  from chat_message
+                 where room_id = ? and seq is not null and deleted_at is null
+                 order by seq desc
+                 limit 1
+                """, (rs, rowNum) -> new ChatMessageResponse(
+                        roomId,
+                        rs.getString("message_id"),
+                        rs.getLong("seq"),
+                        rs.getString("sender_id"),
+                        rs.getString("content"),
+                        rs.getTimestamp("created_at").toLocalDateTime()
+                ), roomPk).stream().findFirst();
+    }
+
+    /**
+     * 순번 구간 {@code (afterSeq, beforeSeq)}에서 본문에 검색어가 포함된 활성 메시지를 최신순으로 조회한다. (핫 테이블만)
+     *
+     * <p>비교는 DB 콜레이션을 따르므로, 호출자는 결과를 원문과 다시 대조해야 한다.</p>
+     *
+     * @param roomPk    채팅방 DB PK
+     * @param roomId    응답에 채울 채팅방 식별자
+     * @param keyword   검색어 (LIKE 특수문자는 이스케이프한다)
+     * @param afterSeq  하한 순번 (결과에 포함되지 않음)
+     * @param beforeSeq 상한 순번 (결과에 포함되지 않음)
+     * @param limit     최대 건수
+     * @return 메시지 목록 (순번 내림차순)
+     */
+    public List<ChatMessageResponse> searchBetweenSeqs(Long roomPk,
+                                                       String roomId,
+                                                       String keyword,
+                                                       long afterSeq,
+                                                       long beforeSeq,
+                                                       int limit) {
+        String escaped = keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return jdbcTemplate.query(SEARCH_BETWEEN_SEQS_SQL, (rs, rowNum) -> new ChatMessageResponse(
+                roomId,
+                rs.getString("message_id"),
+                rs.getLong("seq"),
+                rs.getString("sender_id"),
+                rs.getString("content"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ), roomPk, afterSeq, beforeSeq, escaped, limit);
+    }
+
+    /**
+     * 주어진 순번 중 삭제 표시된 메시지의 순번을 조회한다. (핫 테이블만)
+     *
+     * @param roomPk 채팅방 DB PK
+     * @param seqs   확인할 순번 목록
+     * @return 삭제된 메시지 순번
+     */
+    public List<Long> findDeletedSeqs(Long roomPk, List<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return List.of();
+        }
+        List<Object> args = new ArrayList<>(seqs.size() + 1);
+        args.add(roomPk);
+        args.addAll(seqs);
+        String placeholders = String.join(",", Collections.nCopies(seqs.size(), "?"));
+        return jdbcTemplate.queryForList(
+                "select seq from chat_message where room_id = ? and seq in (" + placeholders + ") and deleted_at is not null",
+                Long.class, args.toArray());
+    }
+
+    /**
+     * 방에 순번 없는(순번 도입 이전) 메시지가 남았는지 확인한다. (핫/보관 테이블)
+     *
+     * @param roomPk 채팅방 DB PK
+     */
+    public boolean hasUnsequencedMessages(Long roomPk) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_UNSEQUENCED_SQL, Boolean.class, roomPk, roomPk));
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.buskmate.messenger.chat.repository;
 
 import org.example.buskmate.messenger.chat.domain.ChatMessage;
+import org.example.buskmate.messenger.room.domain.ChatRoom;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -23,54 +24,103 @@ import java.util.Optional;
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
     /**
-     * 특정 채팅방(roomId)에서, 외부 노출용 메시지 식별자(messageId)에 대응하는
-     * “삭제되지 않은 메시지”의 내부 PK({@code ChatMessage.id})를 조회한다.
+     * 특정 채팅방에서 커서 메시지보다 과거의 메시지를 키셋({@code message_id}) 기반으로 조회한다.
      *
-     * <p>주로 클라이언트가 들고 있는 {@code messageId}를 커서 페이지네이션에 사용할 수 있도록
-     * 내부 PK로 변환하는 목적에 사용한다.</p>
+     * <p>{@code (room_id, message_id)} 인덱스 위의 범위 조회 1회로 처리되며,
+     * 커서 메시지를 내부 PK로 변환하는 별도 조회가 필요 없다.</p>
      *
-     * @param roomId    채팅방 식별자(외부 노출용)
-     * @param messageId 메시지 식별자(외부 노출용, 예: ULID)
-     * @return 존재하면 내부 PK를 {@link Optional}로 반환, 없으면 {@link Optional#empty()}
+     * <p>{@code cursorMessageId}가 {@code null}이면 최초 페이지로 간주하여 최신 메시지부터 조회한다.</p>
+     *
+     * @param room            채팅방 (참조 프록시 가능)
+     * @param cursorMessageId 커서 메시지 ID (null 가능, 결과에 포함되지 않음)
+     * @param pageable        조회 크기 제한용 Pageable
+     * @return 메시지 목록(최신 → 과거 순)
      */
     @Query("""
-        select m.id
+        select m
         from ChatMessage m
-        join m.room r
-        where r.roomId = :roomId
-          and m.messageId = :messageId
+        where m.room = :room
           and m.deletedAt is null
+          and (:cursorMessageId is null or m.messageId < :cursorMessageId)
+        order by m.messageId desc
     """)
-    Optional<Long> findActivePkByRoomIdAndMessageId(@Param("roomId") String roomId,
-                                                    @Param("messageId") String messageId);
+    List<ChatMessage> findBeforeCursor(@Param("room") ChatRoom room,
+                                       @Param("cursorMessageId") String cursorMessageId,
+                                       Pageable pageable);
 
     /**
-     * 특정 채팅방(roomId)의 최근 메시지를 내부 PK 기반 커서(cursorPk)로 조회한다.
+     * 특정 채팅방에서 커서 메시지보다 최신의 메시지를 키셋({@code message_id}) 기반으로 조회한다.
      *
-     * <p>정렬은 {@code m.id desc}이며, 커서가 주어지면 {@code m.id < cursorPk} 조건으로
-     * 더 “이전” 메시지(더 작은 id)를 조회한다.</p>
+     * <p>재연결 시 “마지막으로 받은 메시지 이후” catch-up 용도로 사용한다.</p>
      *
-     * <p>{@code cursorPk}가 {@code null}이면 최초 페이지로 간주하여 최신 메시지부터 조회한다.</p>
+     * @param room            채팅방 (참조 프록시 가능)
+     * @param cursorMessageId 커서 메시지 ID (결과에 포함되지 않음)
+     * @param pageable        조회 크기 제한용 Pageable
+     * @return 메시지 목록(과거 → 최신 순)
+     */
+    @Query("""
+        select m
+        from ChatMessage m
+        where m.room = :room
+          and m.deletedAt is null
+          and m.messageId > :cursorMessageId
+        order by m.messageId asc
+    """)
+    List<ChatMessage> findAfterCursor(@Param("room") ChatRoom room,
+                                      @Param("cursorMessageId") String cursorMessageId,
+                                      Pageable pageable);
+
+    /**
+     * 특정 채팅방에서 지정한 순번 이후의 메시지를 순번 오름차순으로 조회한다.
      *
-     * <p>{@link Pageable}은 페이지 크기 제한을 위해 사용되며,
-     * 정렬은 쿼리의 {@code order by m.id desc}가 기준이 된다.</p>
+     * <p>{@code (room_id, seq)} 유니크 인덱스 위의 범위 조회 1회로 처리된다.</p>
      *
-     * @param roomId    채팅방 식별자(외부 노출용)
-     * @param cursorPk  내부 PK 커서 (null 가능)
-     * @param pageable  조회 크기 제한용 Pageable
-     * @return 메시지 목록(최신 → 과거 순)
+     * @param room     채팅방 (참조 프록시 가능)
+     * @param afterSeq 기준 순번 (결과에 포함되지 않음)
+     * @param pageable 조회 크기 제한용 Pageable
+     * @return 메시지 목록(순번 오름차순)
      */
     @Query("""
         select m
         from ChatMessage m
-        join m.room r
-        where r.roomId = :roomId
+        where m.room = :room
+          and m.seq > :afterSeq
           and m.deletedAt is null
-          and (:cursorPk is null or m.id < :cursorPk)
-        order by m.id desc
+        order by m.seq asc
     """)
-    List<ChatMessage> findRecentByRoomIdWithCursorPk(@Param("roomId") String roomId,
-                                                     @Param("cursorPk") Long cursorPk,
-                                                     Pageable pageable);
+    List<ChatMessage> findAfterSeq(@Param("room") ChatRoom room,
+                                   @Param("afterSeq") long afterSeq,
+                                   Pageable pageable);
 
+    /**
+     * 특정 채팅방에서 지정한 순번들의 메시지를 조회한다. ({@code (room_id, seq)} 유니크 인덱스 점 조회)
+     *
+     * @param room 채팅방 (참조 프록시 가능)
+     * @param seqs 순번 목록
+     * @return 메시지 목록(순번 내림차순)
+     */
+    @Query("""
+        select m
+        from ChatMessage m
+        where m.room = :room
+          and m.seq in :seqs
+          and m.deletedAt is null
+        order by m.seq desc
+    """)
+    List<ChatMessage> findBySeqs(@Param("room") ChatRoom room, @Param("seqs") List<Long> seqs);
+
+    /**
+     * 특정 채팅방에서 메시지 식별자의 순번을 조회한다.
+     *
+     * @param room      채팅방 (참조 프록시 가능)
+     * @param messageId 메시지 식별자
+     * @return 순번
+     */
+    @Query("""
+        select m.seq
+        from ChatMessage m
+        where m.room = :room
+          and m.messageId = :messageId
+    """)
+    Optional<Long> findSeqByMessageId(@Param("room") ChatRoom room, @Param("messageId") String messageId);
 }
@@ -0,0 +1,66 @@
+package org.example.buskmate.messenger.chat.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 바이너리 코덱 구독({@code /chat/room/{roomId}/bin}) 현황. (노드 로컬)
+ *
+ * <p>{@code ChatCodecNegotiationInterceptor}가 SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 프레임으로 갱신하며,
+ * 브로드캐스터는 현재 노드에 바이너리 구독자가 있는 목적지에만 바이너리 프레임을 인코딩/전송한다.</p>
+ *
+ * <p>구독자는 각자 연결된 노드의 simple broker에서 메시지를 받으므로 노드 로컬 집계로 충분하다.
+ * ({@code chat.broker.mode=redis}에서는 수신 노드가 이 레지스트리를 보고 직접 인코딩한다)</p>
+ */
+@Component
+public class ChatBinarySubscriptionRegistry {
+
+    /** sessionId → subscriptionId → 바이너리 목적지 */
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    /** 바이너리 목적지 → 구독 수 */
+    private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        String previous = sessions.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (previous != null) {
+            decrement(previous);
+        }
+        counts.merge(destination, 1, Integer::sum);
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = sessionId == null ? null : sessions.get(sessionId);
+        if (subscriptions == null || subscriptionId == null) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            decrement(destination);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        Map<String, String> subscriptions = sessionId == null ? null : sessions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    /**
+     * @param binaryDestination 바이너리 목적지 (예: {@code /chat/room/{roomId}/bin})
+     * @return 현재 노드에 구독자가 한 명이라도 있으면 {@code true}
+     */
+    public boolean hasSubscribers(String binaryDestination) {
+        return counts.containsKey(binaryDestination);
+    }
+
+    private void decrement(String destination) {
+        counts.computeIfPresent(destination, (k, count) -> count > 1 ? count - 1 : null);
+    }
+}
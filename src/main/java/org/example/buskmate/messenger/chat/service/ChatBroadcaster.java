@@ -0,0 +1,36 @@
+package org.example.buskmate.messenger.chat.service;
+
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+
+/**
+ * 채팅 브로드캐스트(fan-out) 포트.
+ *
+ * <p>STOMP 구독자에게 메시지를 전달하는 방식을 추상화한다.
+ * {@code chat.broker.mode} 설정에 따라 구현체가 선택된다.</p>
+ *
+ * <ul>
+ *   <li>{@code simple}(기본): {@link SimpleChatBroadcaster} — 현재 노드의 simple broker로 바로 전달</li>
+ *   <li>{@code redis}: {@link RedisChatBroadcaster} — Redis pub/sub을 거쳐 모든 노드의 구독자에게 전달</li>
+ * </ul>
+ */
+public interface ChatBroadcaster {
+
+    /**
+     * 목적지(destination) 구독자에게 페이로드를 전달한다.
+     *
+     * @param destination STOMP 목적지 (예: {@code /chat/room/{roomId}})
+     * @param payload     전달할 페이로드 (메시지 컨버터로 직렬화된다)
+     */
+    void broadcast(String destination, Object payload);
+
+    /**
+     * 채팅 메시지를 방 구독자에게 전달한다.
+     *
+     * <p>JSON 목적지({@code /chat/room/{roomId}})로 보내고, 바이너리 코덱을 협상한 구독자
+     * ({@code /chat/room/{roomId}/bin})가 있는 노드에서만 {@link ChatMessageBinaryCodec}으로 한 번 인코딩해 함께 보낸다.</p>
+     *
+     * @param roomId  채팅방 식별자
+     * @param message 전달할 메시지
+     */
+    void broadcastMessage(String roomId, ChatMessageResponse message);
+}
@@ -0,0 +1,131 @@
+package org.example.buskmate.messenger.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.chat.dto.ChatArchivedRange;
+import org.example.buskmate.messenger.chat.repository.ChatMessageArchiveJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 메시지 보관(hot → cold) 작업.
+ *
+ * <p>생성된 지 {@code chat.archive.max-age-days}가 지난 메시지를 {@code chat_message}에서
+ * {@code chat_message_archive}로 옮겨, 핫 테이블과 {@code idx_chat_message_room_id_id} 인덱스를
+ * 최근 메시지만큼의 크기로 유지한다.</p>
+ *
+ * <ul>
+ *   <li>기본값은 비활성({@code chat.archive.enabled=false})이며, 운영에서 명시적으로 켠다.</li>
+ *   <li>실행 주기: {@code chat.archive.interval-ms} (기본 60초)</li>
+ *   <li>한 번의 트랜잭션에서 최대 {@code chat.archive.batch-size}건을 옮기고,
+ *       한 주기에 최대 {@code chat.archive.max-batches-per-run}번 반복한다. (긴 락/트랜잭션 방지)</li>
+ * </ul>
+ *
+ * <p>조회 쪽({@link ChatServiceImpl})은 {@link #mayBeArchived(Instant)}와 {@link #archivedRange(Long)}로
+ * 보관분 조회가 필요한지 판단한다. 방별 보관 범위는 노드 로컬로 캐시하며,
+ * 다른 노드의 보관 작업을 반영하도록 {@code chat.archive.interval-ms}마다 다시 읽는다.</p>
+ *
+ * <p><b>주의:</b> 여러 노드에서 동시에 실행되면 행 잠금으로 직렬화되며, 충돌한 배치는 롤백 후 다음 주기에 다시 시도한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchiver {
+
+    private final ChatMessageArchiveJdbcRepository archiveRepository;
+
+    @Value("${chat.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.archive.interval-ms:60000}")
+    private long intervalMs;
+
+    @Value("${chat.archive.max-age-days:30}")
+    private int maxAgeDays;
+
+    @Value("${chat.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${chat.archive.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    /** 방 PK → 캐시된 보관 범위 */
+    private final Map<Long, CachedRange> ranges = new ConcurrentHashMap<>();
+
+    /**
+     * 해당 시각에 생성된 메시지가 이미 보관 테이블로 옮겨졌을 수 있는지 판단한다.
+     *
+     * @param createdAt 메시지 생성 시각 (ULID 시각 등)
+     * @return 보관 기준 시각보다 이전이면 {@code true}
+     */
+    public boolean mayBeArchived(Instant createdAt) {
+        return createdAt.isBefore(Instant.now().minus(Duration.ofDays(maxAgeDays)));
+    }
+
+    /**
+     * 채팅방의 보관 범위를 조회한다. (노드 로컬 캐시, {@code chat.archive.interval-ms} 동안 유효)
+     *
+     * @param roomPk 채팅방 DB PK
+     * @return 보관 범위 (보관분이 없으면 {@link ChatArchivedRange#EMPTY})
+     */
+    public ChatArchivedRange archivedRange(Long roomPk) {
+        long now = System.currentTimeMillis();
+        CachedRange cached = ranges.get(roomPk);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.range();
+        }
+        return reloadArchivedRange(roomPk);
+    }
+
+    /**
+     * 캐시를 무시하고 보관 범위를 다시 읽는다.
+     *
+     * <p>핫 테이블 결과에서 캐시된 범위로 설명되지 않는 순번 구멍이 보이면,
+     * 그 사이 다른 노드가 보관을 진행한 것이므로 호출자가 이 메서드로 갱신한다.</p>
+     */
+    public ChatArchivedRange reloadArchivedRange(Long roomPk) {
+        ChatArchivedRange range = archiveRepository.findArchivedRange(roomPk);
+        ranges.put(roomPk, new CachedRange(range, System.currentTimeMillis() + intervalMs));
+        return range;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.archive.interval-ms:60000}")
+    void archive() {
+        long now = System.currentTimeMillis();
+        ranges.values().removeIf(cached -> cached.expiresAt() <= now);
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+        int total = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int moved = archiveRepository.moveOlderThan(cutoff, batchSize);
+                total += moved;
+                if (moved < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            if (total > 0) {
+                ranges.clear();
+            }
+            log.warn("[CHAT] message archive failed - moved={}", total, e);
+            return;
+        }
+        if (total > 0) {
+            ranges.clear();
+            log.info("[CHAT] archived messages - moved={}, cutoff={}", total, cutoff);
+        }
+    }
+
+    private record CachedRange(ChatArchivedRange range, long expiresAt) {
+    }
+}
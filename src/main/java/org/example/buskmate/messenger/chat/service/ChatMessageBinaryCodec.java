@@ -0,0 +1,140 @@
+package org.example.buskmate.messenger.chat.service;
+
+import com.github.f4b6a3.ulid.Ulid;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * {@link ChatMessageResponse} 전용 바이너리 코덱.
+ *
+ * <p>JSON 프레임은 매 메시지마다 필드 이름과 ISO-8601 시각 문자열을 반복한다.
+ * 이 코덱은 필드 순서를 고정하고 숫자는 가변 길이(varint)로, ULID는 16바이트 원형으로 기록한다.</p>
+ *
+ * <h2>레이아웃 (version 1)</h2>
+ * <pre>
+ * [version:1]
+ * [messageId: ULID 16 bytes]
+ * [seq: varint (null이면 0)]
+ * [createdAt: varint epoch millis (LocalDateTime을 UTC로 간주)]
+ * [roomId: varint 길이 + UTF-8]
+ * [senderId: varint 길이 + UTF-8]
+ * [content: varint 길이 + UTF-8]
+ * </pre>
+ *
+ * <p><b>주의:</b> {@code createdAt}은 밀리초 단위로 잘린다.</p>
+ */
+public final class ChatMessageBinaryCodec {
+
+    /** 세션 협상용 STOMP {@code content-type} 값 (CONNECT/SUBSCRIBE 헤더) */
+    public static final MimeType MIME_TYPE = MimeType.valueOf("application/vnd.buskmate.chat+binary");
+
+    /**
+     * MESSAGE 프레임의 {@code content-type}.
+     * STOMP 핸들러는 {@code application/octet-stream}일 때만 WebSocket 바이너리 프레임으로 전송하므로
+     * 텍스트 프레임(UTF-8 디코딩)으로 페이로드가 깨지지 않도록 이 값을 사용한다.
+     */
+    public static final MimeType FRAME_CONTENT_TYPE = MimeTypeUtils.APPLICATION_OCTET_STREAM;
+
+    private static final byte VERSION = 1;
+    private static final int ULID_BYTES = 16;
+
+    private ChatMessageBinaryCodec() {
+    }
+
+    public static byte[] encode(ChatMessageResponse message) {
+        byte[] roomId = message.roomId().getBytes(StandardCharsets.UTF_8);
+        byte[] senderId = message.senderId().getBytes(StandardCharsets.UTF_8);
+        byte[] content = message.content().getBytes(StandardCharsets.UTF_8);
+        long seq = message.seq() == null ? 0L : message.seq();
+        long createdAt = message.createdAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        int size = 1 + ULID_BYTES
+                + varLength(seq)
+                + varLength(createdAt)
+                + varLength(roomId.length) + roomId.length
+                + varLength(senderId.length) + senderId.length
+                + varLength(content.length) + content.length;
+
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.put(VERSION);
+        out.put(Ulid.from(message.messageId()).toBytes());
+        putVar(out, seq);
+        putVar(out, createdAt);
+        putBytes(out, roomId);
+        putBytes(out, senderId);
+        putBytes(out, content);
+        return out.array();
+    }
+
+    public static ChatMessageResponse decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 메시지 코덱 버전입니다: " + version);
+        }
+        byte[] ulid = new byte[ULID_BYTES];
+        in.get(ulid);
+        long seq = getVar(in);
+        long createdAt = getVar(in);
+        String roomId = getString(in);
+        String senderId = getString(in);
+        String content = getString(in);
+
+        return new ChatMessageResponse(
+                roomId,
+                Ulid.from(ulid).toString(),
+                seq == 0L ? null : seq,
+                senderId,
+                content,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt), ZoneOffset.UTC)
+        );
+    }
+
+    private static int varLength(long value) {
+        int length = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            length++;
+        }
+        return length;
+    }
+
+    private static void putVar(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long getVar(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("varint 형식이 올바르지 않습니다.");
+    }
+
+    private static void putBytes(ByteBuffer out, byte[] bytes) {
+        putVar(out, bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = (int) getVar(in);
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+}
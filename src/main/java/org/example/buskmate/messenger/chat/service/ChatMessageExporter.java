@@ -0,0 +1,179 @@
+package org.example.buskmate.messenger.chat.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.buskmate.messenger.chat.domain.ChatMessage;
+import org.example.buskmate.messenger.chat.dto.ChatExportFormat;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.chat.repository.ChatMessageArchiveJdbcRepository;
+import org.example.buskmate.messenger.chat.repository.ChatMessageRepository;
+import org.example.buskmate.messenger.room.domain.ChatRoom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅방 전체 대화 내보내기.
+ *
+ * <p>메시지 식별자(ULID) 키셋으로 {@code chat.export.batch-size}건씩 끊어 읽고, 배치마다 짧은 읽기 전용 트랜잭션을 연다.
+ * 메모리에는 한 배치와 출력 버퍼만 올라가고, 긴 트랜잭션이나 서버 커서로 커넥션/undo 로그를 오래 붙잡지 않는다.</p>
+ *
+ * <ul>
+ *   <li>순서: 메시지 식별자 오름차순.</li>
+ *   <li>일관성: 배치마다 보관 테이블({@code chat_message_archive})과 핫 테이블({@code chat_message})을 같은 트랜잭션에서
+ *       커서 이후로 읽어 식별자 순으로 합친다. 행은 한 시점에 두 테이블 중 한 곳에만 있고, 다음 배치는 마지막으로 쓴 식별자
+ *       이후만 읽으므로 배치 사이에 {@link ChatMessageArchiver}가 행을 옮겨도 누락/중복이 생기지 않는다.</li>
+ *   <li>이어받기: 마지막으로 받은 메시지 식별자를 넘기면 그 다음 메시지부터 쓴다.</li>
+ *   <li>NDJSON은 Jackson {@link JsonGenerator}로 한 줄에 한 메시지씩 쓴다.</li>
+ * </ul>
+ */
+@Component
+public class ChatMessageExporter {
+
+    private static final String CSV_HEADER = "messageId,seq,senderId,createdAt,content";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveJdbcRepository archiveRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${chat.export.batch-size:500}")
+    private int batchSize;
+
+    public ChatMessageExporter(ChatMessageRepository chatMessageRepository,
+                               ChatMessageArchiveJdbcRepository archiveRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.archiveRepository = archiveRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 채팅방 메시지를 지정한 형식으로 출력 스트림에 쓴다.
+     *
+     * @param room           채팅방 (DB PK가 있는 엔티티 또는 참조)
+     * @param roomId         채팅방 식별자(외부 노출용)
+     * @param afterMessageId 이어받기 기준 메시지 식별자 (null이면 처음부터)
+     * @param format         출력 형식
+     * @param out            출력 스트림 (닫지 않는다)
+     * @throws IOException 출력 중 오류(클라이언트 연결 끊김 등)
+     */
+    public void export(ChatRoom room, String roomId, String afterMessageId, ChatExportFormat format, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        JsonGenerator json = null;
+        if (format == ChatExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        } else {
+            json = objectMapper.getFactory().createGenerator(writer);
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            json.setRootValueSeparator(null);
+        }
+
+        // ULID는 빈 문자열보다 항상 크다.
+        String cursor = afterMessageId == null ? "" : afterMessageId;
+        while (true) {
+            List<ChatMessageResponse> batch = nextBatch(room, roomId, cursor);
+            for (ChatMessageResponse message : batch) {
+                if (json != null) {
+                    writeJson(json, message);
+                } else {
+                    writeCsv(writer, message);
+                    writer.write('\n');
+                }
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+            cursor = batch.getLast().messageId();
+        }
+        if (json != null) {
+            json.close();
+        }
+        writer.flush();
+    }
+
+    /**
+     * 커서 이후 메시지를 두 테이블에서 최대 {@code batchSize}건씩 읽어 식별자 순으로 합친다.
+     */
+    private List<ChatMessageResponse> nextBatch(ChatRoom room, String roomId, String cursor) {
+        return transactionTemplate.execute(status -> {
+            List<ChatMessageResponse> archived = archiveRepository.findAfter(room.getId(), roomId, cursor, batchSize);
+            List<ChatMessage> hot = chatMessageRepository.findAfterCursor(room, cursor, PageRequest.of(0, batchSize));
+
+            List<ChatMessageResponse> merged = new ArrayList<>(batchSize);
+            int a = 0;
+            int h = 0;
+            while (merged.size() < batchSize && (a < archived.size() || h < hot.size())) {
+                if (h >= hot.size()
+                        || (a < archived.size() && archived.get(a).messageId().compareTo(hot.get(h).getMessageId()) < 0)) {
+                    merged.add(archived.get(a++));
+                } else {
+                    ChatMessage m = hot.get(h++);
+                    merged.add(new ChatMessageResponse(
+                            roomId, m.getMessageId(), m.getSeq(), m.getSenderId(), m.getContent(), m.getCreatedAt()));
+                }
+            }
+            return merged;
+        });
+    }
+
+    private static void writeJson(JsonGenerator json, ChatMessageResponse m) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("roomId", m.roomId());
+        json.writeStringField("messageId", m.messageId());
+        if (m.seq() == null) {
+            json.writeNullField("seq");
+        } else {
+            json.writeNumberField("seq", m.seq());
+        }
+        json.writeStringField("senderId", m.senderId());
+        json.writeStringField("content", m.content());
+        json.writeStringField("createdAt", m.createdAt() == null ? null : m.createdAt().toString());
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static void writeCsv(Writer w, ChatMessageResponse m) throws IOException {
+        csvField(w, m.messageId());
+        w.write(',');
+        csvField(w, m.seq() == null ? null : m.seq().toString());
+        w.write(',');
+        csvField(w, m.senderId());
+        w.write(',');
+        csvField(w, m.createdAt() == null ? null : m.createdAt().toString());
+        w.write(',');
+        csvField(w, m.content());
+    }
+
+    private static void csvField(Writer w, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            w.write(value);
+            return;
+        }
+        w.write('"');
+        w.write(value.replace("\"", "\"\""));
+        w.write('"');
+    }
+}
@@ -0,0 +1,793 @@
+package org.example.buskmate.messenger.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.support.AfterCommit;
+import org.example.buskmate.messenger.support.ChatClusterEvent;
+import org.example.buskmate.messenger.support.ChatClusterEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongFunction;
+
+/**
+ * 채팅방 단위 인메모리 역색인(bigram)과 로컬 디스크 스냅샷/로그.
+ *
+ * <p>{@code LIKE '%검색어%'}는 인덱스를 쓸 수 없어 방의 메시지를 전부 훑는다. 이 색인은 본문을
+ * 정규화(NFKC, 소문자)한 뒤 연속한 두 글자(bigram)마다 메시지 순번({@code seq}) 목록을 보관하고,
+ * 검색어의 모든 bigram을 포함하는 순번만 후보로 돌려준다. 후보는 호출자가 원문과 대조해 최종 확인한다.</p>
+ *
+ * <h2>갱신</h2>
+ * <ul>
+ *   <li>전송 경로: {@link #record(Long, String, long, String)} (트랜잭션 커밋 이후 반영)</li>
+ *   <li>따라잡기: {@link #rebuildAsync(Long, String, long, LongFunction, BooleanSupplier)} — 다른 노드에서 전송되었거나
+ *       재시작 전에 색인되지 않은 구간을 백그라운드(가상 스레드, 동시 {@code chat.search.rebuild-concurrency}개)에서
+ *       DB로부터 읽어 채운다. 검색 요청은 기다리지 않으며, 아직 색인되지 않은 최근 구간은 호출자가 DB에서 직접 찾는다.
+ *       ({@link #indexedSeq(Long, String)})</li>
+ *   <li>삭제: 후보 대조 중 삭제가 확인된 순번은 {@link #forget(Long, Collection)}으로 tombstone을 남겨 후보에서 뺀다.
+ *       실제 목록에서는 압축(compaction) 때 지운다.</li>
+ *   <li>순번 없는 이전 메시지가 남은 방은 구멍을 건너뛴 것으로 확정하지 않고, 순번이 채워진 뒤 그 구간을 다시 읽는다.
+ *       ({@link ChatMessageSeqBackfiller})</li>
+ * </ul>
+ *
+ * <h2>영속화</h2>
+ * <p>{@code chat.search.index-dir}에 스냅샷(방별 순번 목록)과 추가 전용(append-only) 로그를 둔다.
+ * 로그에는 색인/워터마크/삭제 tombstone/방 제거 레코드를 주기적으로 기록하고, 기동 시 스냅샷 위에 로그를 재생해 복원한다.
+ * 로그가 {@code chat.search.compact-threshold-bytes}를 넘으면 현재 메모리 상태로 스냅샷을 새로 쓰고 로그를 비운다.
+ * 파일이 없거나 손상되어도 따라잡기로 다시 만들어지므로 디렉터리를 지워도 안전하다.</p>
+ *
+ * <p><b>주의:</b> 최근에 쓴 {@code chat.search.max-rooms}개 방만 메모리에 유지한다(LRU). 밀려난 방과 삭제된 방은
+ * 로그에 제거 레코드를 남기고, 다음 검색 때 DB에서 다시 색인한다.</p>
+ */
+@Slf4j
+@Component
+public class ChatMessageSearchIndex implements ChatClusterEventListener {
+
+    private static final String SNAPSHOT_FILE = "chat-search-v2.snapshot";
+    private static final String LOG_FILE = "chat-search-v2.log";
+    /** tombstone/스냅샷이 없던 이전 형식 로그. 기동 시 지우고 DB에서 다시 색인한다. */
+    private static final String LEGACY_LOG_FILE = "chat-search.log";
+
+    private static final byte RECORD_MESSAGE = 1;
+    private static final byte RECORD_WATERMARK = 2;
+    private static final byte RECORD_DELETE = 3;
+    private static final byte RECORD_DROP = 4;
+    private static final byte RECORD_ROOM = 5;
+
+    /** 방 PK → 색인. 접근 순서 LRU이며 이 맵 자체로 동기화한다. */
+    private final Map<Long, RoomIndex> rooms;
+    private final Queue<byte[]> pendingRecords = new ConcurrentLinkedQueue<>();
+    private final Set<Long> rebuilding = ConcurrentHashMap.newKeySet();
+    private final Semaphore rebuildPermits;
+    private final Path indexDir;
+    private final long compactThresholdBytes;
+
+    private OutputStream logOut;
+    private long logBytes;
+    /** 기동 시 복원 중에는 로그 레코드를 만들지 않는다. */
+    private volatile boolean replaying;
+
+    public ChatMessageSearchIndex(@Value("${chat.search.index-dir:./data/chat-search}") Path indexDir,
+                                  @Value("${chat.search.max-rooms:1000}") int maxRooms,
+                                  @Value("${chat.search.compact-threshold-bytes:67108864}") long compactThresholdBytes,
+                                  @Value("${chat.search.rebuild-concurrency:2}") int rebuildConcurrency) {
+        this.indexDir = indexDir;
+        this.compactThresholdBytes = compactThresholdBytes;
+        this.rebuildPermits = new Semaphore(rebuildConcurrency);
+        this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, RoomIndex> eldest) {
+                if (size() <= maxRooms) {
+                    return false;
+                }
+                eldest.getValue().evicted = true;
+                emit(dropRecord(eldest.getKey()));
+                return true;
+            }
+        };
+    }
+
+    @PostConstruct
+    void init() {
+        Path snapshotFile = indexDir.resolve(SNAPSHOT_FILE);
+        Path logFile = indexDir.resolve(LOG_FILE);
+        boolean intact = true;
+        try {
+            Files.createDirectories(indexDir);
+            Files.deleteIfExists(indexDir.resolve(LEGACY_LOG_FILE));
+            replaying = true;
+            try {
+                if (Files.exists(snapshotFile)) {
+                    intact = readSnapshot(snapshotFile);
+                }
+                if (intact && Files.exists(logFile)) {
+                    intact = replay(logFile);
+                }
+            } finally {
+                replaying = false;
+            }
+            logBytes = Files.exists(logFile) ? Files.size(logFile) : 0;
+            logOut = new BufferedOutputStream(Files.newOutputStream(logFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        } catch (IOException e) {
+            // 디스크를 쓸 수 없어도 검색은 동작한다. (재시작 시 DB에서 다시 색인)
+            log.warn("[CHAT] search index log unavailable - dir={}", indexDir, e);
+            return;
+        }
+        if (!intact || logBytes > compactThresholdBytes) {
+            // 손상된 레코드 뒤에 이어 쓰면 다음 기동 때 읽을 수 없으므로 바로 새 스냅샷으로 정리한다.
+            compact();
+        }
+    }
+
+    /**
+     * 전송된 메시지를 색인한다. 트랜잭션 안에서 호출되면 커밋 이후에 반영된다.
+     *
+     * @param roomPk  채팅방 DB PK
+     * @param roomId  채팅방 식별자 (방 삭제 이벤트 대조용)
+     * @param seq     방 내 메시지 순번
+     * @param content 메시지 본문
+     */
+    public void record(Long roomPk, String roomId, long seq, String content) {
+        AfterCommit.run(() -> {
+            if (room(roomPk, roomId).add(seq, content)) {
+                emit(messageRecord(roomPk, seq, content));
+            }
+        });
+    }
+
+    /**
+     * 색인이 DB를 반영한 마지막 순번을 반환한다. 이 순번 이하에서 DB로 순번 조회 가능한 메시지는 모두 색인되어 있다.
+     *
+     * @param roomPk 채팅방 DB PK
+     * @param roomId 채팅방 식별자
+     * @return 색인된 마지막 순번 (처음이면 0)
+     */
+    public long indexedSeq(Long roomPk, String roomId) {
+        return room(roomPk, roomId).scanned();
+    }
+
+    /**
+     * 색인되지 않은 구간({@code 빠짐없이 색인된 순번 ~ lastSeq})을 백그라운드에서 DB로부터 읽어 채운다.
+     * 이미 따라잡는 중인 방이면 아무것도 하지 않는다.
+     *
+     * @param roomPk        채팅방 DB PK
+     * @param roomId        채팅방 식별자
+     * @param lastSeq       방의 마지막 순번
+     * @param loader        기준 순번 이후 메시지를 순번 오름차순으로 읽는 함수
+     * @param legacyPending 방에 순번 없는 이전 메시지가 남아 있는지 확인하는 함수
+     */
+    public void rebuildAsync(Long roomPk,
+                             String roomId,
+                             long lastSeq,
+                             LongFunction<List<ChatMessageResponse>> loader,
+                             BooleanSupplier legacyPending) {
+        if (room(roomPk, roomId).watermark() >= lastSeq || !rebuilding.add(roomPk)) {
+            return;
+        }
+        Thread.ofVirtual().name("chat-search-rebuild-" + roomPk).start(() -> {
+            try {
+                rebuildPermits.acquire();
+                try {
+                    catchUp(roomPk, roomId, lastSeq, loader, legacyPending);
+                } finally {
+                    rebuildPermits.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("[CHAT] search index rebuild failed - roomPk={}", roomPk, e);
+            } finally {
+                rebuilding.remove(roomPk);
+            }
+        });
+    }
+
+    void catchUp(Long roomPk,
+                 String roomId,
+                 long lastSeq,
+                 LongFunction<List<ChatMessageResponse>> loader,
+                 BooleanSupplier legacyPending) {
+        RoomIndex index = room(roomPk, roomId);
+        boolean pending = legacyPending.getAsBoolean();
+        if (!pending) {
+            // 순번이 채워졌으면 건너뛰었던 구간을 다시 읽는다.
+            index.rewindScan();
+        }
+        long afterSeq = index.scanned();
+        while (afterSeq < lastSeq && !index.evicted) {
+            List<ChatMessageResponse> batch = loader.apply(afterSeq);
+            if (batch.isEmpty()) {
+                break; // 아직 저장되지 않았거나(write-behind) 삭제된 메시지뿐인 구간
+            }
+            for (ChatMessageResponse message : batch) {
+                if (index.add(message.seq(), message.content())) {
+                    emit(messageRecord(roomPk, message.seq(), message.content()));
+                }
+            }
+            afterSeq = batch.getLast().seq();
+            index.advanceScan(afterSeq);
+        }
+        // 삭제된 메시지로 생긴 구멍은 건너뛴 것으로 확정한다. (순번 없는 이전 메시지가 남았으면 보류)
+        if (!pending && !index.evicted && index.advanceWatermark(afterSeq)) {
+            emit(watermarkRecord(roomPk, afterSeq));
+        }
+    }
+
+    /**
+     * 검색어의 모든 bigram을 포함하는 메시지 순번을 {@code beforeSeq} 미만에서 최신순으로 최대 {@code limit}개 반환한다.
+     *
+     * @param roomPk    채팅방 DB PK
+     * @param query     검색어
+     * @param beforeSeq 상한 순번 (결과에 포함되지 않음)
+     * @param limit     최대 후보 수
+     * @return 후보 순번 목록 (내림차순). 원문 대조 전이므로 실제 일치하지 않는 순번이 섞일 수 있다.
+     * @throws IllegalArgumentException 검색어에 두 글자 이상의 단어가 없는 경우
+     */
+    public List<Long> candidates(Long roomPk, String query, long beforeSeq, int limit) {
+        return room(roomPk, null).intersect(validateQuery(query), beforeSeq, limit);
+    }
+
+    /**
+     * 색인으로 찾을 수 있는 검색어인지 확인한다.
+     *
+     * @return 검색어의 bigram 키 집합
+     * @throws IllegalArgumentException 검색어에 두 글자 이상의 단어가 없는 경우
+     */
+    public static Set<Long> validateQuery(String query) {
+        Set<Long> keys = bigrams(normalize(query));
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("검색어는 두 글자 이상이어야 합니다.");
+        }
+        return keys;
+    }
+
+    /**
+     * 삭제된 메시지를 후보에서 뺀다. (tombstone)
+     *
+     * @param roomPk 채팅방 DB PK
+     * @param seqs   삭제된 메시지 순번
+     */
+    public void forget(Long roomPk, Collection<Long> seqs) {
+        RoomIndex index = room(roomPk, null);
+        for (Long seq : seqs) {
+            if (index.delete(seq)) {
+                emit(deleteRecord(roomPk, seq));
+            }
+        }
+    }
+
+    /**
+     * 삭제된 방의 색인을 버린다.
+     */
+    @Override
+    public void onClusterEvent(ChatClusterEvent event) {
+        if (event.type() != ChatClusterEvent.Type.ROOM_CLOSED) {
+            return;
+        }
+        synchronized (rooms) {
+            rooms.values().removeIf(index -> {
+                if (!event.roomId().equals(index.roomId)) {
+                    return false;
+                }
+                index.evicted = true;
+                emit(dropRecord(index.roomPk));
+                return true;
+            });
+        }
+    }
+
+    /**
+     * 검색/대조용 정규화 (NFKC + 소문자).
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.search.flush-interval-ms:1000}")
+    synchronized void flush() {
+        if (logOut == null) {
+            pendingRecords.clear();
+            return;
+        }
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] record;
+            while ((record = pendingRecords.poll()) != null) {
+                logOut.write(record);
+                logBytes += record.length;
+            }
+            logOut.flush();
+        } catch (IOException e) {
+            log.warn("[CHAT] search index log write failed", e);
+        }
+        if (logBytes > compactThresholdBytes) {
+            compact();
+        }
+    }
+
+    /**
+     * 현재 메모리 상태로 스냅샷을 새로 쓰고 로그를 비운다.
+     *
+     * <p>스냅샷을 임시 파일에 쓴 뒤 교체하므로 도중에 중단되어도 이전 스냅샷과 로그가 남는다.
+     * 교체 후 로그를 비우기 전에 중단되면 이전 로그가 새 스냅샷 위에 다시 재생되는데,
+     * 모든 레코드는 같은 결과를 다시 적용해도 같으므로(멱등) 안전하다.
+     * 스냅샷을 쓰는 동안 쌓인 레코드는 새 로그에 기록된다.</p>
+     */
+    synchronized void compact() {
+        if (logOut == null) {
+            return;
+        }
+        Path snapshotFile = indexDir.resolve(SNAPSHOT_FILE);
+        Path tmpFile = indexDir.resolve(SNAPSHOT_FILE + ".tmp");
+        Path logFile = indexDir.resolve(LOG_FILE);
+        List<RoomIndex> current;
+        synchronized (rooms) {
+            current = new ArrayList<>(rooms.values());
+        }
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                for (RoomIndex index : current) {
+                    if (!index.evicted) {
+                        index.writeTo(out);
+                    }
+                }
+            }
+            Files.move(tmpFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logOut.close();
+            logOut = new BufferedOutputStream(Files.newOutputStream(logFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+            log.info("[CHAT] search index compacted - rooms={}, logBytes={}", current.size(), logBytes);
+            logBytes = 0;
+        } catch (IOException e) {
+            log.warn("[CHAT] search index compaction failed", e);
+            try {
+                if (logOut != null) {
+                    logOut.close();
+                }
+                logOut = new BufferedOutputStream(Files.newOutputStream(logFile,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+            } catch (IOException reopen) {
+                logOut = null;
+                log.warn("[CHAT] search index log unavailable - path={}", logFile, reopen);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        if (logOut != null) {
+            try {
+                logOut.close();
+            } catch (IOException e) {
+                log.debug("[CHAT] search index log close failed", e);
+            }
+        }
+    }
+
+    private RoomIndex room(Long roomPk, String roomId) {
+        RoomIndex index;
+        synchronized (rooms) {
+            index = rooms.get(roomPk);
+            if (index == null) {
+                index = new RoomIndex(roomPk);
+                rooms.put(roomPk, index);
+            }
+        }
+        if (roomId != null && index.roomId == null) {
+            index.roomId = roomId;
+            emit(roomRecord(roomPk, roomId));
+        }
+        return index;
+    }
+
+    private void emit(byte[] record) {
+        if (!replaying) {
+            pendingRecords.add(record);
+        }
+    }
+
+    /**
+     * @return 끝까지 읽었으면 {@code true}, 손상된 레코드에서 멈췄으면 {@code false}
+     */
+    private boolean readSnapshot(Path snapshotFile) {
+        int count = 0;
+        try (InputStream raw = Files.newInputStream(snapshotFile);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw))) {
+            while (true) {
+                long roomPk;
+                try {
+                    roomPk = in.readLong();
+                } catch (EOFException e) {
+                    break;
+                }
+                RoomIndex index = RoomIndex.readFrom(roomPk, in);
+                synchronized (rooms) {
+                    rooms.put(roomPk, index);
+                }
+                count++;
+            }
+        } catch (IOException e) {
+            log.warn("[CHAT] search index snapshot corrupted, restore stopped - rooms={}", count, e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return 끝까지 읽었으면 {@code true}, 손상된 레코드에서 멈췄으면 {@code false}
+     */
+    private boolean replay(Path logFile) {
+        int records = 0;
+        boolean intact = true;
+        try (InputStream raw = Files.newInputStream(logFile);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw))) {
+            while (true) {
+                byte type = in.readByte();
+                long roomPk = in.readLong();
+                switch (type) {
+                    case RECORD_MESSAGE -> {
+                        long seq = in.readLong();
+                        byte[] content = new byte[in.readInt()];
+                        in.readFully(content);
+                        room(roomPk, null).add(seq, new String(content, StandardCharsets.UTF_8));
+                    }
+                    case RECORD_WATERMARK -> room(roomPk, null).advanceWatermark(in.readLong());
+                    case RECORD_DELETE -> room(roomPk, null).delete(in.readLong());
+                    case RECORD_ROOM -> room(roomPk, in.readUTF());
+                    case RECORD_DROP -> {
+                        synchronized (rooms) {
+                            rooms.remove(roomPk);
+                        }
+                    }
+                    default -> throw new IOException("unknown record type: " + type);
+                }
+                records++;
+            }
+        } catch (EOFException e) {
+            // 정상 종료 또는 기록 도중 중단된 마지막 레코드
+        } catch (IOException e) {
+            intact = false;
+            log.warn("[CHAT] search index log corrupted, replay stopped - records={}", records, e);
+        }
+        log.info("[CHAT] search index restored - records={}, rooms={}", records, rooms.size());
+        return intact;
+    }
+
+    private static byte[] messageRecord(Long roomPk, long seq, String content) {
+        byte[] text = content.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(21 + text.length);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RECORD_MESSAGE);
+            out.writeLong(roomPk);
+            out.writeLong(seq);
+            out.writeInt(text.length);
+            out.write(text);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] watermarkRecord(Long roomPk, long seq) {
+        return seqRecord(RECORD_WATERMARK, roomPk, seq);
+    }
+
+    private static byte[] deleteRecord(Long roomPk, long seq) {
+        return seqRecord(RECORD_DELETE, roomPk, seq);
+    }
+
+    private static byte[] seqRecord(byte type, Long roomPk, long seq) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(17);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            out.writeLong(roomPk);
+            out.writeLong(seq);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] dropRecord(Long roomPk) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(9);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RECORD_DROP);
+            out.writeLong(roomPk);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] roomRecord(Long roomPk, String roomId) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(11 + roomId.length());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RECORD_ROOM);
+            out.writeLong(roomPk);
+            out.writeUTF(roomId);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 정규화된 본문의 bigram 키 집합. 문자/숫자가 아닌 글자로 단어를 나누고, 두 코드 포인트를 하나의 long으로 묶는다.
+     */
+    private static Set<Long> bigrams(String normalized) {
+        Set<Long> keys = new LinkedHashSet<>();
+        int prev = -1;
+        for (int i = 0; i < normalized.length(); ) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+            if (!Character.isLetterOrDigit(cp)) {
+                prev = -1;
+                continue;
+            }
+            if (prev >= 0) {
+                keys.add(((long) prev << 21) | cp);
+            }
+            prev = cp;
+        }
+        return keys;
+    }
+
+    /**
+     * 방 하나의 색인. 쓰기/읽기는 인스턴스 단위로 동기화한다.
+     */
+    private static final class RoomIndex {
+        private final Long roomPk;
+        private final Map<Long, Postings> postings = new HashMap<>();
+        /** 이 순번까지는 빠짐없이 색인됨 */
+        private long watermark;
+        /** watermark 이후에 먼저 색인된 순번 */
+        private final Set<Long> ahead = new HashSet<>();
+        /** 따라잡기가 DB에서 읽은 마지막 순번 (순번 없는 이전 메시지의 구멍은 건너뛴 채로 진행). 영속화하지 않는다. */
+        private long scanned;
+        /** 삭제된 순번 (압축 때 목록에서 지운다) */
+        private final Set<Long> deleted = new HashSet<>();
+        volatile String roomId;
+        /** LRU에서 밀려났거나 방이 삭제됨 */
+        volatile boolean evicted;
+
+        private RoomIndex(Long roomPk) {
+            this.roomPk = roomPk;
+        }
+
+        /**
+         * @return 새로 색인했으면 {@code true} (이미 색인된 순번이면 {@code false})
+         */
+        synchronized boolean add(long seq, String content) {
+            if (seq <= watermark || !ahead.add(seq)) {
+                return false;
+            }
+            for (Long key : bigrams(normalize(content))) {
+                postings.computeIfAbsent(key, k -> new Postings()).add(seq);
+            }
+            while (ahead.remove(watermark + 1)) {
+                watermark++;
+            }
+            return true;
+        }
+
+        synchronized long watermark() {
+            return watermark;
+        }
+
+        synchronized long scanned() {
+            return Math.max(watermark, scanned);
+        }
+
+        synchronized void advanceScan(long seq) {
+            scanned = Math.max(scanned, seq);
+        }
+
+        synchronized void rewindScan() {
+            scanned = watermark;
+        }
+
+        synchronized boolean advanceWatermark(long seq) {
+            if (seq <= watermark) {
+                return false;
+            }
+            watermark = seq;
+            ahead.removeIf(s -> s <= seq);
+            while (ahead.remove(watermark + 1)) {
+                watermark++;
+            }
+            return true;
+        }
+
+        /**
+         * @return 색인된 순번이어서 tombstone을 남겼으면 {@code true}
+         */
+        synchronized boolean delete(long seq) {
+            if (seq > watermark && !ahead.contains(seq)) {
+                return false;
+            }
+            return deleted.add(seq);
+        }
+
+        synchronized List<Long> intersect(Set<Long> keys, long beforeSeq, int limit) {
+            List<Postings> lists = new ArrayList<>(keys.size());
+            for (Long key : keys) {
+                Postings list = postings.get(key);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+            Postings smallest = lists.getFirst();
+            List<Long> result = new ArrayList<>(limit);
+            for (int i = smallest.lowerIndex(beforeSeq); i >= 0 && result.size() < limit; i--) {
+                long seq = smallest.seqs[i];
+                boolean all = !deleted.contains(seq);
+                for (int j = 1; j < lists.size() && all; j++) {
+                    all = lists.get(j).contains(seq);
+                }
+                if (all) {
+                    result.add(seq);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * tombstone을 목록에 반영한 뒤 스냅샷 형식으로 쓴다.
+         * (roomPk, roomId, watermark, ahead, postings)
+         */
+        synchronized void writeTo(DataOutputStream out) throws IOException {
+            if (!deleted.isEmpty()) {
+                postings.values().removeIf(list -> list.removeAll(deleted));
+                deleted.clear();
+            }
+            out.writeLong(roomPk);
+            out.writeBoolean(roomId != null);
+            if (roomId != null) {
+                out.writeUTF(roomId);
+            }
+            out.writeLong(watermark);
+            out.writeInt(ahead.size());
+            for (Long seq : ahead) {
+                out.writeLong(seq);
+            }
+            out.writeInt(postings.size());
+            for (Map.Entry<Long, Postings> entry : postings.entrySet()) {
+                out.writeLong(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        }
+
+        static RoomIndex readFrom(long roomPk, DataInputStream in) throws IOException {
+            RoomIndex index = new RoomIndex(roomPk);
+            if (in.readBoolean()) {
+                index.roomId = in.readUTF();
+            }
+            index.watermark = in.readLong();
+            for (int i = in.readInt(); i > 0; i--) {
+                index.ahead.add(in.readLong());
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                long key = in.readLong();
+                index.postings.put(key, Postings.readFrom(in));
+            }
+            return index;
+        }
+    }
+
+    /**
+     * 오름차순 순번 목록. 대부분 뒤에 추가되며, 따라잡기로 과거 순번이 들어오면 정렬 위치에 삽입한다.
+     */
+    private static final class Postings {
+        private long[] seqs = new long[4];
+        private int size;
+
+        void add(long seq) {
+            if (size == 0 || seqs[size - 1] < seq) {
+                ensureCapacity();
+                seqs[size++] = seq;
+                return;
+            }
+            int pos = Arrays.binarySearch(seqs, 0, size, seq);
+            if (pos >= 0) {
+                return;
+            }
+            int insertAt = -pos - 1;
+            ensureCapacity();
+            System.arraycopy(seqs, insertAt, seqs, insertAt + 1, size - insertAt);
+            seqs[insertAt] = seq;
+            size++;
+        }
+
+        boolean contains(long seq) {
+            return Arrays.binarySearch(seqs, 0, size, seq) >= 0;
+        }
+
+        /**
+         * 주어진 순번들을 지운다.
+         *
+         * @return 지운 뒤 비었으면 {@code true}
+         */
+        boolean removeAll(Set<Long> removed) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!removed.contains(seqs[i])) {
+                    seqs[kept++] = seqs[i];
+                }
+            }
+            size = kept;
+            return size == 0;
+        }
+
+        /**
+         * @return {@code seq}보다 작은 마지막 원소의 위치 (없으면 -1)
+         */
+        int lowerIndex(long seq) {
+            int pos = Arrays.binarySearch(seqs, 0, size, seq);
+            return (pos >= 0 ? pos : -pos - 1) - 1;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeLong(seqs[i]);
+            }
+        }
+
+        static Postings readFrom(DataInputStream in) throws IOException {
+            Postings list = new Postings();
+            list.size = in.readInt();
+            list.seqs = new long[Math.max(4, list.size)];
+            for (int i = 0; i < list.size; i++) {
+                list.seqs[i] = in.readLong();
+            }
+            return list;
+        }
+
+        private void ensureCapacity() {
+            if (size == seqs.length) {
+                seqs = Arrays.copyOf(seqs, size * 2);
+            }
+        }
+    }
+}
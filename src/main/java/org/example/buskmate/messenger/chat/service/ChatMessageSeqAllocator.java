@@ -0,0 +1,209 @@
+package org.example.buskmate.messenger.chat.service;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import org.example.buskmate.messenger.room.repository.ChatRoomJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 채팅방별 메시지 순번({@code seq}) 할당기.
+ *
+ * <p>순번 카운터는 노드 메모리가 아니라 {@code chat_room.message_seq} 컬럼에 있다.
+ * 카운터가 0인 방(기존 방)은 첫 예약 시점에 {@code max(seq)}(핫/보관 테이블)와 순번 없는 이전 메시지 수를 더한 값에서 이어가,
+ * 이전 메시지가 채워질 구간({@link ChatMessageSeqBackfiller})을 비워 둔다.
+ * 순번과 함께 메시지 식별자(ULID)도 순번 순서대로 만들어, 방 안에서 {@code messageId} 순서와 {@code seq} 순서를 일치시킨다.</p>
+ *
+ * <h2>즉시 저장 모드: 구멍 없는(gapless) 할당</h2>
+ * <p>{@link #reserve(Long)}는 메시지 INSERT와 같은 트랜잭션에서 카운터를 올린다.</p>
+ * <ul>
+ *   <li>방 행의 잠금은 트랜잭션이 끝날 때 DB가 해제하므로, 같은 방의 전송은 노드와 무관하게 직렬화된다.
+ *       (잠금은 INSERT 1회 동안만 유지된다)</li>
+ *   <li>커밋되면 메시지 INSERT와 카운터 증가가 함께 확정되고, 롤백되면 카운터도 함께 되돌아간다.</li>
+ * </ul>
+ * <p>따라서 한 방의 순번은 1, 2, 3, ... 으로 빠짐없이 증가하고, 클라이언트는 “마지막으로 받은 순번 이후”를
+ * 요청하는 것만으로 누락 구간을 알 수 있다.</p>
+ *
+ * <h2>write-behind 모드: 묶음 예약</h2>
+ * <p>{@link #reserveDetached(Long)}는 전송 트랜잭션 밖에서 짧은 트랜잭션으로 카운터를 올리고 바로 커밋한다.
+ * 같은 스트라이프({@code chat.seq.stripes})에 동시에 들어온 예약은 하나의 트랜잭션에서 방별 UPDATE 1회
+ * ({@code message_seq + 건수})로 묶는다. 방 행의 잠금은 그 UPDATE 동안만 유지되고, 메시지 INSERT는 배치 저장이 따로 처리한다.</p>
+ * <p><b>주의:</b> 이 모드에서는 순번이 메시지 행보다 먼저 확정되므로, 대기열 진입이 거부되었거나
+ * 배치 저장이 끝내 실패한 메시지의 순번은 비게 된다. (실패 메시지는 {@link ChatMessageWriteBehindBuffer}가 별도로 보관한다)
+ * 구멍이 있어도 순번은 방 안에서 증가하므로 “마지막으로 받은 순번 이후” 조회는 그대로 동작한다.</p>
+ *
+ * <h2>보정</h2>
+ * <p>카운터가 실제 저장된 순번보다 뒤처져 {@code (room_id, seq)} 유니크 제약에 걸리면(수동 INSERT/복구 등),
+ * {@link #reseedAfterRollback(Long)}으로 트랜잭션 종료 후 카운터를 저장된 최대 순번까지 끌어올린다.</p>
+ */
+@Component
+public class ChatMessageSeqAllocator {
+
+    private final ChatRoomJdbcRepository chatRoomJdbcRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate detachedTransaction;
+    private final Stripe[] stripes;
+
+    public ChatMessageSeqAllocator(ChatRoomJdbcRepository chatRoomJdbcRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${chat.seq.stripes:64}") int stripeCount) {
+        this.chatRoomJdbcRepository = chatRoomJdbcRepository;
+        this.transactionManager = transactionManager;
+        this.detachedTransaction = new TransactionTemplate(transactionManager);
+        this.detachedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 예약된 순번과 그 순서에 맞춰 만든 메시지 식별자.
+     *
+     * @param seq       방 내 순번 (1부터 시작)
+     * @param messageId 메시지 식별자 (ULID)
+     */
+    public record Reservation(long seq, String messageId) {
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 방의 다음 메시지 순번을 예약한다. (즉시 저장 모드)
+     *
+     * @param roomPk 채팅방 DB PK
+     * @return 예약된 순번과 메시지 식별자
+     * @throws IllegalStateException 트랜잭션 밖에서 호출되었거나 방이 없는 경우
+     */
+    public Reservation reserve(Long roomPk) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("메시지 순번은 트랜잭션 안에서만 예약할 수 있습니다.");
+        }
+        long seq = chatRoomJdbcRepository.addMessageSeq(roomPk, 1);
+        // 방 행 잠금 안에서 만들므로 messageId 순서가 seq 순서와 같다.
+        return new Reservation(seq, UlidCreator.getMonotonicUlid().toString());
+    }
+
+    /**
+     * 전송 트랜잭션과 별도로 방의 다음 메시지 순번을 예약하고 바로 확정한다. (write-behind 모드)
+     *
+     * <p>같은 스트라이프에 먼저 들어온 호출자가 대기 중인 예약을 모아 한 번에 처리하고, 나머지 호출자는 결과를 기다린다.
+     * 호출자가 트랜잭션 안에 있으면 커넥션을 하나 더 쓰므로, 트랜잭션 밖에서 호출해야 한다.</p>
+     *
+     * @param roomPk 채팅방 DB PK
+     * @return 예약된 순번과 메시지 식별자
+     * @throws IllegalStateException 방이 없는 경우
+     */
+    public Reservation reserveDetached(Long roomPk) {
+        Stripe stripe = stripes[Math.floorMod(roomPk.hashCode(), stripes.length)];
+        Waiter waiter = new Waiter(roomPk, new CompletableFuture<>());
+        boolean leader;
+        synchronized (stripe) {
+            stripe.pending.add(waiter);
+            leader = !stripe.draining;
+            stripe.draining = true;
+        }
+        if (leader) {
+            drain(stripe);
+        }
+        try {
+            return waiter.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 스트라이프에 쌓인 예약을 비울 때까지 방별로 묶어 처리한다.
+     */
+    private void drain(Stripe stripe) {
+        while (true) {
+            List<Waiter> batch;
+            synchronized (stripe) {
+                if (stripe.pending.isEmpty()) {
+                    stripe.draining = false;
+                    return;
+                }
+                batch = stripe.pending;
+                stripe.pending = new ArrayList<>();
+            }
+            Map<Long, List<Waiter>> byRoom = new LinkedHashMap<>();
+            for (Waiter waiter : batch) {
+                byRoom.computeIfAbsent(waiter.roomPk(), k -> new ArrayList<>()).add(waiter);
+            }
+            try {
+                Map<Long, Long> lastSeqs = detachedTransaction.execute(status -> {
+                    Map<Long, Long> result = new LinkedHashMap<>();
+                    byRoom.forEach((roomPk, waiters) ->
+                            result.put(roomPk, chatRoomJdbcRepository.addMessageSeq(roomPk, waiters.size())));
+                    return result;
+                });
+                byRoom.forEach((roomPk, waiters) -> {
+                    long seq = lastSeqs.get(roomPk) - waiters.size() + 1;
+                    for (Waiter waiter : waiters) {
+                        waiter.result().complete(new Reservation(seq++, UlidCreator.getMonotonicUlid().toString()));
+                    }
+                });
+            } catch (RuntimeException e) {
+                batch.forEach(waiter -> waiter.result().completeExceptionally(e));
+            }
+        }
+    }
+
+    /**
+     * 방에서 마지막으로 예약된 순번을 반환한다.
+     *
+     * @param roomPk 채팅방 DB PK
+     * @return 마지막 순번 (메시지가 없으면 0)
+     */
+    public long current(Long roomPk) {
+        return chatRoomJdbcRepository.findMessageSeq(roomPk);
+    }
+
+    /**
+     * 현재 트랜잭션이 끝난 뒤 방의 카운터를 저장된 최대 순번까지 끌어올린다.
+     *
+     * <p>현재 트랜잭션은 방 행의 잠금을 쥐고 있으므로, 보정은 종료 후 별도 트랜잭션에서 실행한다.
+     * (트랜잭션이 없으면 즉시 실행한다)</p>
+     *
+     * @param roomPk 채팅방 DB PK
+     */
+    public void reseedAfterRollback(Long roomPk) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reseed(roomPk);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                reseed(roomPk);
+            }
+        });
+    }
+
+    private void reseed(Long roomPk) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.executeWithoutResult(status -> chatRoomJdbcRepository.reseedMessageSeq(roomPk));
+    }
+
+    private static final class Stripe {
+        private List<Waiter> pending = new ArrayList<>();
+        private boolean draining;
+    }
+
+    private record Waiter(Long roomPk, CompletableFuture<Reservation> result) {
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.buskmate.messenger.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.chat.repository.ChatMessageJdbcRepository;
+import org.example.buskmate.messenger.room.repository.ChatRoomJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 순번 도입 이전 메시지의 순번({@code seq}) 채우기 작업.
+ *
+ * <p>순번이 {@code null}인 메시지는 {@code (room_id, seq)} 범위 조회(재연결 동기화, {@code /messages/since})에
+ * 잡히지 않는다. 이 작업은 방마다 그런 메시지에 {@code message_id} 순서대로 1부터 순번을 채운다.</p>
+ *
+ * <ul>
+ *   <li>방의 순번 카운터는 초기화 시 순번 없는 메시지 수만큼 앞 구간을 비워 두므로
+ *       ({@link ChatRoomJdbcRepository#initMessageSeq(Long)}), 채우는 순번은 새 메시지 순번과 겹치지 않는다.</li>
+ *   <li>한 트랜잭션에서 한 방의 최대 {@code chat.seq-backfill.batch-size}건을 채운다.
+ *       방 행을 잠그므로 그동안 해당 방의 전송만 잠시 대기한다.</li>
+ *   <li>한 주기에 최대 {@code chat.seq-backfill.rooms-per-run}개 방을 처리하고, 방 PK 키셋으로 다음 주기에 이어간다.</li>
+ *   <li>처음부터 끝까지 훑어 남은 방이 없으면 이 노드에서는 더 이상 실행하지 않는다.</li>
+ * </ul>
+ *
+ * <p><b>주의:</b> 카운터가 이 방식 이전에 이미 초기화된 방은 채울 구간이 새 메시지와 겹칠 수 있다.
+ * 그런 방은 건너뛰고 경고를 남기며, 수동 보정이 필요하다.</p>
+ */
+@Slf4j
+@Component
+public class ChatMessageSeqBackfiller {
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatRoomJdbcRepository chatRoomJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${chat.seq-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.seq-backfill.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${chat.seq-backfill.rooms-per-run:100}")
+    private int roomsPerRun;
+
+    /** 다음 주기에 이어갈 방 PK 키셋 */
+    private long cursor;
+    /** 이번 한 바퀴(cursor 0부터)에서 처리한 방이 있는지 */
+    private boolean foundInPass;
+    private volatile boolean done;
+
+    public ChatMessageSeqBackfiller(ChatMessageJdbcRepository chatMessageJdbcRepository,
+                                    ChatRoomJdbcRepository chatRoomJdbcRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+        this.chatRoomJdbcRepository = chatRoomJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 순번 채우기가 끝났는지(또는 꺼져 있는지) 반환한다. (노드 로컬)
+     */
+    public boolean isDone() {
+        return !enabled || done;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.seq-backfill.interval-ms:60000}")
+    void backfill() {
+        if (!enabled || done) {
+            return;
+        }
+        List<Long> rooms;
+        try {
+            rooms = chatMessageJdbcRepository.findRoomsWithUnsequencedMessages(cursor, roomsPerRun);
+        } catch (RuntimeException e) {
+            log.warn("[CHAT] seq backfill scan failed - cursor={}", cursor, e);
+            return;
+        }
+        if (rooms.isEmpty()) {
+            if (cursor == 0 || !foundInPass) {
+                done = true;
+                log.info("[CHAT] seq backfill finished");
+            }
+            cursor = 0;
+            foundInPass = false;
+            return;
+        }
+
+        int total = 0;
+        for (Long roomPk : rooms) {
+            try {
+                int assigned;
+                do {
+                    assigned = assign(roomPk);
+                    total += assigned;
+                } while (assigned == batchSize);
+                foundInPass = true;
+            } catch (RuntimeException e) {
+                log.warn("[CHAT] seq backfill skipped room - roomPk={}", roomPk, e);
+            }
+            cursor = roomPk;
+        }
+        log.info("[CHAT] seq backfilled - rooms={}, messages={}", rooms.size(), total);
+    }
+
+    private int assign(Long roomPk) {
+        Integer assigned = transactionTemplate.execute(status -> chatMessageJdbcRepository.assignLegacySeqs(
+                roomPk, chatRoomJdbcRepository.initMessageSeq(roomPk), batchSize));
+        return assigned == null ? 0 : assigned;
+    }
+}
@@ -0,0 +1,276 @@
+package org.example.buskmate.messenger.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.chat.domain.ChatMessage;
+import org.example.buskmate.messenger.chat.repository.ChatMessageJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 채팅 메시지 write-behind 버퍼.
+ *
+ * <p>활성화되면 메시지는 식별자(ULID)와 생성 시각이 확정된 즉시 브로드캐스트되고,
+ * 실제 {@code chat_message} INSERT는 전용 flusher 스레드가 JDBC 배치로 모아서 수행한다.</p>
+ *
+ * <h2>대기열 등록</h2>
+ * <ul>
+ *   <li>전송 트랜잭션 안에서 대기열 자리를 먼저 확보한다. 자리가 없으면 예외로 전송(트랜잭션)을 실패시킨다.</li>
+ *   <li>메시지는 전송 트랜잭션이 커밋된 뒤에만 대기열에 들어간다. 롤백되면 확보한 자리만 반납한다.</li>
+ * </ul>
+ *
+ * <h2>플러시</h2>
+ * <ul>
+ *   <li>배치의 첫 메시지가 들어온 뒤 {@code max-lag-ms}가 지났거나, 배치 크기가 {@code max-batch}에 도달하면 저장한다.</li>
+ *   <li>배치 1회는 하나의 트랜잭션이며, 이미 저장된 키는 건너뛰므로({@code insert ignore}) 재시도해도 중복되지 않는다.</li>
+ *   <li>건너뛴 행 중 같은 {@code messageId}로 저장되지 않은 메시지와, 재시도 후에도 실패한 배치는
+ *       {@code chat_message_dead_letter}에 남긴다. (조용히 버리지 않는다)</li>
+ * </ul>
+ *
+ * <h2>내구성 설정</h2>
+ * <ul>
+ *   <li>{@code chat.write-behind.enabled}: write-behind 사용 여부 (기본 false = 메시지마다 즉시 저장)</li>
+ *   <li>{@code chat.write-behind.max-lag-ms}: 메시지가 DB에 반영되기까지의 최대 지연</li>
+ *   <li>{@code chat.write-behind.max-batch}: 배치 1회 최대 메시지 수</li>
+ *   <li>{@code chat.write-behind.capacity}: 저장 대기 중인 최대 메시지 수 (가득 차면 전송을 거부한다)</li>
+ * </ul>
+ *
+ * <p><b>주의:</b> 프로세스가 비정상 종료되면 최대 {@code max-lag-ms} 동안의 메시지가 유실될 수 있다.
+ * 정상 종료 시에는 {@link #shutdown()}에서 대기열을 모두 비우고, 종료 이후 커밋된 메시지는 호출 스레드에서 바로 저장한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriteBehindBuffer {
+
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${chat.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.write-behind.max-lag-ms:20}")
+    private long maxLagMs;
+
+    @Value("${chat.write-behind.max-batch:500}")
+    private int maxBatch;
+
+    @Value("${chat.write-behind.capacity:20000}")
+    private int capacity;
+
+    /** 실행 중 여부 전환과 대기열 등록을 직렬화한다. (등록: read, 종료: write) */
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+    private BlockingQueue<ChatMessage> queue;
+    private Semaphore permits;
+    private TransactionTemplate transactionTemplate;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new LinkedBlockingQueue<>();
+        permits = new Semaphore(capacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        flusher = new Thread(this::runLoop, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 메시지를 저장 대기열에 넣는다.
+     *
+     * <p>대기열 자리가 {@code max-lag-ms} 동안 나지 않으면 전송을 거부한다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 대기열에 넣고, 롤백되면 넣지 않는다.</p>
+     *
+     * @param message 저장할 메시지 (messageId/createdAt이 확정된 상태)
+     * @throws IllegalStateException 버퍼가 종료되었거나 대기열이 가득 찬 경우
+     */
+    public void enqueue(ChatMessage message) {
+        admit();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accept(message);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    accept(message);
+                } else {
+                    permits.release();
+                }
+            }
+        });
+    }
+
+    private void admit() {
+        stateLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("메시지 저장 버퍼가 동작 중이 아닙니다.");
+            }
+            if (!permits.tryAcquire(maxLagMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("메시지 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메시지 저장 대기 중 인터럽트되었습니다.", e);
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋된 메시지를 대기열에 넣는다. 이미 종료된 뒤라면 호출 스레드에서 바로 저장한다.
+     */
+    private void accept(ChatMessage message) {
+        stateLock.readLock().lock();
+        try {
+            if (running) {
+                queue.add(message);
+                return;
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        flushAndRelease(List.of(message));
+    }
+
+    private void runLoop() {
+        List<ChatMessage> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                ChatMessage first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxLagMs);
+                while (batch.size() < maxBatch) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0) {
+                        break;
+                    }
+                    ChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flushAndRelease(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        // 종료 직전까지 꺼낸 배치는 shutdown()의 drain 전에 저장한다.
+        flushAndRelease(batch);
+    }
+
+    private void flushAndRelease(List<ChatMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flush(batch);
+        } finally {
+            permits.release(batch.size());
+        }
+    }
+
+    private void flush(List<ChatMessage> batch) {
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(batch));
+                return;
+            } catch (RuntimeException e) {
+                lastError = e;
+                log.warn("[CHAT] write-behind flush failed - size={}, attempt={}", batch.size(), attempt, e);
+            }
+        }
+        String error = String.valueOf(lastError);
+        try {
+            transactionTemplate.executeWithoutResult(status -> chatMessageJdbcRepository.insertDeadLetters(batch, error));
+            log.error("[CHAT] write-behind flush gave up - moved {} messages to dead letter (first messageId={})",
+                    batch.size(), batch.getFirst().getMessageId());
+        } catch (RuntimeException e) {
+            log.error("[CHAT] write-behind dead letter failed - lost messageIds={}",
+                    batch.stream().map(ChatMessage::getMessageId).toList(), e);
+        }
+    }
+
+    /**
+     * 배치를 저장하고, 다른 메시지와 키가 충돌해 건너뛴 메시지는 dead letter로 남긴다. (트랜잭션 안에서 호출)
+     */
+    private void insert(List<ChatMessage> batch) {
+        chatMessageJdbcRepository.batchInsert(batch);
+        Set<String> stored = chatMessageJdbcRepository.findExistingMessageIds(
+                batch.stream().map(ChatMessage::getMessageId).toList());
+        if (stored.size() == batch.size()) {
+            return;
+        }
+        List<ChatMessage> skipped = batch.stream().filter(m -> !stored.contains(m.getMessageId())).toList();
+        chatMessageJdbcRepository.insertDeadLetters(skipped, "insert skipped: duplicate (room_id, seq) or missing room");
+        log.error("[CHAT] write-behind skipped {} conflicting messages (first messageId={})",
+                skipped.size(), skipped.getFirst().getMessageId());
+    }
+
+    /**
+     * 애플리케이션 종료 시 새 전송을 막고, flusher를 멈춘 뒤 대기열에 남은 메시지를 모두 저장한다.
+     *
+     * <p>종료 이전에 자리를 확보한 전송이 이후에 커밋되면 {@link #accept(ChatMessage)}가 호출 스레드에서 바로 저장한다.</p>
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        stateLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<ChatMessage> remaining = new ArrayList<>(maxBatch);
+        while (queue.drainTo(remaining, maxBatch) > 0) {
+            flushAndRelease(remaining);
+            remaining.clear();
+        }
+    }
+}
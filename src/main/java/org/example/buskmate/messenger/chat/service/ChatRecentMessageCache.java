@@ -0,0 +1,396 @@
+package org.example.buskmate.messenger.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.buskmate.messenger.chat.dto.ChatMessageDirection;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.support.ChatClusterEvent;
+import org.example.buskmate.messenger.support.ChatClusterEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼 캐시.
+ *
+ * <p>방에 입장할 때 모든 클라이언트가 호출하는 “첫 페이지” 조회와, 최근 구간 안쪽의 커서 조회(양방향)/순번 이후 조회를
+ * DB 없이 처리하기 위해 방마다 최근 {@code N}건의 {@link ChatMessageResponse}를 보관한다.</p>
+ *
+ * <h2>채움/정합성</h2>
+ * <ul>
+ *   <li>방 버퍼는 DB에서 조회한 첫 페이지로 <b>시드</b>된 이후에만 조회에 사용된다. (warm 상태)</li>
+ *   <li>시드 이후의 신규 메시지는 전송 트랜잭션 커밋 후 모든 노드에서 {@code MESSAGE_APPENDED} 이벤트로 추가된다.</li>
+ *   <li>추가할 메시지의 순번이 버퍼 마지막 순번 바로 다음이 아니면(다른 노드 이벤트 유실/역전) 방 버퍼를 비우고
+ *       다음 조회에서 다시 시드한다. 따라서 버퍼 안에는 순번 구멍이 생기지 않는다.</li>
+ *   <li>DB 조회와 신규 메시지 추가가 겹치면(append 세대 변경) 시드를 포기하고 다음 조회에서 다시 시도한다.</li>
+ *   <li>시드 결과가 요청 크기보다 작으면 방의 전체 이력이 버퍼에 있는 것으로 보고({@code complete}),
+ *       버퍼에서 가장 오래된 메시지가 밀려나기 전까지 끝 페이지도 버퍼에서 응답한다.</li>
+ * </ul>
+ *
+ * <h2>축출</h2>
+ * <p>방 단위 LRU로 최대 {@code chat.recent-cache.max-rooms}개의 방만 유지한다.
+ * 전체 강퇴/방 삭제({@code ROOM_CLOSED}) 이벤트를 받으면 방 버퍼를 제거한다.</p>
+ *
+ * <h2>지표</h2>
+ * <p>{@code chat.recent_cache.requests{result=hit|miss}} 카운터로 적중률을 노출한다.</p>
+ */
+@Component
+public class ChatRecentMessageCache implements ChatClusterEventListener {
+
+    private final Map<String, RoomBuffer> rooms;
+    private final int messagesPerRoom;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ChatRecentMessageCache(
+            MeterRegistry meterRegistry,
+            @Value("${chat.recent-cache.messages-per-room:100}") int messagesPerRoom,
+            @Value("${chat.recent-cache.max-rooms:1000}") int maxRooms) {
+        this.messagesPerRoom = messagesPerRoom;
+        this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RoomBuffer> eldest) {
+                return size() > maxRooms;
+            }
+        };
+        this.hits = Counter.builder("chat.recent_cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("chat.recent_cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 버퍼에서 메시지 페이지를 조회한다.
+     *
+     * <p>{@link ChatMessageDirection#AFTER}는 커서가 버퍼 안에 있으면 그 이후의 메시지가 모두 버퍼에 있으므로
+     * 항상 버퍼로 응답한다.</p>
+     *
+     * @param roomId          채팅방 식별자
+     * @param cursorMessageId 커서 메시지 ID (null/blank면 첫 페이지)
+     * @param direction       조회 방향
+     * @param size            페이지 크기
+     * @return 버퍼로 응답 가능하면 메시지 목록(정렬은 {@code ChatService#getMessages} 규칙과 동일), 아니면 {@link Optional#empty()}
+     */
+    public Optional<List<ChatMessageResponse>> findPage(String roomId,
+                                                        String cursorMessageId,
+                                                        ChatMessageDirection direction,
+                                                        int size) {
+        RoomBuffer buffer = buffer(roomId, false);
+        List<ChatMessageResponse> page = null;
+        if (buffer != null) {
+            page = direction == ChatMessageDirection.AFTER
+                    ? buffer.pageAfter(cursorMessageId, size)
+                    : buffer.pageBefore(cursorMessageId, size);
+        }
+        if (page == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(page);
+    }
+
+    /**
+     * 버퍼에서 지정한 순번 이후의 메시지를 조회한다.
+     *
+     * <p>순번은 구멍 없이 증가하므로, 버퍼의 가장 오래된 메시지가 {@code afterSeq + 1} 이하이면
+     * 누락분 전체가 버퍼에 있는 것으로 판단한다.</p>
+     *
+     * <p>버퍼는 커밋 이후 이벤트로만 채워지므로 append를 놓치면 뒤처질 수 있다. 호출자가 아는 마지막 순번({@code lastSeq})보다
+     * 버퍼의 마지막 순번이 작고 페이지도 채우지 못하면, "새 메시지 없음"으로 답하지 않고 미스로 처리한다.</p>
+     *
+     * @param roomId   채팅방 식별자
+     * @param afterSeq 마지막으로 받은 순번
+     * @param lastSeq  커밋된 방의 마지막 순번
+     * @param size     페이지 크기
+     * @return 버퍼로 응답 가능하면 메시지 목록(순번 오름차순), 아니면 {@link Optional#empty()}
+     */
+    public Optional<List<ChatMessageResponse>> findAfterSeq(String roomId, long afterSeq, long lastSeq, int size) {
+        RoomBuffer buffer = buffer(roomId, false);
+        List<ChatMessageResponse> page = buffer == null ? null : buffer.pageAfterSeq(afterSeq, lastSeq, size);
+        if (page == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(page);
+    }
+
+    /**
+     * 버퍼에 있는 지정한 순번의 메시지 식별자를 조회한다. (읽음 처리의 (메시지 ID, 순번) 쌍 확인용)
+     *
+     * @param roomId 채팅방 식별자
+     * @param seq    방 내 메시지 순번
+     * @return 버퍼에 해당 순번이 있으면 메시지 식별자(ULID), 아니면 {@link Optional#empty()}
+     */
+    public Optional<String> findMessageId(String roomId, long seq) {
+        RoomBuffer buffer = buffer(roomId, false);
+        return Optional.ofNullable(buffer == null ? null : buffer.messageIdAt(seq));
+    }
+
+    /**
+     * DB 조회 직전에 방의 append 세대를 기록한다. {@link #seed(String, long, List, int)}에 그대로 전달한다.
+     *
+     * @param roomId 채팅방 식별자
+     * @return 현재 append 세대
+     */
+    public long appendEpoch(String roomId) {
+        return buffer(roomId, true).appendEpoch();
+    }
+
+    /**
+     * DB에서 조회한 첫 페이지로 방 버퍼를 채운다.
+     *
+     * @param roomId        채팅방 식별자
+     * @param appendEpoch   DB 조회 직전에 기록한 append 세대
+     * @param latestPage    DB 조회 결과 (최신 → 과거)
+     * @param requestedSize 요청한 페이지 크기
+     */
+    public void seed(String roomId, long appendEpoch, List<ChatMessageResponse> latestPage, int requestedSize) {
+        RoomBuffer buffer = buffer(roomId, false);
+        if (buffer != null) {
+            buffer.seed(appendEpoch, latestPage, latestPage.size() < requestedSize);
+        }
+    }
+
+    /**
+     * 전송된 메시지를 방 버퍼에 추가하고, 삭제된 방의 버퍼를 제거한다.
+     */
+    @Override
+    public void onClusterEvent(ChatClusterEvent event) {
+        switch (event.type()) {
+            case MESSAGE_APPENDED -> buffer(event.roomId(), true).append(event.message());
+            case ROOM_CLOSED -> {
+                synchronized (rooms) {
+                    rooms.remove(event.roomId());
+                }
+            }
+            default -> { }
+        }
+    }
+
+    private RoomBuffer buffer(String roomId, boolean create) {
+        synchronized (rooms) {
+            RoomBuffer buffer = rooms.get(roomId);
+            if (buffer == null && create) {
+                buffer = new RoomBuffer(messagesPerRoom);
+                rooms.put(roomId, buffer);
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * 방 하나의 최근 메시지 링 버퍼. messageId(ULID) 오름차순으로 유지한다.
+     */
+    private static final class RoomBuffer {
+        private final ChatMessageResponse[] slots;
+        private int head;
+        private int size;
+        private boolean warm;
+        private boolean complete;
+        private long appendEpoch;
+
+        RoomBuffer(int capacity) {
+            this.slots = new ChatMessageResponse[capacity];
+        }
+
+        synchronized long appendEpoch() {
+            return appendEpoch;
+        }
+
+        synchronized void seed(long epoch, List<ChatMessageResponse> latestPage, boolean wholeHistory) {
+            if (warm || epoch != appendEpoch) {
+                return;
+            }
+            head = 0;
+            size = 0;
+            for (int i = Math.min(latestPage.size(), slots.length) - 1; i >= 0; i--) {
+                slots[size++] = latestPage.get(i);
+            }
+            complete = wholeHistory && latestPage.size() <= slots.length;
+            warm = true;
+        }
+
+        synchronized void append(ChatMessageResponse message) {
+            appendEpoch++;
+            if (!warm) {
+                return;
+            }
+            int pos = size;
+            while (pos > 0 && at(pos - 1).messageId().compareTo(message.messageId()) > 0) {
+                pos--;
+            }
+            if (pos > 0 && at(pos - 1).messageId().equals(message.messageId())) {
+                return;
+            }
+            if (pos == size && size > 0 && message.seq() != null && at(size - 1).seq() != null
+                    && message.seq() != at(size - 1).seq() + 1) {
+                // 순번이 끊겼다면 중간 메시지를 놓친 것이므로 버퍼를 버리고 다시 시드한다.
+                reset();
+                return;
+            }
+            if (size == slots.length) {
+                if (pos == 0) {
+                    return; // 버퍼의 가장 오래된 메시지보다도 과거면 보관하지 않는다.
+                }
+                head = (head + 1) % slots.length;
+                size--;
+                pos--;
+                complete = false;
+            }
+            for (int i = size; i > pos; i--) {
+                set(i, at(i - 1));
+            }
+            set(pos, message);
+            size++;
+        }
+
+        private void reset() {
+            Arrays.fill(slots, null);
+            head = 0;
+            size = 0;
+            warm = false;
+            complete = false;
+        }
+
+        /**
+         * 커서 이전(더 과거) 메시지를 최신 → 과거 순으로 반환한다. 버퍼로 응답할 수 없으면 null.
+         */
+        synchronized List<ChatMessageResponse> pageBefore(String cursorMessageId, int pageSize) {
+            if (!warm) {
+                return null;
+            }
+            int end = size;
+            if (cursorMessageId != null && !cursorMessageId.isBlank()) {
+                end = indexOf(cursorMessageId);
+                if (end < 0) {
+                    return null;
+                }
+            }
+            if (end < pageSize && !complete) {
+                return null;
+            }
+            int from = Math.max(0, end - pageSize);
+            List<ChatMessageResponse> page = new ArrayList<>(end - from);
+            for (int i = end - 1; i >= from; i--) {
+                page.add(at(i));
+            }
+            return page;
+        }
+
+        /**
+         * 커서 이후(더 최신) 메시지를 과거 → 최신 순으로 반환한다. 버퍼로 응답할 수 없으면 null.
+         */
+        synchronized List<ChatMessageResponse> pageAfter(String cursorMessageId, int pageSize) {
+            if (!warm || cursorMessageId == null || cursorMessageId.isBlank()) {
+                return null;
+            }
+            int from = indexOf(cursorMessageId);
+            if (from < 0) {
+                return null;
+            }
+            int to = Math.min(size, from + 1 + pageSize);
+            List<ChatMessageResponse> page = new ArrayList<>(to - from - 1);
+            for (int i = from + 1; i < to; i++) {
+                page.add(at(i));
+            }
+            return page;
+        }
+
+        /**
+         * 순번이 {@code afterSeq}보다 큰 메시지를 순번 오름차순으로 반환한다. 버퍼로 응답할 수 없으면 null.
+         */
+        synchronized List<ChatMessageResponse> pageAfterSeq(long afterSeq, long lastSeq, int pageSize) {
+            if (!warm) {
+                return null;
+            }
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (seqOf(at(mid)) <= afterSeq) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            // 버퍼 앞쪽이 잘려 나갔다면, 가장 오래된 메시지가 바로 다음 순번일 때만 연속 구간이다.
+            if (lo == 0 && size > 0 && !complete && seqOf(at(0)) != afterSeq + 1) {
+                return null;
+            }
+            if (size == 0 && !complete) {
+                return null;
+            }
+            int to = Math.min(size, lo + pageSize);
+            // 버퍼 꼬리가 커밋된 마지막 순번에 못 미치면 append를 놓친 것이므로 페이지가 찬 경우에만 응답한다.
+            long tailSeq = size == 0 ? 0L : seqOf(at(size - 1));
+            if (tailSeq < lastSeq && to - lo < pageSize) {
+                return null;
+            }
+            List<ChatMessageResponse> page = new ArrayList<>(to - lo);
+            for (int i = lo; i < to; i++) {
+                page.add(at(i));
+            }
+            return page;
+        }
+
+        /**
+         * 지정한 순번의 메시지 식별자를 반환한다. 버퍼에 없으면 null.
+         */
+        synchronized String messageIdAt(long seq) {
+            if (!warm) {
+                return null;
+            }
+            int lo = 0;
+            int hi = size - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                long midSeq = seqOf(at(mid));
+                if (midSeq == seq) {
+                    return at(mid).messageId();
+                }
+                if (midSeq < seq) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return null;
+        }
+
+        private static long seqOf(ChatMessageResponse message) {
+            return message.seq() == null ? 0L : message.seq();
+        }
+
+        private int indexOf(String messageId) {
+            int lo = 0;
+            int hi = size - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int cmp = at(mid).messageId().compareTo(messageId);
+                if (cmp == 0) {
+                    return mid;
+                }
+                if (cmp < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return -1;
+        }
+
+        private ChatMessageResponse at(int i) {
+            return slots[(head + i) % slots.length];
+        }
+
+        private void set(int i, ChatMessageResponse message) {
+            slots[(head + i) % slots.length] = message;
+        }
+    }
+}
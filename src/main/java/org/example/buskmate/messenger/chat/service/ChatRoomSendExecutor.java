@@ -0,0 +1,132 @@
+package org.example.buskmate.messenger.chat.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 단위 순서 보장 전송 실행기.
+ *
+ * <p>STOMP 인바운드 메시지는 {@code clientInboundChannel} 스레드 풀에서 처리되므로, 여러 세션의 같은 방 전송이
+ * 뒤섞여 저장/브로드캐스트될 수 있고 DB 왕복 동안 풀 스레드를 점유한다.
+ * 이 실행기는 roomId를 해시하여 고정된 스트라이프(stripe)에 작업을 배정한다.
+ * (한 세션 안의 순서는 {@code preserveReceiveOrder}로 제출 시점까지 유지된다)</p>
+ *
+ * <ul>
+ *   <li>같은 방의 작업은 항상 같은 스트라이프에서 제출 순서대로 하나씩 실행된다.</li>
+ *   <li>서로 다른 스트라이프는 병렬로 실행된다.</li>
+ *   <li>스트라이프마다 가상 스레드 1개와 크기가 제한된 대기열을 둔다.</li>
+ *   <li>작업의 예외는 기록만 하므로, 요청자에게 알릴 실패는 작업 안에서 처리해야 한다.</li>
+ * </ul>
+ *
+ * <h2>설정</h2>
+ * <ul>
+ *   <li>{@code chat.send-executor.stripes}: 스트라이프 수 (기본 64)</li>
+ *   <li>{@code chat.send-executor.queue-capacity}: 스트라이프별 대기열 크기 (가득 차면 전송을 거부한다)</li>
+ * </ul>
+ *
+ * <h2>지표</h2>
+ * <ul>
+ *   <li>{@code chat.send_executor.queue_depth{stripe}}: 스트라이프별 대기 작업 수</li>
+ *   <li>{@code chat.send_executor.dispatch_latency}: 제출부터 실행 시작까지의 대기 시간</li>
+ *   <li>{@code chat.send_executor.execution}: 작업 실행 시간</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ChatRoomSendExecutor {
+
+    private final Stripe[] stripes;
+    private final Timer dispatchLatency;
+    private final Timer execution;
+    private volatile boolean running = true;
+
+    public ChatRoomSendExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${chat.send-executor.stripes:64}") int stripeCount,
+            @Value("${chat.send-executor.queue-capacity:1024}") int queueCapacity) {
+        this.dispatchLatency = Timer.builder("chat.send_executor.dispatch_latency").register(meterRegistry);
+        this.execution = Timer.builder("chat.send_executor.execution").register(meterRegistry);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            Stripe stripe = new Stripe(new ArrayBlockingQueue<>(queueCapacity));
+            Gauge.builder("chat.send_executor.queue_depth", stripe.queue, BlockingQueue::size)
+                    .tag("stripe", String.valueOf(i))
+                    .register(meterRegistry);
+            stripe.worker = Thread.ofVirtual().name("chat-send-" + i).start(() -> runLoop(stripe));
+            stripes[i] = stripe;
+        }
+    }
+
+    /**
+     * 방의 스트라이프에 작업을 제출한다.
+     *
+     * @param roomId 채팅방 식별자(외부 노출용)
+     * @param task   실행할 작업
+     * @throws IllegalStateException 실행기가 종료되었거나 스트라이프 대기열이 가득 찬 경우
+     */
+    public void execute(String roomId, Runnable task) {
+        if (!running) {
+            throw new IllegalStateException("메시지 전송 실행기가 동작 중이 아닙니다.");
+        }
+        Stripe stripe = stripes[Math.floorMod(roomId.hashCode(), stripes.length)];
+        if (!stripe.queue.offer(new Task(task, System.nanoTime()))) {
+            throw new IllegalStateException("메시지 전송 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void runLoop(Stripe stripe) {
+        while (running || !stripe.queue.isEmpty()) {
+            Task task;
+            try {
+                task = stripe.queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+            long started = System.nanoTime();
+            dispatchLatency.record(started - task.submittedAt(), TimeUnit.NANOSECONDS);
+            try {
+                task.runnable().run();
+            } catch (RuntimeException e) {
+                log.warn("[CHAT] send task failed - thread={}", Thread.currentThread().getName(), e);
+            } finally {
+                execution.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * 새 작업 제출을 막고, 대기열에 남은 작업을 모두 처리한 뒤 종료한다.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        for (Stripe stripe : stripes) {
+            stripe.worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private static final class Stripe {
+        private final BlockingQueue<Task> queue;
+        private Thread worker;
+
+        Stripe(BlockingQueue<Task> queue) {
+            this.queue = queue;
+        }
+    }
+
+    private record Task(Runnable runnable, long submittedAt) {
+    }
+}
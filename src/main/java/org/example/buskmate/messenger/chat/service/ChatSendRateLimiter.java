@@ -0,0 +1,188 @@
+package org.example.buskmate.messenger.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.buskmate.messenger.chat.exception.ChatRateLimitExceededException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * STOMP 메시지 전송 속도 제한기. (사용자 단위 + 채팅방 단위 토큰 버킷)
+ *
+ * <p>버킷 하나는 {@link AtomicLong} 하나(“버킷이 다시 가득 차는 시각”, GCRA의 TAT)로 표현한다.
+ * 토큰 충전은 별도 스레드 없이 요청 시점의 시각 차이로 계산하고, 소모는 CAS 한 번으로 끝나므로 락이 없다.</p>
+ *
+ * <ul>
+ *   <li>초당 {@code per-second}개씩 충전되고, 최대 {@code burst}개까지 연속 전송할 수 있다.</li>
+ *   <li>사용자 한도를 먼저 확인하고 방 한도를 확인한다. 방 한도로 거절된 전송도 사용자 토큰은 소모한다.</li>
+ * </ul>
+ *
+ * <h2>유휴 키 정리</h2>
+ * <p>가득 찬 버킷은 새로 만든 버킷과 같으므로 지워도 제한 결과가 바뀌지 않는다.
+ * 최대 1초에 한 번, 그 시점에 들어온 요청 스레드 하나가 {@code chat.rate-limit.idle-evict-ms} 동안 가득 차 있던 버킷을
+ * 훑어 제거한다. 키 수가 {@code chat.rate-limit.max-keys}를 넘었으면 그 정리에서 가득 찬 버킷을 모두 제거한다.</p>
+ *
+ * <p>정리는 버킷의 TAT를 CAS로 {@code EVICTED}로 바꾼 뒤에만 맵에서 뺀다. 그 사이 토큰을 소모한 요청이 있으면 CAS가 실패해
+ * 버킷이 남고, 반대로 제거된 버킷을 잡고 있던 요청은 {@code EVICTED}를 보고 새 버킷으로 다시 시도한다.
+ * (제거된 버킷에서 소모한 토큰이 사라져 한도를 넘는 일이 없다)</p>
+ *
+ * <h2>지표</h2>
+ * <ul>
+ *   <li>{@code chat.rate_limit.rejected{scope=user|room}}: 거절된 전송 수</li>
+ *   <li>{@code chat.rate_limit.keys{scope=user|room}}: 추적 중인 키 수</li>
+ * </ul>
+ *
+ * <p><b>주의:</b> 상태는 노드 로컬이다. 여러 노드를 운영하면 한도는 노드별로 적용된다.</p>
+ */
+@Component
+public class ChatSendRateLimiter {
+
+    /** 정리로 제거된 버킷의 TAT. 이 값을 본 요청은 맵에서 새 버킷을 받아 다시 시도한다. */
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final LongSupplier nanoClock;
+    private final boolean enabled;
+    private final Limit userLimit;
+    private final Limit roomLimit;
+    private final long idleEvictNanos;
+    private final long sweepIntervalNanos;
+    private final int maxKeys;
+
+    private final ConcurrentHashMap<String, AtomicLong> users = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepAt;
+
+    private final Counter userRejected;
+    private final Counter roomRejected;
+
+    @Autowired
+    public ChatSendRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${chat.rate-limit.enabled:true}") boolean enabled,
+            @Value("${chat.rate-limit.user.per-second:5}") double userPerSecond,
+            @Value("${chat.rate-limit.user.burst:20}") int userBurst,
+            @Value("${chat.rate-limit.room.per-second:50}") double roomPerSecond,
+            @Value("${chat.rate-limit.room.burst:100}") int roomBurst,
+            @Value("${chat.rate-limit.idle-evict-ms:60000}") long idleEvictMs,
+            @Value("${chat.rate-limit.max-keys:100000}") int maxKeys) {
+        this(meterRegistry, System::nanoTime, enabled, userPerSecond, userBurst, roomPerSecond, roomBurst, idleEvictMs, maxKeys);
+    }
+
+    /**
+     * @param nanoClock 단조 증가 시계({@link System#nanoTime()}과 같은 단위, 테스트에서 교체)
+     */
+    ChatSendRateLimiter(MeterRegistry meterRegistry, LongSupplier nanoClock, boolean enabled,
+                        double userPerSecond, int userBurst, double roomPerSecond, int roomBurst,
+                        long idleEvictMs, int maxKeys) {
+        this.nanoClock = nanoClock;
+        this.enabled = enabled;
+        this.userLimit = Limit.of(userPerSecond, userBurst);
+        this.roomLimit = Limit.of(roomPerSecond, roomBurst);
+        this.idleEvictNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictMs);
+        this.maxKeys = maxKeys;
+        this.sweepIntervalNanos = Math.min(idleEvictNanos, TimeUnit.SECONDS.toNanos(1));
+        this.nextSweepAt = new AtomicLong(nanoClock.getAsLong() + sweepIntervalNanos);
+
+        this.userRejected = Counter.builder("chat.rate_limit.rejected").tag("scope", "user").register(meterRegistry);
+        this.roomRejected = Counter.builder("chat.rate_limit.rejected").tag("scope", "room").register(meterRegistry);
+        Gauge.builder("chat.rate_limit.keys", users, ConcurrentHashMap::size).tag("scope", "user").register(meterRegistry);
+        Gauge.builder("chat.rate_limit.keys", rooms, ConcurrentHashMap::size).tag("scope", "room").register(meterRegistry);
+    }
+
+    /**
+     * 사용자와 채팅방의 전송 토큰을 하나씩 소모한다.
+     *
+     * @param userId 보내는 사용자 식별자
+     * @param roomId 채팅방 식별자
+     * @throws ChatRateLimitExceededException 어느 한 쪽이라도 한도를 넘은 경우
+     */
+    public void acquire(String userId, String roomId) {
+        if (!enabled) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        maybeEvict(now);
+
+        long wait = tryAcquire(users, userId, userLimit, now);
+        if (wait > 0) {
+            userRejected.increment();
+            throw new ChatRateLimitExceededException("메시지를 너무 빠르게 보내고 있습니다.", roomId, toMillis(wait));
+        }
+        wait = tryAcquire(rooms, roomId, roomLimit, now);
+        if (wait > 0) {
+            roomRejected.increment();
+            throw new ChatRateLimitExceededException("채팅방에 메시지가 너무 많습니다. 잠시 후 다시 시도해 주세요.", roomId, toMillis(wait));
+        }
+    }
+
+    /**
+     * 토큰 하나를 소모한다.
+     *
+     * @return 허용되면 0, 거절되면 토큰이 생길 때까지 남은 시간(ns)
+     */
+    private static long tryAcquire(ConcurrentHashMap<String, AtomicLong> buckets, String key, Limit limit, long now) {
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long tat = bucket.get();
+            if (tat == EVICTED) {
+                buckets.remove(key, bucket);
+                bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+                continue;
+            }
+            long base = tat - now > 0 ? tat : now; // 그동안 충전된 토큰은 “과거의 TAT”로 표현된다.
+            long wait = base - now - limit.toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, base + limit.intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    private void maybeEvict(long now) {
+        long next = nextSweepAt.get();
+        if (now - next < 0 || !nextSweepAt.compareAndSet(next, now + sweepIntervalNanos)) {
+            return; // 아직 주기가 안 됐거나 다른 스레드가 정리 중
+        }
+        // 용량 초과 시에는 가득 찬 버킷(TAT <= now)을 모두, 평상시에는 idle-evict 동안 가득 차 있던 버킷만 지운다.
+        boolean overCapacity = users.size() + rooms.size() > maxKeys;
+        long cutoff = overCapacity ? now : now - idleEvictNanos;
+        users.values().removeIf(bucket -> evict(bucket, cutoff));
+        rooms.values().removeIf(bucket -> evict(bucket, cutoff));
+    }
+
+    /**
+     * {@code cutoff} 이전부터 가득 차 있던 버킷을 제거 상태로 바꾼다. 그 사이 토큰이 소모되었으면 실패한다.
+     */
+    private static boolean evict(AtomicLong bucket, long cutoff) {
+        long tat = bucket.get();
+        return tat != EVICTED && tat - cutoff <= 0 && bucket.compareAndSet(tat, EVICTED);
+    }
+
+    private static long toMillis(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * @param intervalNanos  토큰 하나가 충전되는 간격
+     * @param toleranceNanos 미리 당겨 쓸 수 있는 시간 ((burst - 1) * interval)
+     */
+    private record Limit(long intervalNanos, long toleranceNanos) {
+
+        static Limit of(double perSecond, int burst) {
+            if (perSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("chat.rate-limit 설정값이 올바르지 않습니다.");
+            }
+            long interval = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+            return new Limit(interval, interval * (burst - 1));
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package org.example.buskmate.messenger.chat.service;
 
 import org.example.buskmate.messenger.chat.domain.ChatMessage;
+import org.example.buskmate.messenger.chat.dto.ChatMessageDirection;
 import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.chat.dto.ChatSyncCursor;
 import org.example.buskmate.messenger.room.domain.ChatRoom;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * 채팅 메시지 도메인 서비스 인터페이스.
@@ -34,39 +38,110 @@ public interface ChatService {
     /**
      * 채팅방의 메시지 목록을 커서 기반으로 조회한다.
      *
-     * <p>조회는 “삭제되지 않은 메시지”만 대상으로 하며, 내부 PK({@code id})를 기준으로
-     * 키셋(커서) 페이지네이션을 수행한다.</p>
+     * <p>조회는 “삭제되지 않은 메시지”만 대상으로 하며, 외부 노출용 메시지 식별자({@code messageId}, ULID)를
+     * 그대로 키셋 커서로 사용한다. 따라서 페이지 1회 조회는 인덱스 범위 조회 1회로 끝난다.</p>
      *
      * <h2>커서 규칙</h2>
      * <ul>
-     *   <li>{@code cursorPk == null}: 최초 페이지(최신 메시지부터)</li>
-     *   <li>{@code cursorPk != null}: {@code id < cursorPk} 조건으로 더 과거 메시지를 조회</li>
+     *   <li>{@code cursorMessageId == null}: 최초 페이지(최신 메시지부터, {@code BEFORE}만 허용)</li>
+     *   <li>{@link ChatMessageDirection#BEFORE}: {@code messageId < cursor}, 최신 → 과거 순</li>
+     *   <li>{@link ChatMessageDirection#AFTER}: {@code messageId > cursor}, 과거 → 최신 순</li>
      * </ul>
      *
-     * <h2>정렬</h2>
-     * <p>최신 → 과거 순(내림차순)으로 반환한다.</p>
+     * @param room            채팅방 (참조 프록시 가능)
+     * @param roomId          채팅방 식별자(외부 노출용, 응답 DTO 매핑용)
+     * @param cursorMessageId 커서 메시지 ID (null 가능)
+     * @param direction       조회 방향
+     * @param size            조회할 메시지 개수(페이지 크기)
+     * @return 메시지 응답 DTO 목록
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않거나, 커서 없이 {@code AFTER}를 요청한 경우
+     */
+    List<ChatMessageResponse> getMessages(ChatRoom room,
+                                          String roomId,
+                                          String cursorMessageId,
+                                          ChatMessageDirection direction,
+                                          int size);
+
+    /**
+     * 채팅방에서 지정한 순번 이후의 메시지를 순번 오름차순으로 조회한다.
      *
-     * @param roomId   채팅방 식별자(외부 노출용)
-     * @param cursorPk 커서로 사용할 메시지 내부 PK (null 가능)
-     * @param size     조회할 메시지 개수(페이지 크기)
-     * @return 메시지 응답 DTO 목록(최신 → 과거 순)
-     * @throws IllegalArgumentException roomId가 null/blank 이거나 size가 비정상 값인 경우(구현 정책에 따름)
+     * <p>재연결한 클라이언트가 마지막으로 받은 {@code seq} 이후의 누락분을 받아갈 때 사용한다.
+     * 순번은 구멍 없이 증가하므로 결과가 {@code size}보다 적으면 누락분을 모두 받은 것이다.</p>
+     *
+     * @param room     채팅방 (참조 프록시 가능)
+     * @param roomId   채팅방 식별자(외부 노출용, 응답 DTO 매핑용)
+     * @param afterSeq 마지막으로 받은 순번 (결과에 포함되지 않음)
+     * @param size     조회할 메시지 개수
+     * @return 메시지 응답 DTO 목록 (순번 오름차순)
      */
-    List<ChatMessageResponse> getMessages(String roomId, Long cursorPk, int size);
+    List<ChatMessageResponse> getMessagesAfterSeq(ChatRoom room, String roomId, long afterSeq, int size);
 
+    /**
+     * 여러 채팅방의 “기준 순번 이후” 메시지를 한 번에 조회한다. (다중 방 동기화)
+     *
+     * @param cursors      방별 조회 기준 (멤버십 검증이 끝난 방만 전달해야 한다)
+     * @param limitPerRoom 방별 최대 메시지 수
+     * @return 방 PK → 메시지 목록(순번 오름차순). 새 메시지가 없는 방은 포함되지 않는다.
+     */
+    Map<Long, List<ChatMessageResponse>> getMessagesAfterSeq(List<ChatSyncCursor> cursors, int limitPerRoom);
 
     /**
-     * 외부 노출용 메시지 식별자({@code messageId})를 내부 PK 커서({@code id})로 변환한다.
+     * 채팅방에서 지정한 순번들의 메시지를 조회한다. (검색 후보 대조용)
      *
-     * <p>클라이언트가 커서로 {@code messageId}(예: ULID)를 들고 있을 때,
-     * DB 조회를 위한 내부 PK({@code Long})로 변환하는 용도로 사용한다.</p>
+     * @param room   채팅방 (참조 프록시 가능)
+     * @param roomId 채팅방 식별자(외부 노출용, 응답 DTO 매핑용)
+     * @param seqs   조회할 순번 목록
+     * @return 메시지 응답 DTO 목록 (순번 내림차순, 삭제된 메시지 제외)
+     */
+    List<ChatMessageResponse> getMessagesBySeqs(ChatRoom room, String roomId, List<Long> seqs);
+
+    /**
+     * 메시지 식별자(ULID)로 방 내 순번을 조회한다. (검색 커서 변환용)
      *
-     * <p>변환 대상은 “해당 채팅방에 속하면서 삭제되지 않은 메시지”로 한정한다.</p>
+     * @param room      채팅방 (참조 프록시 가능)
+     * @param messageId 메시지 식별자
+     * @return 순번 (메시지가 없으면 {@link Optional#empty()})
+     */
+    Optional<Long> findSeq(ChatRoom room, String messageId);
+
+    /**
+     * 순번 구간 {@code (afterSeq, beforeSeq)}에서 본문에 검색어가 포함된 메시지를 최신순으로 조회한다.
+     * (검색 색인이 아직 반영하지 못한 최근 구간용)
+     *
+     * <p>본문이 압축 저장되는 보관 테이블은 대상이 아니다. 비교는 DB 콜레이션을 따르므로 호출자는 결과를 원문과 다시 대조해야 하며,
+     * 결과가 {@code limit}건이면 마지막 순번을 상한으로 다시 조회한다.</p>
+     *
+     * @param room      채팅방 (참조 프록시 가능)
+     * @param roomId    채팅방 식별자(외부 노출용, 응답 DTO 매핑용)
+     * @param keyword   검색어
+     * @param afterSeq  하한 순번 (결과에 포함되지 않음)
+     * @param beforeSeq 상한 순번 (결과에 포함되지 않음)
+     * @param limit     최대 건수
+     * @return 메시지 응답 DTO 목록 (순번 내림차순, 삭제된 메시지 제외)
+     */
+    List<ChatMessageResponse> searchBetweenSeqs(ChatRoom room,
+                                                String roomId,
+                                                String keyword,
+                                                long afterSeq,
+                                                long beforeSeq,
+                                                int limit);
+
+    /**
+     * 조회되지 않는 순번 중 삭제가 확정된 순번을 고른다. (검색 색인 tombstone용)
+     *
+     * <p>삭제 표시된 메시지와, 보관 구간에 있지만 보관 테이블에 없는(삭제되어 옮겨지지 않은) 메시지가 해당한다.
+     * 아직 저장되지 않은(write-behind) 메시지는 포함되지 않는다.</p>
+     *
+     * @param room 채팅방 (참조 프록시 가능)
+     * @param seqs {@link #getMessagesBySeqs(ChatRoom, String, List)}로 조회되지 않은 순번 목록
+     * @return 삭제된 메시지 순번
+     */
+    List<Long> findDeletedSeqs(ChatRoom room, List<Long> seqs);
+
+    /**
+     * 채팅방에 순번 없는(순번 도입 이전) 메시지가 남았는지 확인한다.
      *
-     * @param roomId    채팅방 식별자(외부 노출용)
-     * @param messageId 메시지 식별자(외부 노출용)
-     * @return 내부 PK 커서 값
-     * @throws IllegalArgumentException messageId가 유효하지 않거나(없거나/삭제됨/방 불일치) 변환 불가한 경우(구현 정책에 따름)
+     * @param room 채팅방 (참조 프록시 가능)
      */
-    Long getCursorPk(String roomId, String messageId);
+    boolean hasUnsequencedMessages(ChatRoom room);
 }
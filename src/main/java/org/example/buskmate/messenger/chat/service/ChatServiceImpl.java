@@ -1,16 +1,29 @@
 package org.example.buskmate.messenger.chat.service;
 
-import com.github.f4b6a3.ulid.UlidCreator;
+import com.github.f4b6a3.ulid.Ulid;
 import lombok.RequiredArgsConstructor;
 import org.example.buskmate.messenger.chat.domain.ChatMessage;
+import org.example.buskmate.messenger.chat.dto.ChatArchivedRange;
+import org.example.buskmate.messenger.chat.dto.ChatMessageDirection;
 import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.chat.dto.ChatSyncCursor;
+import org.example.buskmate.messenger.chat.repository.ChatMessageArchiveJdbcRepository;
+import org.example.buskmate.messenger.chat.repository.ChatMessageJdbcRepository;
 import org.example.buskmate.messenger.chat.repository.ChatMessageRepository;
 import org.example.buskmate.messenger.room.domain.ChatRoom;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 
 /**
@@ -24,18 +37,38 @@ import java.util.List;
  *   <li>{@link ChatMessage} 엔티티를 생성한 뒤 {@link ChatMessageRepository}를 통해 저장한다.</li>
  * </ul>
  *
- * <p><b>트랜잭션:</b> 메시지 생성과 저장을 하나의 트랜잭션으로 처리한다.</p>
+ * <p><b>트랜잭션:</b> 메시지 저장은 이 클래스가 트랜잭션 경계가 된다. 즉시 저장 모드는 순번 예약과 INSERT를 하나의 트랜잭션으로,
+ * write-behind 모드는 순번 예약만 짧은 트랜잭션으로 처리한다.</p>
+ *
+ * <p><b>write-behind:</b> {@link ChatMessageWriteBehindBuffer}가 활성화되어 있으면
+ * 메시지를 즉시 INSERT하지 않고 대기열 자리만 확보한 뒤 반환한다. 메시지는 커밋 이후 대기열에 들어가고,
+ * 배치 저장은 버퍼가 담당한다.</p>
+ *
+ * <p><b>보관:</b> 오래된 메시지는 {@link ChatMessageArchiver}가 {@code chat_message_archive}로 옮긴다.
+ * 조회 메서드는 핫 테이블로 채우지 못한 구간만 보관 테이블에서 이어 붙여, 호출자는 저장 위치를 신경 쓰지 않는다.</p>
  */
 @Service
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService{
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final ChatMessageSeqAllocator seqAllocator;
+    private final ChatMessageArchiveJdbcRepository archiveRepository;
+    private final ChatMessageArchiver archiver;
+    private final TransactionTemplate transactionTemplate;
 
 
     /**
      * {@inheritDoc}
      *
-     * <p>메시지 식별자({@code messageId})는 ULID로 생성한다.</p>
+     * <p>방 내 순번({@code seq})과 메시지 식별자(단조 증가 ULID)는 {@link ChatMessageSeqAllocator}에서 함께 예약한다.</p>
+     * <ul>
+     *   <li>즉시 저장: 순번 예약과 INSERT를 하나의 트랜잭션으로 처리해 순번이 구멍 없이 증가한다.
+     *       INSERT가 순번 충돌로 실패하면 롤백 후 카운터를 보정한다.</li>
+     *   <li>write-behind: 순번만 짧은 트랜잭션으로 먼저 확정하고(동시 전송은 묶어서 예약) 메시지는 대기열에 넣는다.
+     *       반환된 엔티티의 내부 PK({@code id})는 채워지지 않는다.</li>
+     * </ul>
      *
      * @param room     메시지가 속할 채팅방
      * @param senderId 발신자 식별자
@@ -43,25 +76,31 @@ public class ChatServiceImpl implements ChatService{
      * @return 저장된 {@link ChatMessage}
      */
     @Override
-    @Transactional
     public ChatMessage save(ChatRoom room, String senderId, String content) {
-        String messageId = UlidCreator.getUlid().toString();
-        return chatMessageRepository.save(new ChatMessage(messageId, room, senderId, content));
+        if (writeBehindBuffer.isEnabled()) {
+            ChatMessageSeqAllocator.Reservation reserved = seqAllocator.reserveDetached(room.getId());
+            ChatMessage message = new ChatMessage(reserved.messageId(), room, reserved.seq(), senderId, content);
+            writeBehindBuffer.enqueue(message);
+            return message;
+        }
+        return transactionTemplate.execute(status -> {
+            ChatMessageSeqAllocator.Reservation reserved = seqAllocator.reserve(room.getId());
+            ChatMessage message = new ChatMessage(reserved.messageId(), room, reserved.seq(), senderId, content);
+            try {
+                return chatMessageRepository.save(message);
+            } catch (DataIntegrityViolationException e) {
+                // 카운터가 저장된 순번보다 뒤처진 경우: 롤백 후 카운터를 보정해 다음 전송부터는 충돌하지 않게 한다.
+                seqAllocator.reseedAfterRollback(room.getId());
+                throw e;
+            }
+        });
     }
 
 
     /**
      * {@inheritDoc}
      *
-     * <p>특정 채팅방의 메시지 목록을 커서 기반(키셋) 페이지네이션으로 조회한다.</p>
-     *
-     * <h2>조회/정렬 규칙</h2>
-     * <ul>
-     *   <li>삭제되지 않은 메시지({@code deletedAt is null})만 조회한다.</li>
-     *   <li>{@code cursorPk == null}이면 최신 메시지부터 조회한다.</li>
-     *   <li>{@code cursorPk != null}이면 {@code id < cursorPk} 조건으로 더 과거 메시지를 조회한다.</li>
-     *   <li>정렬은 내부 PK 기준 내림차순(최신 → 과거)이다.</li>
-     * </ul>
+     * <p>특정 채팅방의 메시지 목록을 {@code (room_id, message_id)} 키셋 페이지네이션으로 조회한다.</p>
      *
      * <h2>페이징</h2>
      * <p>{@link PageRequest#of(int, int)}를 사용해 조회 개수({@code size})를 제한한다.
@@ -71,20 +110,220 @@ public class ChatServiceImpl implements ChatService{
      * <p>{@link ChatMessage} 엔티티를 {@link ChatMessageResponse}로 매핑한다.
      * {@code roomId}는 조인으로부터 재조회하지 않고, 입력 파라미터 값을 그대로 사용한다.</p>
      *
-     * @param roomId   채팅방 식별자(외부 노출용)
-     * @param cursorPk 내부 PK 커서(null 가능)
-     * @param size     조회 개수(페이지 크기)
-     * @return 메시지 응답 DTO 목록(최신 → 과거 순)
+     * <h2>보관분</h2>
+     * <ul>
+     *   <li>BEFORE: 핫 테이블 결과가 {@code size}보다 적고 방에 보관분이 있을 때만 나머지를 보관 테이블에서 이어서 조회한다.</li>
+     *   <li>AFTER: 커서(ULID) 시각이 보관 기준보다 오래된 경우에만 보관 테이블을 먼저 조회한다.</li>
+     * </ul>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getMessages(ChatRoom room,
+                                                 String roomId,
+                                                 String cursorMessageId,
+                                                 ChatMessageDirection direction,
+                                                 int size) {
+        String cursor = normalizeCursor(cursorMessageId);
+        PageRequest limit = PageRequest.of(0, size);
+
+        List<ChatMessage> messages;
+        if (direction == ChatMessageDirection.AFTER) {
+            if (cursor == null) {
+                throw new IllegalArgumentException("AFTER 조회에는 커서가 필요합니다.");
+            }
+            if (archiver.mayBeArchived(Ulid.from(cursor).getInstant())) {
+                return getArchivedAfter(room, roomId, cursor, size);
+            }
+            messages = chatMessageRepository.findAfterCursor(room, cursor, limit);
+        } else {
+            messages = chatMessageRepository.findBeforeCursor(room, cursor, limit);
+            if (messages.size() < size && archiver.archivedRange(room.getId()).hasAny()) {
+                // 핫 테이블이 바닥났으면 보관분에서 이어서 채운다.
+                String archiveCursor = messages.isEmpty() ? cursor : messages.getLast().getMessageId();
+                List<ChatMessageResponse> result = new ArrayList<>(toResponses(roomId, messages));
+                result.addAll(archiveRepository.findBefore(room.getId(), roomId, archiveCursor, size - messages.size()));
+                return result;
+            }
+        }
+
+        return toResponses(roomId, messages);
+    }
+
+    private List<ChatMessageResponse> getArchivedAfter(ChatRoom room, String roomId, String cursor, int size) {
+        List<ChatMessageResponse> result = new ArrayList<>(archiveRepository.findAfter(room.getId(), roomId, cursor, size));
+        if (result.size() < size) {
+            String hotCursor = result.isEmpty() ? cursor : result.getLast().messageId();
+            result.addAll(toResponses(roomId,
+                    chatMessageRepository.findAfterCursor(room, hotCursor, PageRequest.of(0, size - result.size()))));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@code (room_id, seq)} 유니크 인덱스 위의 범위 조회 1회로 처리한다.
+     * 순번은 구멍이 없으므로, 첫 결과가 {@code afterSeq + 1}이 아니고 기준 순번이 보관된 구간이면
+     * 그 앞 구간을 보관 테이블에서 채운다.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getMessagesAfterSeq(ChatRoom room, String roomId, long afterSeq, int size) {
+        List<ChatMessageResponse> hot =
+                toResponses(roomId, chatMessageRepository.findAfterSeq(room, afterSeq, PageRequest.of(0, size)));
+        return withArchivedPrefix(room.getId(), roomId, afterSeq, hot, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@link ChatMessageJdbcRepository#findAfterSeqByRooms(List, int)}로 방 목록 전체를 {@code UNION ALL} 조회 1회로 처리한다.
+     * 기준 순번이 이미 보관된 구간인 방만 보관 테이블을 추가로 조회한다.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<ChatMessageResponse>> getMessagesAfterSeq(List<ChatSyncCursor> cursors, int limitPerRoom) {
+        if (cursors.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<ChatMessageResponse>> result = chatMessageJdbcRepository.findAfterSeqByRooms(cursors, limitPerRoom);
+        for (ChatSyncCursor cursor : cursors) {
+            List<ChatMessageResponse> hot = result.getOrDefault(cursor.roomPk(), List.of());
+            List<ChatMessageResponse> merged =
+                    withArchivedPrefix(cursor.roomPk(), cursor.roomId(), cursor.afterSeq(), hot, limitPerRoom);
+            if (!merged.isEmpty()) {
+                result.put(cursor.roomPk(), merged);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 핫 테이블 결과 앞에 빠진 순번 구간이 있으면 보관 테이블에서 채워 넣는다.
+     *
+     * <p>보관 테이블은 기준 순번이 방의 보관된 마지막 순번보다 작을 때만 조회한다.
+     * 새 메시지가 없는(빈 결과) 일반적인 재연결은 캐시된 보관 범위만 보고 끝난다.
+     * 핫 결과에 캐시로 설명되지 않는 구멍이 있으면 다른 노드가 그 사이 보관한 것이므로 범위를 다시 읽는다.</p>
+     *
+     * @param hot 핫 테이블 조회 결과 (순번 오름차순)
+     * @return 순번 오름차순 결과 (최대 {@code size}건)
+     */
+    private List<ChatMessageResponse> withArchivedPrefix(Long roomPk,
+                                                         String roomId,
+                                                         long afterSeq,
+                                                         List<ChatMessageResponse> hot,
+                                                         int size) {
+        Long firstSeq = hot.isEmpty() ? null : hot.getFirst().seq();
+        if (firstSeq != null && firstSeq == afterSeq + 1) {
+            return hot;
+        }
+        ChatArchivedRange range = archiver.archivedRange(roomPk);
+        if (afterSeq >= range.maxSeq() && firstSeq != null) {
+            range = archiver.reloadArchivedRange(roomPk);
+        }
+        if (afterSeq >= range.maxSeq()) {
+            return hot;
+        }
+        List<ChatMessageResponse> archived = archiveRepository.findAfterSeq(roomPk, roomId, afterSeq, size);
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<ChatMessageResponse> merged = new ArrayList<>(size);
+        for (ChatMessageResponse message : archived) {
+            if (firstSeq == null || message.seq() < firstSeq) {
+                merged.add(message);
+            }
+        }
+        for (ChatMessageResponse message : hot) {
+            if (merged.size() >= size) {
+                break;
+            }
+            merged.add(message);
+        }
+        return merged;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>핫 테이블에서 찾지 못한 순번만 보관 테이블에서 조회한다.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getMessagesBySeqs(ChatRoom room, String roomId, List<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return List.of();
+        }
+        List<ChatMessageResponse> result = new ArrayList<>(toResponses(roomId, chatMessageRepository.findBySeqs(room, seqs)));
+        if (result.size() < seqs.size()) {
+            Set<Long> found = new HashSet<>();
+            result.forEach(m -> found.add(m.seq()));
+            List<Long> missing = seqs.stream().filter(seq -> !found.contains(seq)).toList();
+            result.addAll(archiveRepository.findBySeqs(room.getId(), roomId, missing));
+            result.sort(Comparator.comparing(ChatMessageResponse::seq).reversed());
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findSeq(ChatRoom room, String messageId) {
+        Optional<Long> hot = chatMessageRepository.findSeqByMessageId(room, messageId);
+        if (hot.isPresent()) {
+            return hot;
+        }
+        return Optional.ofNullable(archiveRepository.findSeqByMessageId(room.getId(), messageId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> searchBetweenSeqs(ChatRoom room,
+                                                       String roomId,
+                                                       String keyword,
+                                                       long afterSeq,
+                                                       long beforeSeq,
+                                                       int limit) {
+        return chatMessageJdbcRepository.searchBetweenSeqs(room.getId(), roomId, keyword, afterSeq, beforeSeq, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>보관기는 삭제된 메시지를 옮기지 않고 지우므로, 보관된 마지막 순번 이하인데 조회되지 않는 순번은 삭제된 것이다.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findDeletedSeqs(ChatRoom room, List<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return List.of();
+        }
+        long archivedMaxSeq = archiver.archivedRange(room.getId()).maxSeq();
+        Set<Long> deleted = new HashSet<>(chatMessageJdbcRepository.findDeletedSeqs(room.getId(), seqs));
+        seqs.stream().filter(seq -> seq <= archivedMaxSeq).forEach(deleted::add);
+        return List.copyOf(deleted);
+    }
+
+    /**
+     * {@inheritDoc}
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ChatMessageResponse> getMessages(String roomId, Long cursorPk, int size) {
+    public boolean hasUnsequencedMessages(ChatRoom room) {
+        return chatMessageJdbcRepository.hasUnsequencedMessages(room.getId());
+    }
 
-        return chatMessageRepository.findRecentByRoomIdWithCursorPk(roomId, cursorPk, PageRequest.of(0, size))
-                .stream()
+    private List<ChatMessageResponse> toResponses(String roomId, List<ChatMessage> messages) {
+        return messages.stream()
                 .map(m -> new ChatMessageResponse(
                         roomId,
                         m.getMessageId(),
+                        m.getSeq(),
                         m.getSenderId(),
                         m.getContent(),
                         m.getCreatedAt()
@@ -93,32 +332,18 @@ public class ChatServiceImpl implements ChatService{
     }
 
     /**
-     * {@inheritDoc}
-     *
-     * <p>클라이언트가 보낸 {@code messageId}(외부 노출용)를 기반으로,
-     * 커서 페이지네이션에 사용할 내부 PK({@code ChatMessage.id})를 조회한다.</p>
+     * 커서 문자열을 검증한다. null/blank면 커서 없음({@code null})으로 본다.
      *
-     * <h2>동작 규칙</h2>
-     * <ul>
-     *   <li>{@code messageId}가 {@code null}이거나 blank이면 커서를 사용하지 않는 최초 조회로 간주하고 {@code null}을 반환한다.</li>
-     *   <li>{@code messageId}가 유효하면, 해당 {@code roomId}에 속하고 삭제되지 않은 메시지의 내부 PK를 조회한다.</li>
-     *   <li>조회 대상이 없으면 {@link IllegalArgumentException}을 던진다.</li>
-     * </ul>
-     *
-     * @param roomId    채팅방 식별자(외부 노출용)
-     * @param messageId 메시지 식별자(외부 노출용, 예: ULID). null/blank 가능
-     * @return 커서로 사용할 내부 PK. {@code messageId}가 null/blank이면 {@code null}
-     * @throws IllegalArgumentException {@code messageId}가 주어졌으나 해당 메시지가 존재하지 않거나(삭제/방 불일치 포함) 커서 변환이 불가한 경우
+     * @throws IllegalArgumentException ULID 형식이 아닌 경우
      */
-    @Override
-    @Transactional(readOnly = true)
-    public Long getCursorPk(String roomId, String messageId) {
-        Long cursorPk = null;
-        if (messageId != null && !messageId.isBlank()) {
-            cursorPk = chatMessageRepository.findActivePkByRoomIdAndMessageId(roomId, messageId)
-                    .orElseThrow(() -> new IllegalArgumentException("커서 메시지가 존재하지 않습니다."));
+    private String normalizeCursor(String cursorMessageId) {
+        if (cursorMessageId == null || cursorMessageId.isBlank()) {
+            return null;
+        }
+        if (!Ulid.isValid(cursorMessageId)) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
         }
-        return cursorPk;
+        return cursorMessageId;
     }
 
 }
@@ -1,17 +1,36 @@
 package org.example.buskmate.messenger.chat.service;
 
 
+import com.github.f4b6a3.ulid.Ulid;
 import lombok.RequiredArgsConstructor;
 import org.example.buskmate.messenger.chat.domain.ChatMessage;
+import org.example.buskmate.messenger.chat.dto.ChatExportFormat;
+import org.example.buskmate.messenger.chat.dto.ChatMessageDirection;
 import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.chat.dto.ChatRoomSyncResponse;
+import org.example.buskmate.messenger.chat.dto.ChatSyncCursor;
 import org.example.buskmate.messenger.room.domain.ChatRoom;
+import org.example.buskmate.messenger.room.dto.ChatRoomSyncState;
 import org.example.buskmate.messenger.room.service.ChatMemberService;
-import org.example.buskmate.messenger.room.service.ChatRoomService;
+import org.example.buskmate.messenger.room.service.ChatReadReceiptBuffer;
+import org.example.buskmate.messenger.room.service.ChatRoomLastMessageUpdater;
+import org.example.buskmate.messenger.room.service.ChatRoomReader;
+import org.example.buskmate.messenger.room.service.ChatRoomUpdateNotifier;
+import org.example.buskmate.messenger.support.AfterCommit;
+import org.example.buskmate.messenger.support.ChatClusterEvent;
+import org.example.buskmate.messenger.support.ChatClusterEvents;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 
 /**
@@ -25,10 +44,21 @@ import java.util.List;
  *   <li>채팅방 조회</li>
  *   <li>멤버십(권한) 검증</li>
  *   <li>메시지 저장</li>
+ *   <li>최근 메시지 캐시 반영 이벤트 발행({@link ChatClusterEvents} → 모든 노드의 {@link ChatRecentMessageCache})</li>
+ *   <li>채팅방 마지막 메시지 포인터 갱신 예약({@link ChatRoomLastMessageUpdater})</li>
+ *   <li>읽음 처리 기록({@link ChatReadReceiptBuffer})</li>
+ *   <li>참여자 채팅방 목록 갱신 푸시({@link ChatRoomUpdateNotifier})</li>
+ *   <li>메시지 검색 색인 갱신/조회({@link ChatMessageSearchIndex})</li>
+ *   <li>대화 내보내기 권한 검증({@link ChatMessageExporter})</li>
  *   <li>클라이언트 전달용 DTO({@link ChatMessageResponse}) 변환</li>
  * </ul>
  *
- * <p><b>트랜잭션:</b> 방 조회 → 멤버 검증 → 메시지 저장을 하나의 트랜잭션으로 처리한다.</p>
+ * <p><b>트랜잭션:</b> 메시지 전송은 트랜잭션을 열지 않고, 저장 트랜잭션은 {@link ChatService#save}가 연다.
+ * (write-behind 모드에서 순번 예약이 전송 트랜잭션의 커넥션/잠금에 묶이지 않도록)
+ * 저장 이후의 캐시/이벤트 반영은 저장이 커밋된 뒤에 실행된다.</p>
+ *
+ * <p><b>멤버십 검증:</b> 방 조회와 멤버 검증은 {@link ChatMemberService#validMember(String, String)}를 통해
+ * 멤버십 캐시에서 처리하므로, 캐시 히트 시 메시지 전송은 INSERT 1회만 수행한다.</p>
  *
  * <p><b>예외:</b> 입력 값이 비어 있거나 유효하지 않으면 {@link IllegalArgumentException}을 던진다.
  * (방 미존재, 멤버 아님 등의 도메인 예외는 하위 서비스에서 발생할 수 있다.)</p>
@@ -36,9 +66,23 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class ChatUseCase {
-    private final ChatRoomService chatRoomService;
+    /** 검색 색인 따라잡기 시 한 번에 읽을 메시지 수 */
+    private static final int SEARCH_CATCH_UP_BATCH = 500;
+
     private final ChatMemberService chatMemberService;
     private final ChatService chatMessageService;
+    private final ChatRecentMessageCache recentMessageCache;
+    private final ChatRoomLastMessageUpdater lastMessageUpdater;
+    private final ChatMessageSeqAllocator seqAllocator;
+    private final ChatReadReceiptBuffer readReceiptBuffer;
+    private final ChatRoomReader chatRoomReader;
+    private final ChatMessageSearchIndex searchIndex;
+    private final ChatMessageExporter messageExporter;
+    private final ChatRoomUpdateNotifier roomUpdateNotifier;
+    private final ChatClusterEvents clusterEvents;
+
+    @Value("${chat.search.fallback-window:5000}")
+    private long fallbackWindow;
 
     /**
      * 채팅방에 메시지를 전송(저장)하고, 응답 DTO를 반환한다.
@@ -52,22 +96,169 @@ public class ChatUseCase {
      * @return 저장된 메시지 정보를 담은 {@link ChatMessageResponse}
      * @throws IllegalArgumentException roomId 또는 content가 null/blank 인 경우
      */
-    @Transactional
     public ChatMessageResponse sendMessage(String roomId, String senderId, String content){
         if (roomId == null || roomId.isBlank()) throw new IllegalArgumentException("채팅방 ID가 올바르지 않습니다.");
         if (content == null || content.isBlank()) throw new IllegalArgumentException("메시지 내용은 필수입니다.");
 
-        ChatRoom room = chatRoomService.getByRoomId(roomId);
-        chatMemberService.validMember(room, senderId);
+        ChatRoom room = chatMemberService.validMember(roomId, senderId);
         ChatMessage saved = chatMessageService.save(room, senderId, content);
 
-        return new ChatMessageResponse(
-                room.getRoomId(),
+        ChatMessageResponse response = new ChatMessageResponse(
+                roomId,
                 saved.getMessageId(),
+                saved.getSeq(),
                 saved.getSenderId(),
                 saved.getContent(),
                 saved.getCreatedAt()
         );
+        clusterEvents.publish(ChatClusterEvent.messageAppended(response));
+        lastMessageUpdater.record(room.getId(), saved.getMessageId(), saved.getSeq(), saved.getCreatedAt(), saved.getContent());
+        searchIndex.record(room.getId(), roomId, saved.getSeq(), saved.getContent());
+        // 내가 보낸 메시지는 읽은 것으로 본다.
+        Long roomPk = room.getId();
+        AfterCommit.run(() -> readReceiptBuffer.record(roomPk, senderId, saved.getMessageId(), saved.getSeq(), true));
+        roomUpdateNotifier.read(roomId, senderId, saved.getSeq());
+        roomUpdateNotifier.messageSent(roomId, roomPk, saved.getMessageId(), saved.getSeq(), saved.getCreatedAt(), saved.getContent());
+        return response;
+    }
+
+    /**
+     * 채팅방에서 지정한 순번 이후의 메시지를 조회한다. (재연결 catch-up)
+     *
+     * <p>방의 마지막 순번(PK 조회)을 확인한 뒤, 최근 메시지 링 버퍼가 그 순번까지 응답할 수 있으면 버퍼로 반환하고,
+     * 아니면 {@code (room_id, seq)} 범위 조회 1회로 반환한다. (버퍼가 이벤트 유실로 뒤처져도 새 메시지를 놓치지 않는다)</p>
+     *
+     * @param roomId      채팅방 식별자
+     * @param requesterId 요청자 사용자 식별자
+     * @param afterSeq    마지막으로 받은 순번 (0이면 처음부터)
+     * @param size        조회 개수(1~500, 범위 밖이면 100으로 보정)
+     * @return 메시지 목록 (순번 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getMessagesSince(String roomId, String requesterId, long afterSeq, int size) {
+        if (roomId == null || roomId.isBlank()) {
+            throw new IllegalArgumentException("채팅방 ID가 올바르지 않습니다.");
+        }
+        if (afterSeq < 0) {
+            throw new IllegalArgumentException("메시지 순번이 올바르지 않습니다.");
+        }
+        int pageSize = (size <= 0 || size > 500) ? 100 : size;
+
+        ChatRoom room = chatMemberService.validMember(roomId, requesterId);
+
+        long lastSeq = seqAllocator.current(room.getId());
+        if (afterSeq >= lastSeq) {
+            return List.of();
+        }
+        return recentMessageCache.findAfterSeq(roomId, afterSeq, lastSeq, pageSize)
+                .filter(cached -> reaches(cached, lastSeq, pageSize))
+                .orElseGet(() -> chatMessageService.getMessagesAfterSeq(room, roomId, afterSeq, pageSize));
+    }
+
+    /**
+     * 재연결한 사용자의 모든 활성 채팅방에 대해 누락된 메시지를 한 번에 조회한다.
+     *
+     * <p>처리 흐름:</p>
+     * <ol>
+     *   <li>사용자의 활성 채팅방과 마지막 순번을 조회 1회로 가져온다. (멤버십 검증 겸용)</li>
+     *   <li>요청의 기준 순번 이후 새 메시지가 없는 방은 건너뛴다.</li>
+     *   <li>최근 메시지 링 버퍼가 마지막 순번까지 응답할 수 있는 방은 버퍼에서 채운다.</li>
+     *   <li>나머지 방은 {@code UNION ALL} 조회 1회로 방마다 최대 {@code limitPerRoom}건씩 가져온다.</li>
+     * </ol>
+     *
+     * <p>요청 맵에 없는 참여 방(새로 초대된 방 등)은 최근 {@code limitPerRoom}건을 반환하고,
+     * 요청 맵에 있지만 더 이상 참여 중이 아닌 방은 무시한다.</p>
+     *
+     * @param userId        요청자 사용자 식별자
+     * @param lastSeqByRoom 방 식별자 → 마지막으로 받은 순번 (null 가능)
+     * @param limitPerRoom  방별 최대 메시지 수 (1~200, 범위 밖이면 50으로 보정)
+     * @return 새 메시지가 있는 방의 동기화 결과 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ChatRoomSyncResponse> sync(String userId, Map<String, Long> lastSeqByRoom, Integer limitPerRoom) {
+        int limit = (limitPerRoom == null || limitPerRoom <= 0 || limitPerRoom > 200) ? 50 : limitPerRoom;
+        Map<String, Long> lastSeen = lastSeqByRoom == null ? Map.of() : lastSeqByRoom;
+
+        List<ChatRoomSyncResponse> result = new ArrayList<>();
+        List<ChatSyncCursor> dbCursors = new ArrayList<>();
+
+        for (ChatRoomSyncState room : chatRoomReader.findSyncStates(userId)) {
+            // 비정규화 포인터는 플러시 주기만큼 늦을 수 있으므로, DB의 순번 카운터(커밋된 마지막 순번)를 함께 본다.
+            long lastSeq = Math.max(
+                    room.lastMessageSeq() == null ? 0L : room.lastMessageSeq(),
+                    room.messageSeq());
+            Long seen = lastSeen.get(room.roomId());
+            long afterSeq = seen != null ? Math.max(0L, seen) : Math.max(0L, lastSeq - limit);
+            if (afterSeq >= lastSeq) {
+                continue;
+            }
+
+            // 한 건 더 조회해 추가 메시지 존재 여부를 판단한다.
+            Optional<List<ChatMessageResponse>> cached = recentMessageCache.findAfterSeq(room.roomId(), afterSeq, lastSeq, limit + 1);
+            if (cached.isPresent() && reaches(cached.get(), lastSeq, limit + 1)) {
+                result.add(toSyncResponse(room.roomId(), cached.get(), limit));
+                continue;
+            }
+            // 버퍼가 커밋된 마지막 순번까지 따라오지 못했으면(이벤트 유실/지연) DB에서 읽는다.
+            dbCursors.add(new ChatSyncCursor(room.roomPk(), room.roomId(), afterSeq));
+        }
+
+        Map<Long, List<ChatMessageResponse>> fetched = chatMessageService.getMessagesAfterSeq(dbCursors, limit + 1);
+        for (ChatSyncCursor cursor : dbCursors) {
+            List<ChatMessageResponse> messages = fetched.get(cursor.roomPk());
+            if (messages != null && !messages.isEmpty()) {
+                result.add(toSyncResponse(cursor.roomId(), messages, limit));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 버퍼 결과가 커밋된 마지막 순번까지 응답했는지 확인한다. (페이지가 가득 찼으면 다음 페이지에서 이어 받는다)
+     */
+    private static boolean reaches(List<ChatMessageResponse> page, long lastSeq, int pageSize) {
+        if (page.size() >= pageSize) {
+            return true;
+        }
+        return !page.isEmpty() && page.getLast().seq() >= lastSeq;
+    }
+
+    private static ChatRoomSyncResponse toSyncResponse(String roomId, List<ChatMessageResponse> messages, int limit) {
+        boolean hasMore = messages.size() > limit;
+        return new ChatRoomSyncResponse(roomId, hasMore ? messages.subList(0, limit) : messages, hasMore);
+    }
+
+    /**
+     * 채팅방 메시지 읽음 처리를 기록한다.
+     *
+     * <p>읽음 상태는 즉시 UPDATE하지 않고 {@link ChatReadReceiptBuffer}에 (방, 사용자) 단위로 합쳐진 뒤
+     * 주기적으로 배치 반영된다. 멤버십 검증은 멤버십 캐시를 사용하므로 캐시 히트 시 DB 접근이 없다.</p>
+     *
+     * <p>{@code last_read_message_ulid}와 {@code last_read_seq}가 어긋나지 않도록 (메시지 ID, 순번) 쌍을 확인한다.</p>
+     * <ul>
+     *   <li>최근 메시지 링 버퍼에 해당 순번이 있으면 메모리에서 바로 대조하고, 다르면 거부한다.</li>
+     *   <li>버퍼에 없으면 배치 UPDATE 조건에서 메시지 테이블과 대조한다. (존재하지 않는 순번도 여기서 걸러진다)</li>
+     * </ul>
+     *
+     * @param roomId    채팅방 식별자(외부 노출용)
+     * @param userId    요청자 사용자 식별자
+     * @param messageId 마지막으로 읽은 메시지 식별자(ULID)
+     * @param seq       마지막으로 읽은 메시지의 방 내 순번
+     * @throws IllegalArgumentException 입력 값이 비어 있거나 메시지 ID와 순번이 서로 다른 메시지를 가리키는 경우
+     */
+    @Transactional(readOnly = true)
+    public void markRead(String roomId, String userId, String messageId, Long seq) {
+        if (roomId == null || roomId.isBlank()) throw new IllegalArgumentException("채팅방 ID가 올바르지 않습니다.");
+        if (messageId == null || messageId.isBlank()) throw new IllegalArgumentException("메시지 ID는 필수입니다.");
+        if (seq == null || seq <= 0) throw new IllegalArgumentException("메시지 순번이 올바르지 않습니다.");
+
+        ChatRoom room = chatMemberService.validMember(roomId, userId);
+        Optional<String> cachedMessageId = recentMessageCache.findMessageId(roomId, seq);
+        if (cachedMessageId.isPresent() && !cachedMessageId.get().equals(messageId)) {
+            throw new IllegalArgumentException("메시지 순번이 올바르지 않습니다.");
+        }
+        readReceiptBuffer.record(room.getId(), userId, messageId, seq, cachedMessageId.isPresent());
+        roomUpdateNotifier.read(roomId, userId, seq);
     }
 
     /**
@@ -77,29 +268,198 @@ public class ChatUseCase {
      * <ol>
      *   <li>roomId/size 입력 검증( size는 1~200, 범위 밖이면 30으로 보정 )</li>
      *   <li>채팅방 조회 및 요청자 멤버십 검증</li>
-     *   <li>cursorMessageId(외부 메시지 ID)를 내부 PK 커서로 변환</li>
-     *   <li>커서 기반으로 최근 메시지 목록 반환</li>
+     *   <li>최근 메시지 링 버퍼({@link ChatRecentMessageCache})로 응답 가능하면 DB 없이 반환</li>
+     *   <li>cursorMessageId(ULID)를 키셋 커서로 사용해 인덱스 범위 조회 1회로 반환 (첫 페이지는 링 버퍼 시드로 사용)</li>
      * </ol>
      *
      * @param roomId          채팅방 식별자
      * @param requesterId     요청자 사용자 식별자
      * @param cursorMessageId 커서 메시지 ID(null/blank 가능)
+     * @param direction       조회 방향 (null이면 {@link ChatMessageDirection#BEFORE})
      * @param size            조회 개수(기본 보정 30)
-     * @return 메시지 목록(최신 → 과거)
+     * @return 메시지 목록 (BEFORE: 최신 → 과거, AFTER: 과거 → 최신)
      */
-    @Transactional
-    public List<ChatMessageResponse> getMessages(String roomId, String requesterId, String cursorMessageId, int size) {
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getMessages(String roomId,
+                                                 String requesterId,
+                                                 String cursorMessageId,
+                                                 ChatMessageDirection direction,
+                                                 int size) {
         if (roomId == null || roomId.isBlank()) {
             throw new IllegalArgumentException("채팅방 ID가 올바르지 않습니다.");
         }
         if (size <= 0 || size > 200) size = 30;
+        if (direction == null) direction = ChatMessageDirection.BEFORE;
+
+        ChatRoom room = chatMemberService.validMember(roomId, requesterId);
+
+        Optional<List<ChatMessageResponse>> cached =
+                recentMessageCache.findPage(roomId, cursorMessageId, direction, size);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        boolean firstPage = direction == ChatMessageDirection.BEFORE
+                && (cursorMessageId == null || cursorMessageId.isBlank());
+        long appendEpoch = firstPage ? recentMessageCache.appendEpoch(roomId) : 0L;
+
+        List<ChatMessageResponse> messages =
+                chatMessageService.getMessages(room, roomId, cursorMessageId, direction, size);
+
+        if (firstPage) {
+            recentMessageCache.seed(roomId, appendEpoch, messages, size);
+        }
+        return messages;
+    }
+
+    /**
+     * 채팅방 메시지를 검색한다.
+     *
+     * <p>처리 흐름:</p>
+     * <ol>
+     *   <li>요청자 멤버십 검증 (참여 중인 방만 검색 가능)</li>
+     *   <li>{@link ChatMessageSearchIndex}에 아직 색인되지 않은 구간이 있으면 백그라운드 색인을 예약 (기다리지 않는다)</li>
+     *   <li>색인되지 않은 최근 구간은 DB에서 직접 찾는다 ({@link ChatService#searchBetweenSeqs}).
+     *       단, 커서 아래 최대 {@code chat.search.fallback-window}개 순번까지만 훑는다.</li>
+     *   <li>나머지는 색인에서 후보 순번을 최신순으로 가져와 원문과 대조({@code LIKE '%검색어%'}와 같은 부분 문자열 일치)</li>
+     *   <li>삭제가 확인된 후보는 색인에서 뺀다</li>
+     * </ol>
+     *
+     * <p>커서 규칙은 메시지 목록 조회의 {@link ChatMessageDirection#BEFORE}와 같다.
+     * (cursor보다 과거 메시지, 최신 → 과거 순, 다음 페이지 커서는 마지막 결과의 {@code messageId})</p>
+     *
+     * <p><b>주의:</b> 색인이 처음 만들어지는 동안에는 결과가 부분적일 수 있다.
+     * 아직 색인되지 않은 보관 구간(본문 압축)과, 직접 조회 범위({@code chat.search.fallback-window})를 넘는 미색인 구간은
+     * 백그라운드 색인이 따라잡을 때까지 결과에서 빠진다. (한 번도 색인되지 않은 방에서 전체 {@code LIKE} 스캔을 막는다)</p>
+     *
+     * @param roomId          채팅방 식별자
+     * @param requesterId     요청자 사용자 식별자
+     * @param query           검색어 (2~100자, 두 글자 이상의 단어 포함)
+     * @param cursorMessageId 커서 메시지 ID(null/blank 가능)
+     * @param size            조회 개수(1~100, 범위 밖이면 20으로 보정)
+     * @return 검색 결과 (최신 → 과거 순)
+     * @throws IllegalArgumentException 검색어/커서가 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> search(String roomId,
+                                            String requesterId,
+                                            String query,
+                                            String cursorMessageId,
+                                            int size) {
+        if (roomId == null || roomId.isBlank()) {
+            throw new IllegalArgumentException("채팅방 ID가 올바르지 않습니다.");
+        }
+        if (query == null || query.strip().length() < 2 || query.strip().length() > 100) {
+            throw new IllegalArgumentException("검색어는 2~100자여야 합니다.");
+        }
+        ChatMessageSearchIndex.validateQuery(query);
+        int pageSize = (size <= 0 || size > 100) ? 20 : size;
+
+        ChatRoom room = chatMemberService.validMember(roomId, requesterId);
+        Long roomPk = room.getId();
+
+        long lastSeq = seqAllocator.current(roomPk);
+        long indexedSeq = searchIndex.indexedSeq(roomPk, roomId);
+        if (indexedSeq < lastSeq) {
+            searchIndex.rebuildAsync(roomPk, roomId, lastSeq,
+                    afterSeq -> chatMessageService.getMessagesAfterSeq(room, roomId, afterSeq, SEARCH_CATCH_UP_BATCH),
+                    () -> chatMessageService.hasUnsequencedMessages(room));
+        }
+
+        long beforeSeq = lastSeq + 1;
+        if (cursorMessageId != null && !cursorMessageId.isBlank()) {
+            if (!Ulid.isValid(cursorMessageId)) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+            }
+            beforeSeq = chatMessageService.findSeq(room, cursorMessageId)
+                    .orElseThrow(() -> new IllegalArgumentException("커서 메시지가 존재하지 않습니다."));
+        }
+
+        String keyword = query.strip();
+        String needle = ChatMessageSearchIndex.normalize(keyword);
+        int batch = pageSize * 2;
+        List<ChatMessageResponse> result = new ArrayList<>(pageSize);
 
-        ChatRoom room = chatRoomService.getByRoomId(roomId);
-        chatMemberService.validMember(room, requesterId);
+        // 색인되지 않은 최근 구간 (indexedSeq, beforeSeq) 중 커서 아래 fallbackWindow개까지만 직접 조회한다.
+        long fallbackFloor = Math.max(indexedSeq, beforeSeq - 1 - fallbackWindow);
+        while (result.size() < pageSize && beforeSeq > fallbackFloor + 1) {
+            List<ChatMessageResponse> rows =
+                    chatMessageService.searchBetweenSeqs(room, roomId, keyword, fallbackFloor, beforeSeq, batch);
+            for (ChatMessageResponse message : rows) {
+                if (result.size() < pageSize && ChatMessageSearchIndex.normalize(message.content()).contains(needle)) {
+                    result.add(message);
+                }
+            }
+            if (rows.size() < batch) {
+                beforeSeq = fallbackFloor + 1;
+                break;
+            }
+            beforeSeq = rows.getLast().seq();
+        }
+        // 직접 조회 범위 아래의 미색인 구간은 건너뛰고 색인된 구간으로 넘어간다.
+        beforeSeq = Math.min(beforeSeq, indexedSeq + 1);
 
-        Long cursorPk = chatMessageService.getCursorPk(roomId, cursorMessageId);
+        while (result.size() < pageSize) {
+            List<Long> candidates = searchIndex.candidates(roomPk, query, beforeSeq, batch);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            List<ChatMessageResponse> messages = chatMessageService.getMessagesBySeqs(room, roomId, candidates);
+            for (ChatMessageResponse message : messages) {
+                if (result.size() < pageSize && ChatMessageSearchIndex.normalize(message.content()).contains(needle)) {
+                    result.add(message);
+                }
+            }
+            if (messages.size() < candidates.size()) {
+                forgetDeleted(room, candidates, messages);
+            }
+            if (candidates.size() < batch) {
+                break;
+            }
+            beforeSeq = candidates.getLast();
+        }
+        return result;
+    }
 
-        return chatMessageService.getMessages(roomId, cursorPk, size);
+    /**
+     * 조회되지 않은 후보 중 삭제가 확인된 순번을 검색 색인에서 뺀다.
+     */
+    private void forgetDeleted(ChatRoom room, List<Long> candidates, List<ChatMessageResponse> found) {
+        Set<Long> foundSeqs = new HashSet<>();
+        found.forEach(m -> foundSeqs.add(m.seq()));
+        List<Long> missing = candidates.stream().filter(seq -> !foundSeqs.contains(seq)).toList();
+        List<Long> deleted = chatMessageService.findDeletedSeqs(room, missing);
+        if (!deleted.isEmpty()) {
+            searchIndex.forget(room.getId(), deleted);
+        }
     }
 
+    /**
+     * 채팅방 전체 대화를 내보내는 응답 본문을 만든다. (방장 전용)
+     *
+     * <p>권한/입력 검증은 호출 시점에 끝내고, 실제 조회와 쓰기는 반환된 본문이 응답 스트림에 쓰일 때
+     * {@link ChatMessageExporter}가 수행한다.</p>
+     *
+     * @param roomId         채팅방 식별자
+     * @param requesterId    요청자 사용자 식별자
+     * @param afterMessageId 이어받기 기준 메시지 식별자 (null/blank면 처음부터)
+     * @param format         출력 형식
+     * @return 스트리밍 응답 본문
+     * @throws IllegalArgumentException 이어받기 기준 형식이 올바르지 않은 경우
+     */
+    public StreamingResponseBody export(String roomId,
+                                        String requesterId,
+                                        String afterMessageId,
+                                        ChatExportFormat format) {
+        if (roomId == null || roomId.isBlank()) {
+            throw new IllegalArgumentException("채팅방 ID가 올바르지 않습니다.");
+        }
+        String after = (afterMessageId == null || afterMessageId.isBlank()) ? null : afterMessageId;
+        if (after != null && !Ulid.isValid(after)) {
+            throw new IllegalArgumentException("이어받기 기준 메시지 형식이 올바르지 않습니다.");
+        }
+
+        ChatRoom room = chatMemberService.validOwner(roomId, requesterId);
+        return out -> messageExporter.export(room, roomId, after, format, out);
+    }
 }
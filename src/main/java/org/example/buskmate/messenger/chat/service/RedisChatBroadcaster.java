@@ -0,0 +1,186 @@
+package org.example.buskmate.messenger.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.chat.dto.ChatRelayFrame;
+import org.example.buskmate.messenger.config.ChatCodecNegotiationInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멀티 노드용 {@link ChatBroadcaster} 구현체. ({@code chat.broker.mode=redis})
+ *
+ * <p>브로드캐스트는 현재 노드 구독자에게 바로 보내지 않고 Redis pub/sub 채널({@code chat:room:{roomId}})에
+ * 발행한다. 모든 노드(자기 자신 포함)는 {@link #deliverLocally(byte[])}로 수신한 프레임을
+ * 각자의 simple broker에 전달하므로, 어느 노드에 연결된 구독자든 동일하게 메시지를 받는다.</p>
+ *
+ * <h2>배치</h2>
+ * <p>페이로드는 발행 시점에 한 번만 직렬화되며, 방 단위로 {@code chat.broker.redis.batch-window-ms} 동안 모아
+ * 하나의 pub/sub 메시지로 발행한다. 방 안의 프레임 순서는 유지된다.</p>
+ *
+ * <h2>바이너리 코덱</h2>
+ * <p>채팅 메시지는 JSON 프레임 하나로만 발행한다. 바이너리 구독자는 노드마다 다르므로,
+ * 수신 노드가 {@link ChatBinarySubscriptionRegistry}를 보고 구독자가 있을 때만 JSON을 읽어 바이너리로 인코딩한다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisChatBroadcaster implements ChatBroadcaster {
+
+    public static final String CHANNEL_PREFIX = "chat:room:";
+    private static final String ROOM_DESTINATION_PREFIX = "/chat/room/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final ChatBinarySubscriptionRegistry binarySubscriptions;
+    private final long batchWindowMs;
+
+    private final Map<String, List<ChatRelayFrame>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService publisher =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "chat-redis-relay");
+                t.setDaemon(true);
+                return t;
+            });
+
+    public RedisChatBroadcaster(SimpMessagingTemplate messagingTemplate,
+                                RedisConnectionFactory redisConnectionFactory,
+                                ChatBinarySubscriptionRegistry binarySubscriptions,
+                                @Value("${chat.broker.redis.batch-window-ms:5}") long batchWindowMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.binarySubscriptions = binarySubscriptions;
+        this.batchWindowMs = batchWindowMs;
+    }
+
+    @PostConstruct
+    void start() {
+        publisher.scheduleWithFixedDelay(this::flushSafely, batchWindowMs, batchWindowMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        Message<?> converted = messagingTemplate.getMessageConverter().toMessage(payload, null);
+        if (converted == null || !(converted.getPayload() instanceof byte[] bytes)) {
+            throw new IllegalStateException("브로드캐스트 페이로드를 직렬화할 수 없습니다: " + payload.getClass());
+        }
+        Object contentType = converted.getHeaders().get(MessageHeaders.CONTENT_TYPE);
+        enqueue(new ChatRelayFrame(
+                destination,
+                contentType == null ? MimeTypeUtils.APPLICATION_JSON_VALUE : contentType.toString(),
+                bytes
+        ));
+    }
+
+    @Override
+    public void broadcastMessage(String roomId, ChatMessageResponse message) {
+        broadcast(ROOM_DESTINATION_PREFIX + roomId, message);
+    }
+
+    private void enqueue(ChatRelayFrame frame) {
+        pending.compute(channelOf(frame.destination()), (channel, frames) -> {
+            List<ChatRelayFrame> list = frames == null ? new ArrayList<>() : frames;
+            list.add(frame);
+            return list;
+        });
+    }
+
+    /**
+     * Redis에서 수신한 배치를 현재 노드의 simple broker로 전달한다.
+     *
+     * @param batch {@link ChatRelayFrame#encodeBatch(List)}로 인코딩된 배치
+     */
+    public void deliverLocally(byte[] batch) {
+        for (ChatRelayFrame frame : ChatRelayFrame.decodeBatch(batch)) {
+            MimeType contentType = MimeType.valueOf(frame.contentType());
+            Message<byte[]> message = toMessage(frame.payload(), contentType);
+            messagingTemplate.send(frame.destination(), message);
+
+            String binaryDestination = frame.destination() + ChatCodecNegotiationInterceptor.BINARY_SUFFIX;
+            if (binarySubscriptions.hasSubscribers(binaryDestination)) {
+                deliverBinary(binaryDestination, message);
+            }
+        }
+    }
+
+    /**
+     * 바이너리 구독자가 있는 방 메시지만 JSON을 읽어 한 번 인코딩한다.
+     * (바이너리 목적지는 {@code /chat/room/{roomId}} 구독에서만 만들어지므로 페이로드는 항상 채팅 메시지다)
+     */
+    private void deliverBinary(String binaryDestination, Message<byte[]> json) {
+        Object decoded = messagingTemplate.getMessageConverter().fromMessage(json, ChatMessageResponse.class);
+        if (!(decoded instanceof ChatMessageResponse chatMessage)) {
+            log.warn("[CHAT] binary relay skipped - destination={}", binaryDestination);
+            return;
+        }
+        messagingTemplate.send(binaryDestination,
+                toMessage(ChatMessageBinaryCodec.encode(chatMessage), ChatMessageBinaryCodec.FRAME_CONTENT_TYPE));
+    }
+
+    private static Message<byte[]> toMessage(byte[] payload, MimeType contentType) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(contentType);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("[CHAT] redis relay publish failed", e);
+        }
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            for (String channel : pending.keySet()) {
+                List<ChatRelayFrame> frames = pending.remove(channel);
+                if (frames == null || frames.isEmpty()) {
+                    continue;
+                }
+                connection.publish(channel.getBytes(StandardCharsets.UTF_8), ChatRelayFrame.encodeBatch(frames));
+            }
+        }
+    }
+
+    private static String channelOf(String destination) {
+        if (destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            String rest = destination.substring(ROOM_DESTINATION_PREFIX.length());
+            int slash = rest.indexOf('/');
+            return CHANNEL_PREFIX + (slash < 0 ? rest : rest.substring(0, slash));
+        }
+        return CHANNEL_PREFIX + destination;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        publisher.shutdown();
+        flushSafely();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.buskmate.messenger.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.config.ChatCodecNegotiationInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 {@link ChatBroadcaster} 구현체. (기본값)
+ *
+ * <p>현재 노드의 simple broker로 바로 전달하므로, 같은 노드에 연결된 구독자에게만 도달한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class SimpleChatBroadcaster implements ChatBroadcaster {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/chat/room/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBinarySubscriptionRegistry binarySubscriptions;
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+
+    @Override
+    public void broadcastMessage(String roomId, ChatMessageResponse message) {
+        String destination = ROOM_DESTINATION_PREFIX + roomId;
+        messagingTemplate.convertAndSend(destination, message);
+
+        // 바이너리 구독자가 있을 때만 메시지당 한 번 인코딩해 모든 바이너리 구독자가 공유한다.
+        String binaryDestination = destination + ChatCodecNegotiationInterceptor.BINARY_SUFFIX;
+        if (binarySubscriptions.hasSubscribers(binaryDestination)) {
+            sendBytes(binaryDestination, ChatMessageBinaryCodec.encode(message));
+        }
+    }
+
+    private void sendBytes(String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(ChatMessageBinaryCodec.FRAME_CONTENT_TYPE);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+}
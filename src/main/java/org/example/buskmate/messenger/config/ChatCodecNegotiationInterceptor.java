@@ -0,0 +1,109 @@
+package org.example.buskmate.messenger.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.chat.service.ChatBinarySubscriptionRegistry;
+import org.example.buskmate.messenger.chat.service.ChatMessageBinaryCodec;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+
+import java.util.Map;
+
+/**
+ * STOMP 세션별 채팅 페이로드 코덱 협상 인터셉터.
+ *
+ * <p>클라이언트가 CONNECT(또는 SUBSCRIBE) 프레임에 {@code content-type: application/vnd.buskmate.chat+binary}
+ * 헤더를 보내면, 이후 해당 세션의 채팅방 구독({@code /chat/room/{roomId}})을 바이너리 목적지
+ * ({@code /chat/room/{roomId}/bin})로 바꿔 등록한다.</p>
+ *
+ * <p>브로드캐스트는 목적지별로 한 번만 직렬화되므로, JSON 구독자와 바이너리 구독자는 각각
+ * 같은 바이트 배열을 공유한다. 헤더를 보내지 않은 세션은 기존과 동일하게 JSON을 받는다.</p>
+ *
+ * <p>바이너리 구독은 {@link ChatBinarySubscriptionRegistry}에 기록하여, 구독자가 없는 방은 바이너리 인코딩을 생략한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatCodecNegotiationInterceptor implements ChannelInterceptor {
+
+    public static final String BINARY_SUFFIX = "/bin";
+
+    private static final String ROOM_DESTINATION_PREFIX = "/chat/room/";
+    private static final String SESSION_ATTR = "chat.codec.binary";
+
+    private final ChatBinarySubscriptionRegistry binarySubscriptions;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        return switch (accessor.getCommand()) {
+            case CONNECT -> {
+                Map<String, Object> session = accessor.getSessionAttributes();
+                if (session != null && requestsBinary(accessor)) {
+                    session.put(SESSION_ATTR, Boolean.TRUE);
+                }
+                yield message;
+            }
+            case SUBSCRIBE -> subscribe(message, accessor);
+            case UNSUBSCRIBE -> {
+                binarySubscriptions.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+                yield message;
+            }
+            case DISCONNECT -> {
+                binarySubscriptions.disconnect(accessor.getSessionId());
+                yield message;
+            }
+            default -> message;
+        };
+    }
+
+    private Message<?> subscribe(Message<?> message, StompHeaderAccessor accessor) {
+        Map<String, Object> session = accessor.getSessionAttributes();
+        boolean binary = (session != null && Boolean.TRUE.equals(session.get(SESSION_ATTR))) || requestsBinary(accessor);
+        String destination = accessor.getDestination();
+        if (!binary || !isRoomMessageDestination(destination)) {
+            return message;
+        }
+
+        String rewritten = destination + BINARY_SUFFIX;
+        binarySubscriptions.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), rewritten);
+        if (accessor.isMutable()) {
+            accessor.setDestination(rewritten);
+            return message;
+        }
+        StompHeaderAccessor copy = StompHeaderAccessor.wrap(message);
+        copy.setDestination(rewritten);
+        return MessageBuilder.createMessage(message.getPayload(), copy.getMessageHeaders());
+    }
+
+    private static boolean requestsBinary(StompHeaderAccessor accessor) {
+        String contentType = accessor.getFirstNativeHeader(StompHeaderAccessor.STOMP_CONTENT_TYPE_HEADER);
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return ChatMessageBinaryCodec.MIME_TYPE.equalsTypeAndSubtype(MimeType.valueOf(contentType));
+        } catch (InvalidMimeTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * {@code /chat/room/{roomId}} 형태(하위 경로 없음)인지 확인한다.
+     */
+    private static boolean isRoomMessageDestination(String destination) {
+        return destination != null
+                && destination.startsWith(ROOM_DESTINATION_PREFIX)
+                && destination.indexOf('/', ROOM_DESTINATION_PREFIX.length()) < 0
+                && destination.length() > ROOM_DESTINATION_PREFIX.length();
+    }
+}
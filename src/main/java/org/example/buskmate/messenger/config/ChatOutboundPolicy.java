@@ -0,0 +1,122 @@
+package org.example.buskmate.messenger.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 세션별 아웃바운드 정책.
+ *
+ * <p>모든 STOMP 세션을 {@link ChatOutboundSessionDecorator}로 감싸, 느린 구독자 하나가
+ * 같은 방의 다른 구독자 fan-out 지연을 늘리지 못하도록 한다.</p>
+ *
+ * <h2>설정</h2>
+ * <ul>
+ *   <li>{@code chat.ws.outbound.buffer-size-limit}: 세션별 대기 버퍼 한도(bytes, 기본 512KB)</li>
+ *   <li>{@code chat.ws.outbound.send-time-limit-ms}: 프레임 하나의 최대 전송 시간(기본 10초)</li>
+ * </ul>
+ *
+ * <h2>지표</h2>
+ * <ul>
+ *   <li>{@code chat.ws.outbound.queued_bytes}: 전체 세션의 대기 바이트 합</li>
+ *   <li>{@code chat.ws.outbound.session_queued_bytes}: 프레임 적재 시점의 세션별 대기 바이트 분포</li>
+ *   <li>{@code chat.ws.outbound.dropped_frames}: 버려진 MESSAGE 프레임 수</li>
+ *   <li>{@code chat.ws.outbound.forced_disconnects{reason=buffer|send_time}}: 강제 종료된 세션 수</li>
+ * </ul>
+ */
+@Component
+public class ChatOutboundPolicy implements WebSocketHandlerDecoratorFactory {
+
+    private final int bufferSizeLimit;
+    private final long sendTimeLimitMs;
+
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final DistributionSummary sessionQueuedBytes;
+    private final Counter droppedFrames;
+    private final Counter bufferDisconnects;
+    private final Counter sendTimeDisconnects;
+
+    public ChatOutboundPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${chat.ws.outbound.buffer-size-limit:524288}") int bufferSizeLimit,
+            @Value("${chat.ws.outbound.send-time-limit-ms:10000}") long sendTimeLimitMs) {
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+
+        Gauge.builder("chat.ws.outbound.queued_bytes", queuedBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.sessionQueuedBytes = DistributionSummary.builder("chat.ws.outbound.session_queued_bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.droppedFrames = Counter.builder("chat.ws.outbound.dropped_frames").register(meterRegistry);
+        this.bufferDisconnects = Counter.builder("chat.ws.outbound.forced_disconnects")
+                .tag("reason", "buffer").register(meterRegistry);
+        this.sendTimeDisconnects = Counter.builder("chat.ws.outbound.forced_disconnects")
+                .tag("reason", "send_time").register(meterRegistry);
+    }
+
+    public int bufferSizeLimit() {
+        return bufferSizeLimit;
+    }
+
+    public long sendTimeLimitMs() {
+        return sendTimeLimitMs;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            private final Map<String, ChatOutboundSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                ChatOutboundSessionDecorator decorated = new ChatOutboundSessionDecorator(session, ChatOutboundPolicy.this);
+                sessions.put(session.getId(), decorated);
+                super.afterConnectionEstablished(decorated);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                ChatOutboundSessionDecorator decorated = sessions.remove(session.getId());
+                if (decorated != null) {
+                    decorated.release();
+                }
+                super.afterConnectionClosed(decorated != null ? decorated : session, closeStatus);
+            }
+        };
+    }
+
+    void queued(int length, long sessionQueued) {
+        queuedBytes.addAndGet(length);
+        sessionQueuedBytes.record(sessionQueued);
+    }
+
+    void released(long length) {
+        if (length > 0) {
+            queuedBytes.addAndGet(-length);
+        }
+    }
+
+    void dropped(int frames, long bytes) {
+        droppedFrames.increment(frames);
+        released(bytes);
+    }
+
+    void forcedDisconnect(String reason) {
+        ("send_time".equals(reason) ? sendTimeDisconnects : bufferDisconnects).increment();
+    }
+}
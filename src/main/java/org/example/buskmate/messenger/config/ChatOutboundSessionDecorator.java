@@ -0,0 +1,214 @@
+package org.example.buskmate.messenger.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 느린 구독자 보호용 WebSocket 세션 데코레이터.
+ *
+ * <p>{@link #sendMessage(WebSocketMessage)}는 프레임을 세션별 버퍼에 넣고 즉시 반환하며,
+ * 실제 전송은 세션 전용 가상 스레드 하나가 순서대로 수행한다. 따라서 전송이 느린 세션이 있어도
+ * 브로커/아웃바운드 채널 스레드는 막히지 않는다.</p>
+ *
+ * <h2>정책</h2>
+ * <ul>
+ *   <li>버퍼가 {@code bufferSizeLimit}를 넘으면 가장 오래된 MESSAGE 프레임부터 버린다.
+ *       (CONNECTED/RECEIPT/ERROR 등 제어 프레임은 버리지 않는다)</li>
+ *   <li>버리고도 한도를 넘거나, 프레임 하나의 전송이 {@code sendTimeLimit}를 넘으면 연결을 끊는다.</li>
+ * </ul>
+ *
+ * <p>버려진 채팅 메시지는 구멍 없는 {@code seq}로 클라이언트가 감지하고
+ * {@code /messages/since}로 보충할 수 있다.</p>
+ */
+@Slf4j
+class ChatOutboundSessionDecorator extends WebSocketSessionDecorator {
+
+    private static final byte[] MESSAGE_COMMAND = "MESSAGE\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ChatOutboundPolicy policy;
+    private final Deque<WebSocketMessage<?>> buffer = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /** 버퍼에 남아 있는 바이트 수. 전역 지표에는 여기서 뺀 만큼만 반영하여 이중 차감을 막는다. */
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private volatile long sendStartTime;
+    private volatile boolean closed;
+
+    ChatOutboundSessionDecorator(WebSocketSession delegate, ChatOutboundPolicy policy) {
+        super(delegate);
+        this.policy = policy;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        int length = message.getPayloadLength();
+        long queued;
+        synchronized (buffer) {
+            if (closed) {
+                return;
+            }
+            buffer.addLast(message);
+            queued = bufferedBytes.addAndGet(length);
+        }
+        policy.queued(length, queued);
+
+        if (!checkLimits()) {
+            return;
+        }
+        if (draining.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("chat-ws-out-" + getId()).start(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            WebSocketMessage<?> next;
+            synchronized (buffer) {
+                next = buffer.pollFirst();
+            }
+            if (next == null) {
+                draining.set(false);
+                // 플래그를 내리는 사이 들어온 프레임이 있으면 다시 소유권을 가져온다.
+                boolean pending;
+                synchronized (buffer) {
+                    pending = !buffer.isEmpty();
+                }
+                if (pending && draining.compareAndSet(false, true)) {
+                    continue;
+                }
+                return;
+            }
+            if (closed) {
+                return;
+            }
+            sendStartTime = System.currentTimeMillis();
+            try {
+                getDelegate().sendMessage(next);
+            } catch (IOException | RuntimeException e) {
+                log.debug("[CHAT] outbound send failed - session={}", getId(), e);
+                forceClose(null);
+                return;
+            } finally {
+                sendStartTime = 0;
+            }
+            released(next.getPayloadLength());
+        }
+    }
+
+    /**
+     * @return 연결을 유지해도 되면 {@code true}
+     */
+    private boolean checkLimits() {
+        long started = sendStartTime;
+        if (started != 0 && System.currentTimeMillis() - started > policy.sendTimeLimitMs()) {
+            forceClose("send_time");
+            return false;
+        }
+
+        int dropped = 0;
+        long droppedBytes = 0;
+        boolean overLimit;
+        synchronized (buffer) {
+            Iterator<WebSocketMessage<?>> it = buffer.iterator();
+            while (bufferedBytes.get() > policy.bufferSizeLimit() && it.hasNext()) {
+                WebSocketMessage<?> candidate = it.next();
+                if (isMessageFrame(candidate)) {
+                    it.remove();
+                    bufferedBytes.addAndGet(-candidate.getPayloadLength());
+                    droppedBytes += candidate.getPayloadLength();
+                    dropped++;
+                }
+            }
+            overLimit = bufferedBytes.get() > policy.bufferSizeLimit();
+        }
+        if (dropped > 0) {
+            policy.dropped(dropped, droppedBytes);
+        }
+        if (overLimit) {
+            forceClose("buffer");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 버퍼를 비우고 연결을 끊는다.
+     *
+     * @param reason 지표용 사유 (null이면 지표를 남기지 않음)
+     */
+    private void forceClose(String reason) {
+        if (closed) {
+            return;
+        }
+        release();
+        if (reason != null) {
+            policy.forcedDisconnect(reason);
+            log.info("[CHAT] slow consumer disconnected - session={}, reason={}", getId(), reason);
+        }
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException | RuntimeException e) {
+            log.debug("[CHAT] close failed - session={}", getId(), e);
+        }
+    }
+
+    /**
+     * 세션 종료 시 남아 있는 버퍼를 비우고 지표에서 제외한다.
+     *
+     * <p>{@link #forceClose(String)}와 연결 종료 콜백에서 중복 호출될 수 있으므로,
+     * 세션 카운터를 {@code getAndSet(0)}으로 비워 남은 바이트가 전역 지표에서 한 번만 빠지게 한다.</p>
+     */
+    void release() {
+        long remaining;
+        synchronized (buffer) {
+            closed = true;
+            buffer.clear();
+            remaining = bufferedBytes.getAndSet(0);
+        }
+        policy.released(remaining);
+    }
+
+    private void released(int length) {
+        synchronized (buffer) {
+            if (closed) {
+                return; // release()에서 이미 정리됨
+            }
+            bufferedBytes.addAndGet(-length);
+        }
+        policy.released(length);
+    }
+
+    private static boolean isMessageFrame(WebSocketMessage<?> message) {
+        ByteBuffer payload;
+        if (message instanceof TextMessage text) {
+            payload = ByteBuffer.wrap(text.asBytes());
+        } else if (message instanceof BinaryMessage binary) {
+            payload = binary.getPayload().duplicate();
+        } else {
+            return false;
+        }
+        if (payload.remaining() < MESSAGE_COMMAND.length) {
+            return false;
+        }
+        for (byte b : MESSAGE_COMMAND) {
+            if (payload.get() != b) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.buskmate.messenger.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.presence.service.ChatPresenceRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * STOMP 프레임으로 {@link ChatPresenceRegistry}를 갱신하는 인터셉터.
+ *
+ * <p>인증/인가 인터셉터 뒤에 등록되어, 거부되지 않은 프레임만 반영한다.</p>
+ * <ul>
+ *   <li>CONNECT: 세션 등록</li>
+ *   <li>SUBSCRIBE / UNSUBSCRIBE: 방 online 반영</li>
+ *   <li>DISCONNECT: 세션 제거</li>
+ *   <li>그 외 모든 인바운드 프레임(하트비트 포함): TTL 연장</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceInterceptor implements ChannelInterceptor {
+
+    private final ChatPresenceRegistry chatPresenceRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            // 하트비트 등 STOMP 명령이 없는 프레임
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            if (sessionId != null) {
+                chatPresenceRegistry.touch(sessionId);
+            }
+            return message;
+        }
+
+        String sessionId = accessor.getSessionId();
+        switch (accessor.getCommand()) {
+            case CONNECT -> {
+                Principal user = accessor.getUser();
+                if (user != null) {
+                    chatPresenceRegistry.connect(sessionId, user.getName());
+                }
+            }
+            case SUBSCRIBE -> chatPresenceRegistry.subscribe(sessionId, accessor.getSubscriptionId(), accessor.getDestination());
+            case UNSUBSCRIBE -> chatPresenceRegistry.unsubscribe(sessionId, accessor.getSubscriptionId());
+            case DISCONNECT -> chatPresenceRegistry.disconnect(sessionId);
+            default -> chatPresenceRegistry.touch(sessionId);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.buskmate.messenger.config;
+
+import org.example.buskmate.messenger.chat.service.RedisChatBroadcaster;
+import org.example.buskmate.messenger.presence.service.RedisChatPresencePublisher;
+import org.example.buskmate.messenger.support.RedisChatClusterEvents;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.Executors;
+
+/**
+ * 멀티 노드 STOMP 브로드캐스트용 Redis pub/sub 구독 설정. ({@code chat.broker.mode=redis})
+ *
+ * <p>{@code chat:room:*} 채널을 구독하여, 다른 노드(및 자기 자신)가 발행한 프레임 배치를
+ * 현재 노드의 simple broker로 전달한다.</p>
+ *
+ * <p>{@code chat:cluster} 채널은 다른 노드가 발행한 캐시 동기화 이벤트(멤버 초대/강퇴, 방 삭제, 메시지 전송)를
+ * 현재 노드의 멤버십/ACL/최근 메시지 캐시에 반영한다. ({@link RedisChatClusterEvents})</p>
+ *
+ * <p>{@code chat:presence} 채널은 다른 노드의 접속 상태 스냅샷을 받아 노드별 스냅샷 병합에 반영한다.
+ * ({@link RedisChatPresencePublisher})</p>
+ *
+ * <p>수신한 메시지는 단일 스레드에서 받은 순서대로 처리한다. 기본 실행기({@code SimpleAsyncTaskExecutor})는 메시지마다
+ * 새 스레드를 만들어, 같은 방의 프레임 배치나 멤버 초대/강퇴 이벤트가 뒤바뀌어 반영될 수 있다.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisBrokerRelayConfig {
+
+    @Bean
+    public RedisMessageListenerContainer chatRelayListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                   RedisChatBroadcaster redisChatBroadcaster,
+                                                                   RedisChatClusterEvents redisChatClusterEvents,
+                                                                   RedisChatPresencePublisher redisChatPresencePublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "chat-redis-listener");
+            t.setDaemon(true);
+            return t;
+        }));
+        container.addMessageListener(
+                (message, pattern) -> redisChatBroadcaster.deliverLocally(message.getBody()),
+                new PatternTopic(RedisChatBroadcaster.CHANNEL_PREFIX + "*")
+        );
+        container.addMessageListener(
+                (message, pattern) -> redisChatClusterEvents.deliverLocally(message.getBody()),
+                new ChannelTopic(RedisChatClusterEvents.CHANNEL)
+        );
+        container.addMessageListener(
+                (message, pattern) -> redisChatPresencePublisher.deliverLocally(message.getBody()),
+                new ChannelTopic(RedisChatPresencePublisher.CHANNEL)
+        );
+        return container;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.buskmate.messenger.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@code @Scheduled} 작업 전용 스케줄러 설정.
+ *
+ * <p>STOMP 브로커가 등록하는 {@code messageBrokerTaskScheduler}가 컨텍스트의 유일한 {@code TaskScheduler}이면
+ * 스프링 부트의 기본 스케줄러가 만들어지지 않고, {@code @Scheduled} 작업(보관 이동, 백필, 색인 플러시, 접속 상태 틱 등)이
+ * 모두 하트비트 스케줄러에서 실행된다. 그러면 오래 걸리는 DB 작업이 하트비트를 늦춰 연결이 끊길 수 있다.</p>
+ *
+ * <p>{@code @Scheduled} 처리기는 {@code TaskScheduler}가 여럿이면 {@code taskScheduler} 이름의 빈을 사용하므로,
+ * 그 이름으로 별도 풀을 등록해 하트비트와 분리한다. 풀 크기/스레드 이름은 {@code spring.task.scheduling.*}로 설정한다.</p>
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+}
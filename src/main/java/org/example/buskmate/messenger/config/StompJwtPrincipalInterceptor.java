@@ -1,21 +1,64 @@
 package org.example.buskmate.messenger.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.room.service.ChatSessionRoomAcl;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
-import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
 import java.security.Principal;
 
 
+/**
+ * STOMP 인증/인가 인터셉터.
+ *
+ * <h2>CONNECT (세션당 1회)</h2>
+ * <ul>
+ *   <li>핸드셰이크 요청에서 이미 인증된 사용자(ACCESS_TOKEN 쿠키)가 있으면 그대로 사용한다.</li>
+ *   <li>없으면 {@code ACCESS_TOKEN} 또는 {@code Authorization: Bearer ...} 네이티브 헤더의 JWT를 디코딩해
+ *       세션 사용자로 바인딩한다.</li>
+ *   <li>사용자가 참여 중인 채팅방 집합을 {@link ChatSessionRoomAcl}에 한 번 적재한다.</li>
+ * </ul>
+ *
+ * <h2>SUBSCRIBE / SEND</h2>
+ * <p>{@code /chat/room/{roomId}/**} 구독과 {@code /chat/cmd/room/{roomId}/**} 전송은
+ * 세션 ACL 메모리 조회로만 검사한다. (프레임당 DB 조회 없음)</p>
+ * <p>{@code /queue/**}는 {@code /user/queue/**}를 통해서만 구독할 수 있다. 세션별로 변환된 목적지를
+ * 직접 구독해 다른 세션의 개인 메시지를 받는 것을 막는다.</p>
+ *
+ * <h2>MESSAGE (아웃바운드)</h2>
+ * <p>강퇴/방 삭제 이전에 맺어진 구독으로 메시지가 새지 않도록, {@link #filterOutbound(Message)}가
+ * 세션 ACL에서 빠진 방의 MESSAGE 프레임을 버린다.</p>
+ *
+ * <p>권한이 없으면 {@link SecurityException}을 던지며, STOMP ERROR 프레임으로 전달된다.</p>
+ */
 @Component
 @RequiredArgsConstructor
 public class StompJwtPrincipalInterceptor implements ChannelInterceptor {
 
+    private static final String ACCESS_TOKEN_HEADER = "ACCESS_TOKEN";
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final String ROOM_DESTINATION_PREFIX = "/chat/room/";
+    private static final String ROOM_COMMAND_PREFIX = "/chat/cmd/room/";
+    private static final String QUEUE_PREFIX = "/queue/";
+
+    private final JwtDecoder jwtDecoder;
+    private final Converter<Jwt, ? extends AbstractAuthenticationToken> jwtToUsersPrincipal;
+    private final ChatSessionRoomAcl chatSessionRoomAcl;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor =
@@ -25,16 +68,102 @@ public class StompJwtPrincipalInterceptor implements ChannelInterceptor {
             return message;
         }
 
-        if (accessor.getCommand() == StompCommand.CONNECT) {
+        switch (accessor.getCommand()) {
+            case CONNECT -> connect(accessor);
+            case SUBSCRIBE -> {
+                rejectDirectQueue(accessor.getDestination());
+                authorize(accessor, roomIdOf(accessor.getDestination(), ROOM_DESTINATION_PREFIX));
+            }
+            case SEND -> authorize(accessor, roomIdOf(accessor.getDestination(), ROOM_COMMAND_PREFIX));
+            case DISCONNECT -> chatSessionRoomAcl.unregister(accessor.getSessionId());
+            default -> { }
+        }
+        return message;
+    }
+
+    /**
+     * 클라이언트로 나가는 MESSAGE 프레임 중, 세션이 더 이상 접근할 수 없는 채팅방의 프레임을 버린다.
+     *
+     * @param message 아웃바운드 메시지
+     * @return 전달할 메시지 (버릴 경우 {@code null})
+     */
+    public Message<?> filterOutbound(Message<?> message) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String roomId = roomIdOf(SimpMessageHeaderAccessor.getDestination(headers), ROOM_DESTINATION_PREFIX);
+        if (roomId == null) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        return chatSessionRoomAcl.isAllowed(sessionId, roomId) ? message : null;
+    }
+
+    private void connect(StompHeaderAccessor accessor) {
+        Principal user = accessor.getUser();
+        if (!(user instanceof Authentication auth && auth.isAuthenticated())) {
+            // 핸드셰이크에서 인증되지 않았다면 CONNECT 헤더의 토큰으로 인증한다.
+            user = authenticate(accessor);
+            accessor.setUser(user);
+        }
+        chatSessionRoomAcl.register(accessor.getSessionId(), user.getName());
+    }
 
-            Principal user = accessor.getUser();
-            if (user instanceof Authentication auth && auth.isAuthenticated()) {
-                // 이미 인증된 상태면 그냥 통과
-                return message;
+    private Authentication authenticate(StompHeaderAccessor accessor) {
+        String token = resolveToken(accessor);
+        if (token == null) {
+            throw new SecurityException("인증 토큰이 없습니다.");
+        }
+        try {
+            Authentication auth = jwtToUsersPrincipal.convert(jwtDecoder.decode(token));
+            if (auth == null) {
+                throw new SecurityException("유효하지 않은 인증 토큰입니다.");
             }
+            return auth;
+        } catch (JwtException e) {
+            throw new SecurityException("유효하지 않은 인증 토큰입니다.", e);
+        }
+    }
 
+    private static String resolveToken(StompHeaderAccessor accessor) {
+        String token = accessor.getFirstNativeHeader(ACCESS_TOKEN_HEADER);
+        if (token != null && !token.isBlank()) {
+            return token;
         }
+        String authorization = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
 
-        return message;
+    private static void rejectDirectQueue(String destination) {
+        if (destination != null && destination.startsWith(QUEUE_PREFIX)) {
+            throw new SecurityException("개인 큐는 /user 목적지로만 구독할 수 있습니다.");
+        }
+    }
+
+    private void authorize(StompHeaderAccessor accessor, String roomId) {
+        if (roomId == null) {
+            return;
+        }
+        if (!chatSessionRoomAcl.isAllowed(accessor.getSessionId(), roomId)) {
+            throw new SecurityException("해당 채팅방의 멤버가 아닙니다.");
+        }
+    }
+
+    /**
+     * {@code prefix + roomId[/...]} 형태의 목적지에서 roomId를 꺼낸다.
+     *
+     * @return roomId (형식이 맞지 않으면 {@code null})
+     */
+    private static String roomIdOf(String destination, String prefix) {
+        if (destination == null || !destination.startsWith(prefix)) {
+            return null;
+        }
+        int end = destination.indexOf('/', prefix.length());
+        String roomId = end < 0 ? destination.substring(prefix.length()) : destination.substring(prefix.length(), end);
+        return roomId.isEmpty() ? null : roomId;
     }
 }
@@ -1,12 +1,21 @@
 package org.example.buskmate.messenger.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -14,6 +23,24 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompJwtPrincipalInterceptor stompJwtPrincipalInterceptor;
+    private final ChatCodecNegotiationInterceptor chatCodecNegotiationInterceptor;
+    private final ChatOutboundPolicy chatOutboundPolicy;
+    private final ChatPresenceInterceptor chatPresenceInterceptor;
+
+    @Value("${chat.presence.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    /**
+     * 하트비트에 쓸 스케줄러로 프레임워크가 등록하는 {@code messageBrokerTaskScheduler} 빈을 받는다.
+     * (이 설정 클래스가 그 빈을 만드는 설정의 일부이므로 순환 참조를 피하려 @Lazy로 주입한다)
+     * {@code @Scheduled} 전용 {@code taskScheduler}({@link SchedulingConfig})와 구분하려 이름으로 지정한다.
+     */
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -23,16 +50,46 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 // - 모든 Origin(*)에서 WebSocket 연결을 허용합니다.
                 // - 운영에서는 프론트 도메인(CloudFront/S3)과 로컬 개발 도메인만 명시적으로 허용하세요.
                 .setAllowedOriginPatterns("*");
+
+        // 세션별 인바운드 프레임을 받은 순서대로 처리한다. (같은 세션의 SEND가 ChatRoomSendExecutor에 뒤바뀌어 제출되지 않도록)
+        registry.setPreserveReceiveOrder(true);
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/chat/room");
+        // 하트비트는 끊긴 연결 정리와 접속 상태(ChatPresenceRegistry) TTL 연장에 쓰인다.
+        // /queue는 /user/queue/** 사용자 목적지(세션별 에러 등) 전용이다. 직접 구독은 StompJwtPrincipalInterceptor가 막는다.
+        registry.enableSimpleBroker("/chat/room", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(messageBrokerTaskScheduler);
         registry.setApplicationDestinationPrefixes("/chat/cmd");
+        registry.setUserDestinationPrefix("/user");
+        // ChatRoomSendExecutor가 방 단위로 순서대로 발행한 메시지를 세션별 전송에서도 같은 순서로 유지한다.
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 버퍼링/느린 구독자 처리는 ChatOutboundPolicy가 담당한다.
+        // (데코레이터가 즉시 반환하므로 아래 기본 한도는 안전망으로만 동작)
+        registration.addDecoratorFactory(chatOutboundPolicy);
+        registration.setSendBufferSizeLimit(chatOutboundPolicy.bufferSizeLimit());
+        registration.setSendTimeLimit((int) chatOutboundPolicy.sendTimeLimitMs());
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompJwtPrincipalInterceptor);
+        registration.interceptors(stompJwtPrincipalInterceptor, chatCodecNegotiationInterceptor, chatPresenceInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 강퇴/방 삭제로 세션 ACL에서 빠진 방의 MESSAGE 프레임은 기존 구독이 남아 있어도 전달하지 않는다.
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                return stompJwtPrincipalInterceptor.filterOutbound(message);
+            }
+        });
     }
 }
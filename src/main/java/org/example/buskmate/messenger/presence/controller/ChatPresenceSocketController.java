@@ -0,0 +1,25 @@
+package org.example.buskmate.messenger.presence.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.presence.dto.ChatTypingRequest;
+import org.example.buskmate.messenger.presence.service.ChatPresenceRegistry;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+@RequiredArgsConstructor
+@Controller
+public class ChatPresenceSocketController {
+
+    private final ChatPresenceRegistry chatPresenceRegistry;
+
+    @MessageMapping("/room/{roomId}/typing")
+    public void typing(@DestinationVariable String roomId,
+                       ChatTypingRequest request,
+                       Principal principal) {
+
+        chatPresenceRegistry.typing(roomId, principal.getName(), request.typing());
+    }
+}
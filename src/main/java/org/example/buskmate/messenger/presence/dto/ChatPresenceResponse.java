@@ -0,0 +1,19 @@
+package org.example.buskmate.messenger.presence.dto;
+
+import java.util.List;
+
+/**
+ * 채팅방 접속/입력 중 상태 스냅샷 DTO.
+ *
+ * <p>{@code /chat/room/{roomId}/presence}로 방마다 주기당 최대 1회 전송된다.
+ * 변경분이 아닌 전체 상태이므로, 클라이언트는 마지막으로 받은 값으로 덮어쓰면 된다.</p>
+ *
+ * @param roomId        채팅방 식별자
+ * @param onlineUserIds 방을 구독 중인 사용자 목록
+ * @param typingUserIds 입력 중인 사용자 목록
+ */
+public record ChatPresenceResponse(
+        String roomId,
+        List<String> onlineUserIds,
+        List<String> typingUserIds
+) {}
@@ -0,0 +1,11 @@
+package org.example.buskmate.messenger.presence.dto;
+
+/**
+ * 입력 중 상태 전송 DTO. (STOMP {@code /chat/cmd/room/{roomId}/typing})
+ *
+ * <p>입력하는 동안 주기적으로 {@code true}를 보내면 TTL이 연장되고,
+ * {@code false}를 보내거나 메시지를 전송하거나 TTL이 지나면 해제된다.</p>
+ *
+ * @param typing 입력 중 여부
+ */
+public record ChatTypingRequest(boolean typing) {}
@@ -0,0 +1,34 @@
+package org.example.buskmate.messenger.presence.service;
+
+import org.example.buskmate.messenger.presence.dto.ChatPresenceResponse;
+
+import java.util.List;
+
+/**
+ * 접속 상태 스냅샷 전달 포트.
+ *
+ * <p>{@link ChatPresenceRegistry}는 현재 노드에 연결된 세션 기준의 스냅샷만 만든다.
+ * 이 포트는 그 스냅샷을 구독자에게 보일 방 전체 상태로 바꿔 전달한다. {@code chat.broker.mode} 설정에 따라 구현체가 선택된다.</p>
+ *
+ * <ul>
+ *   <li>{@code simple}(기본): {@link LocalChatPresencePublisher} — 노드 스냅샷이 곧 방 전체 상태</li>
+ *   <li>{@code redis}: {@link RedisChatPresencePublisher} — 노드별 스냅샷을 모아 합친 상태를 각 노드가 자기 구독자에게 전달</li>
+ * </ul>
+ */
+public interface ChatPresencePublisher {
+
+    /**
+     * 상태가 바뀐 방의 노드 스냅샷을 전달한다.
+     *
+     * @param snapshot 현재 노드 기준 스냅샷
+     */
+    void publish(ChatPresenceResponse snapshot);
+
+    /**
+     * 상태가 남아 있는 방의 노드 스냅샷을 주기적으로 다시 알린다. (다른 노드에서 만료되지 않도록)
+     *
+     * @param snapshots 현재 노드 기준 스냅샷 목록
+     */
+    default void refresh(List<ChatPresenceResponse> snapshots) {
+    }
+}
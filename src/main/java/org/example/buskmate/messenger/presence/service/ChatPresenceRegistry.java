@@ -0,0 +1,382 @@
+package org.example.buskmate.messenger.presence.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.presence.dto.ChatPresenceResponse;
+import org.example.buskmate.messenger.support.HashedTimerWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채팅방 접속(online)/입력 중(typing) 상태 레지스트리.
+ *
+ * <p>짧게 살다 사라지는 상태이므로 DB에 저장하지 않고 메모리에만 둔다.
+ * 만료는 {@link HashedTimerWheel}로 처리하여, 프레임마다의 TTL 연장은 필드 하나를 쓰는 것으로 끝난다.</p>
+ *
+ * <h2>상태 규칙</h2>
+ * <ul>
+ *   <li>online: 세션이 {@code /chat/room/{roomId}}(또는 {@code /bin})를 구독 중이고,
+ *       마지막 인바운드 프레임(하트비트 포함) 이후 {@code chat.presence.session-ttl-ms}가 지나지 않음.
+ *       TTL이 지난 세션은 다음 프레임이 들어오면 다시 online이 된다.</li>
+ *   <li>typing: 마지막 typing 신호 이후 {@code chat.presence.typing-ttl-ms}가 지나지 않음.</li>
+ * </ul>
+ *
+ * <h2>전송</h2>
+ * <p>상태가 바뀐 방만 표시해 두고, {@code chat.presence.broadcast-interval-ms}마다 현재 노드 기준 스냅샷을
+ * {@link ChatPresencePublisher}로 한 번씩 넘긴다. 그 사이 변경이 몇 번이든 방당 1회이고,
+ * 이미 입력 중인 사용자의 typing 연장은 변경으로 보지 않는다. 상태가 남아 있는 방은
+ * {@code chat.presence.refresh-interval-ms}마다 다시 알려, 여러 노드 운영 시 다른 노드에서 만료되지 않게 한다.
+ * (노드별 스냅샷 병합은 {@link RedisChatPresencePublisher} 참고)</p>
+ *
+ * <h2>동시성</h2>
+ * <p>전역 락을 쓰지 않는다. 방 단위 상태는 {@link ConcurrentHashMap#compute}로 방마다 원자적으로 바꾸고,
+ * 세션의 구독 목록은 세션 객체 단위로 동기화한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceRegistry {
+
+    public static final String PRESENCE_SUFFIX = "/presence";
+
+    private static final String ROOM_DESTINATION_PREFIX = "/chat/room/";
+    private static final String BINARY_SUFFIX = "/bin";
+
+    private final ChatPresencePublisher presencePublisher;
+
+    @Value("${chat.presence.session-ttl-ms:30000}")
+    private long sessionTtlMs;
+
+    @Value("${chat.presence.typing-ttl-ms:5000}")
+    private long typingTtlMs;
+
+    @Value("${chat.presence.tick-ms:500}")
+    private long tickMs;
+
+    @Value("${chat.presence.wheel-size:512}")
+    private int wheelSize;
+
+    private HashedTimerWheel<Ttl> wheel;
+
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    /** roomId → userId → 활성 구독 수 (변경은 방 단위 compute 안에서만) */
+    private final Map<String, Map<String, Integer>> online = new ConcurrentHashMap<>();
+    /** roomId → userId → typing TTL (변경은 방 단위 compute 안에서만) */
+    private final Map<String, Map<String, TypingTtl>> typing = new ConcurrentHashMap<>();
+    private final Set<String> dirtyRooms = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        wheel = new HashedTimerWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 인증된 STOMP 세션을 등록한다. (CONNECT)
+     */
+    public void connect(String sessionId, String userId) {
+        SessionPresence session = new SessionPresence(userId);
+        session.expiresAt = System.currentTimeMillis() + sessionTtlMs;
+        sessions.put(sessionId, session);
+        schedule(session);
+    }
+
+    /**
+     * 세션의 TTL을 연장한다. (모든 인바운드 프레임/하트비트)
+     *
+     * <p>활성 세션이면 락 없이 만료 시각만 갱신한다.</p>
+     */
+    public void touch(String sessionId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        session.expiresAt = System.currentTimeMillis() + sessionTtlMs;
+        if (!session.active) {
+            revive(session);
+        }
+    }
+
+    /**
+     * 구독을 기록한다. 채팅방 메시지 목적지면 online에 반영하고, presence 목적지면 현재 스냅샷을 다시 보내도록 표시한다.
+     */
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        SessionPresence session = sessions.get(sessionId);
+        String roomId = roomIdOf(destination);
+        if (session == null || subscriptionId == null || roomId == null) {
+            return;
+        }
+        String rest = destination.substring(ROOM_DESTINATION_PREFIX.length() + roomId.length());
+        if (rest.equals(PRESENCE_SUFFIX)) {
+            dirtyRooms.add(roomId); // 새 구독자가 바로 현재 상태를 받도록
+            return;
+        }
+        if (!rest.isEmpty() && !rest.equals(BINARY_SUFFIX)) {
+            return;
+        }
+        synchronized (session) {
+            if (!session.closed && session.subscriptions.put(subscriptionId, roomId) == null && session.active) {
+                join(roomId, session.userId);
+            }
+        }
+    }
+
+    /**
+     * 구독 해제를 반영한다.
+     */
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null || subscriptionId == null) {
+            return;
+        }
+        synchronized (session) {
+            String roomId = session.subscriptions.remove(subscriptionId);
+            if (roomId != null && session.active) {
+                leave(roomId, session.userId);
+            }
+        }
+    }
+
+    /**
+     * 세션을 제거한다. (DISCONNECT/연결 종료)
+     */
+    public void disconnect(String sessionId) {
+        SessionPresence session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            if (session.active) {
+                session.subscriptions.values().forEach(roomId -> leave(roomId, session.userId));
+            }
+            session.subscriptions.clear();
+            session.active = false;
+            session.closed = true;
+        }
+    }
+
+    /**
+     * 입력 중 상태를 갱신한다.
+     *
+     * @param roomId 채팅방 식별자
+     * @param userId 사용자 식별자
+     * @param on     입력 중 여부
+     */
+    public void typing(String roomId, String userId, boolean on) {
+        if (!on) {
+            stopTyping(roomId, userId, null);
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + typingTtlMs;
+        Map<String, TypingTtl> users = typing.get(roomId);
+        TypingTtl current = users == null ? null : users.get(userId);
+        if (current != null) {
+            current.expiresAt = expiresAt; // 연장은 변경으로 보지 않는다.
+            return;
+        }
+        TypingTtl[] added = new TypingTtl[1];
+        typing.compute(roomId, (k, typers) -> {
+            Map<String, TypingTtl> next = typers == null ? new ConcurrentHashMap<>() : typers;
+            TypingTtl existing = next.get(userId);
+            if (existing != null) {
+                existing.expiresAt = expiresAt;
+                return next;
+            }
+            TypingTtl ttl = new TypingTtl(roomId, userId);
+            ttl.expiresAt = expiresAt;
+            next.put(userId, ttl);
+            added[0] = ttl;
+            return next;
+        });
+        if (added[0] != null) {
+            schedule(added[0]);
+            dirtyRooms.add(roomId);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${chat.presence.tick-ms:500}")
+    void tick() {
+        long now = System.currentTimeMillis();
+        for (Ttl ttl : wheel.advance(now)) {
+            ttl.scheduled.set(false);
+            if (ttl.expiresAt > now) {
+                schedule(ttl); // 그 사이 연장됨
+                continue;
+            }
+            if (ttl instanceof SessionPresence session) {
+                expire(session, now);
+            } else if (ttl instanceof TypingTtl typingTtl) {
+                stopTyping(typingTtl.roomId, typingTtl.userId, typingTtl);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.presence.broadcast-interval-ms:1000}")
+    void publish() {
+        if (dirtyRooms.isEmpty()) {
+            return;
+        }
+        for (String roomId : dirtyRooms) {
+            dirtyRooms.remove(roomId);
+            try {
+                presencePublisher.publish(snapshot(roomId));
+            } catch (RuntimeException e) {
+                log.warn("[CHAT] presence broadcast failed - roomId={}", roomId, e);
+            }
+        }
+    }
+
+    /**
+     * 상태가 남아 있는 방의 현재 노드 스냅샷을 다시 알린다.
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.refresh-interval-ms:10000}")
+    void refresh() {
+        List<ChatPresenceResponse> snapshots = new ArrayList<>();
+        for (String roomId : online.keySet()) {
+            snapshots.add(snapshot(roomId));
+        }
+        for (String roomId : typing.keySet()) {
+            if (!online.containsKey(roomId)) {
+                snapshots.add(snapshot(roomId));
+            }
+        }
+        try {
+            presencePublisher.refresh(snapshots);
+        } catch (RuntimeException e) {
+            log.warn("[CHAT] presence refresh failed - rooms={}", snapshots.size(), e);
+        }
+    }
+
+    /**
+     * 방의 presence 목적지({@code /chat/room/{roomId}/presence})를 반환한다.
+     */
+    public static String destinationOf(String roomId) {
+        return ROOM_DESTINATION_PREFIX + roomId + PRESENCE_SUFFIX;
+    }
+
+    private ChatPresenceResponse snapshot(String roomId) {
+        Map<String, Integer> users = online.get(roomId);
+        Map<String, TypingTtl> typers = typing.get(roomId);
+        List<String> onlineUserIds = users == null ? List.of() : users.keySet().stream().sorted().toList();
+        List<String> typingUserIds = typers == null ? List.of() : typers.keySet().stream().sorted().toList();
+        return new ChatPresenceResponse(roomId, onlineUserIds, typingUserIds);
+    }
+
+    private void revive(SessionPresence session) {
+        synchronized (session) {
+            if (session.active || session.closed) {
+                return;
+            }
+            session.active = true;
+            session.subscriptions.values().forEach(roomId -> join(roomId, session.userId));
+        }
+        schedule(session);
+    }
+
+    private void expire(SessionPresence session, long now) {
+        synchronized (session) {
+            if (!session.active || session.expiresAt > now) {
+                return;
+            }
+            session.active = false;
+            session.subscriptions.values().forEach(roomId -> leave(roomId, session.userId));
+        }
+    }
+
+    /**
+     * 입력 중 상태를 지운다.
+     *
+     * @param expected 만료 처리일 때 휠에서 나온 항목 (그 사이 새로 등록된 항목은 지우지 않는다). 명시적 해제면 null
+     */
+    private void stopTyping(String roomId, String userId, TypingTtl expected) {
+        boolean[] removed = new boolean[1];
+        typing.computeIfPresent(roomId, (k, typers) -> {
+            removed[0] = expected == null ? typers.remove(userId) != null : typers.remove(userId, expected);
+            return typers.isEmpty() ? null : typers;
+        });
+        if (removed[0]) {
+            dirtyRooms.add(roomId);
+        }
+    }
+
+    private void schedule(Ttl ttl) {
+        if (ttl.scheduled.compareAndSet(false, true)) {
+            wheel.schedule(ttl, ttl.expiresAt);
+        }
+    }
+
+    private void join(String roomId, String userId) {
+        boolean[] joined = new boolean[1];
+        online.compute(roomId, (k, users) -> {
+            Map<String, Integer> next = users == null ? new ConcurrentHashMap<>() : users;
+            joined[0] = next.merge(userId, 1, Integer::sum) == 1;
+            return next;
+        });
+        if (joined[0]) {
+            dirtyRooms.add(roomId);
+        }
+    }
+
+    private void leave(String roomId, String userId) {
+        boolean[] left = new boolean[1];
+        online.computeIfPresent(roomId, (k, users) -> {
+            left[0] = users.containsKey(userId)
+                    && users.computeIfPresent(userId, (u, count) -> count > 1 ? count - 1 : null) == null;
+            return users.isEmpty() ? null : users;
+        });
+        if (left[0]) {
+            dirtyRooms.add(roomId);
+        }
+    }
+
+    private static String roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        int end = destination.indexOf('/', ROOM_DESTINATION_PREFIX.length());
+        String roomId = end < 0
+                ? destination.substring(ROOM_DESTINATION_PREFIX.length())
+                : destination.substring(ROOM_DESTINATION_PREFIX.length(), end);
+        return roomId.isEmpty() ? null : roomId;
+    }
+
+    /**
+     * 휠에 올라가는 TTL 항목. {@code expiresAt}은 락 없이 연장될 수 있다.
+     */
+    private abstract static class Ttl {
+        volatile long expiresAt;
+        /** 휠에 등록되어 있는지 */
+        final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+
+    private static final class SessionPresence extends Ttl {
+        private final String userId;
+        /** subscriptionId → roomId (세션 객체로 보호) */
+        private final Map<String, String> subscriptions = new HashMap<>();
+        volatile boolean active = true;
+        boolean closed;
+
+        private SessionPresence(String userId) {
+            this.userId = userId;
+        }
+    }
+
+    private static final class TypingTtl extends Ttl {
+        private final String roomId;
+        private final String userId;
+
+        private TypingTtl(String roomId, String userId) {
+            this.roomId = roomId;
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.buskmate.messenger.presence.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.presence.dto.ChatPresenceResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 {@link ChatPresencePublisher} 구현체. (기본값)
+ *
+ * <p>모든 세션이 현재 노드에 있으므로 노드 스냅샷을 그대로 {@code /chat/room/{roomId}/presence}로 보낸다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class LocalChatPresencePublisher implements ChatPresencePublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void publish(ChatPresenceResponse snapshot) {
+        messagingTemplate.convertAndSend(ChatPresenceRegistry.destinationOf(snapshot.roomId()), snapshot);
+    }
+}
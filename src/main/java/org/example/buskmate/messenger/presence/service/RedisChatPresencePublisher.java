@@ -0,0 +1,212 @@
+package org.example.buskmate.messenger.presence.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.presence.dto.ChatPresenceResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 멀티 노드용 {@link ChatPresencePublisher} 구현체. ({@code chat.broker.mode=redis})
+ *
+ * <p>각 노드는 자기 세션 기준 스냅샷을 Redis 채널({@value #CHANNEL})로 발행하고, 모든 노드는 방마다
+ * “노드 → 마지막 스냅샷”을 보관한다. 구독자에게는 노드 스냅샷을 합친(합집합) 상태를 현재 노드의 simple broker로만 보내므로,
+ * 노드마다 다른 부분 스냅샷이 번갈아 도착해 상태가 깜빡이지 않는다.</p>
+ *
+ * <h2>갱신/만료</h2>
+ * <ul>
+ *   <li>다른 노드의 스냅샷이나 주기 갱신으로 합친 상태가 바뀌지 않았으면 구독자에게 다시 보내지 않는다.</li>
+ *   <li>빈 스냅샷을 받으면 그 노드 항목을 지운다.</li>
+ *   <li>{@code chat.presence.node-ttl-ms} 동안 갱신되지 않은 노드 항목(비정상 종료 노드)은 지운다.
+ *       살아 있는 노드는 {@link #refresh(List)}로 주기적으로 다시 발행한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisChatPresencePublisher implements ChatPresencePublisher {
+
+    public static final String CHANNEL = "chat:presence";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final long nodeTtlMs;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** roomId → 방의 노드별 스냅샷 */
+    private final Map<String, RoomPresence> rooms = new ConcurrentHashMap<>();
+
+    public RedisChatPresencePublisher(SimpMessagingTemplate messagingTemplate,
+                                      RedisConnectionFactory redisConnectionFactory,
+                                      @Value("${chat.presence.node-ttl-ms:30000}") long nodeTtlMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.nodeTtlMs = nodeTtlMs;
+    }
+
+    @Override
+    public void publish(ChatPresenceResponse snapshot) {
+        apply(nodeId, snapshot, true);
+        send(List.of(snapshot));
+    }
+
+    @Override
+    public void refresh(List<ChatPresenceResponse> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        snapshots.forEach(snapshot -> apply(nodeId, snapshot, false));
+        send(snapshots);
+    }
+
+    /**
+     * Redis에서 수신한 노드 스냅샷을 반영한다. (자기 노드가 발행한 스냅샷은 무시)
+     *
+     * @param body {@link #encode(String, ChatPresenceResponse)}로 인코딩된 스냅샷
+     */
+    public void deliverLocally(byte[] body) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+            String origin = in.readUTF();
+            if (nodeId.equals(origin)) {
+                return;
+            }
+            apply(origin, decodeSnapshot(in), false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 갱신이 끊긴 노드 항목을 지우고, 합친 상태가 바뀐 방에 다시 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.refresh-interval-ms:10000}")
+    void expireNodes() {
+        long deadline = System.currentTimeMillis() - nodeTtlMs;
+        for (String roomId : rooms.keySet()) {
+            update(roomId, room -> room.nodes.values().removeIf(node -> node.receivedAt < deadline), false);
+        }
+    }
+
+    private void apply(String origin, ChatPresenceResponse snapshot, boolean force) {
+        long now = System.currentTimeMillis();
+        boolean empty = snapshot.onlineUserIds().isEmpty() && snapshot.typingUserIds().isEmpty();
+        update(snapshot.roomId(), room -> {
+            if (empty) {
+                room.nodes.remove(origin);
+            } else {
+                room.nodes.put(origin, new NodeSnapshot(snapshot, now));
+            }
+        }, force);
+    }
+
+    /**
+     * 방 항목을 원자적으로 바꾸고, 합친 상태가 직전 전송과 다르면 현재 노드 구독자에게 보낸다.
+     *
+     * @param force 합친 상태가 같아도 보낼지 여부 (현재 노드의 변경/새 구독자는 항상 현재 상태를 받아야 한다)
+     */
+    private void update(String roomId, Consumer<RoomPresence> change, boolean force) {
+        ChatPresenceResponse[] changed = new ChatPresenceResponse[1];
+        rooms.compute(roomId, (k, room) -> {
+            RoomPresence current = room == null ? new RoomPresence() : room;
+            change.accept(current);
+            ChatPresenceResponse merged = current.merge(roomId);
+            if (force || !merged.equals(current.lastSent)) {
+                current.lastSent = merged;
+                changed[0] = merged;
+            }
+            return current.nodes.isEmpty() ? null : current;
+        });
+        if (changed[0] != null) {
+            messagingTemplate.convertAndSend(ChatPresenceRegistry.destinationOf(roomId), changed[0]);
+        }
+    }
+
+    private void send(List<ChatPresenceResponse> snapshots) {
+        byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            for (ChatPresenceResponse snapshot : snapshots) {
+                connection.publish(channel, encode(nodeId, snapshot));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[CHAT] presence publish failed - rooms={}", snapshots.size(), e);
+        }
+    }
+
+    static byte[] encode(String origin, ChatPresenceResponse snapshot) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeUTF(origin);
+            out.writeUTF(snapshot.roomId());
+            writeList(out, snapshot.onlineUserIds());
+            writeList(out, snapshot.typingUserIds());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ChatPresenceResponse decodeSnapshot(DataInputStream in) throws IOException {
+        String roomId = in.readUTF();
+        return new ChatPresenceResponse(roomId, readList(in), readList(in));
+    }
+
+    private static void writeList(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readList(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+
+    private record NodeSnapshot(ChatPresenceResponse snapshot, long receivedAt) {
+    }
+
+    /**
+     * 방 하나의 노드별 스냅샷. {@code rooms.compute} 안에서만 변경된다.
+     */
+    private static final class RoomPresence {
+        private final Map<String, NodeSnapshot> nodes = new HashMap<>();
+        private ChatPresenceResponse lastSent;
+
+        private ChatPresenceResponse merge(String roomId) {
+            TreeSet<String> online = new TreeSet<>();
+            TreeSet<String> typing = new TreeSet<>();
+            for (NodeSnapshot node : nodes.values()) {
+                online.addAll(node.snapshot().onlineUserIds());
+                typing.addAll(node.snapshot().typingUserIds());
+            }
+            return new ChatPresenceResponse(roomId, List.copyOf(online), List.copyOf(typing));
+        }
+    }
+}
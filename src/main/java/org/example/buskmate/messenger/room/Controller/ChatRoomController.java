@@ -105,6 +105,60 @@ public class ChatRoomController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(
+            summary = "멤버 일괄 초대",
+            description = """
+            인증 필요. (OWNER 권한 필요)
+
+            - Path: /api/chat/rooms/{roomId}/members/bulk
+            - 요청 바디: MemberBulkRequest (최대 100명, 중복은 한 번만 처리)
+            - 동작: 권한을 한 번 확인한 뒤 멤버가 아닌 대상만 일괄 추가
+            - 응답: 사용자별 결과 (INVITED / ALREADY_MEMBER / LEFT_MEMBER / SELF)
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 성공 (대상별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "요청 값 검증 실패", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "채팅방 없음", content = @Content)
+    })
+    @PostMapping("/{roomId}/members/bulk")
+    public ResponseEntity<List<MemberBulkResult>> inviteMembers(
+            @PathVariable String roomId,
+            @Valid @RequestBody MemberBulkRequest request,
+            @AuthenticationPrincipal UsersPrincipal owner) {
+
+        return ResponseEntity.ok(chatRoomUseCase.inviteMembers(roomId, request, new CustomUser(owner.getUserId())));
+    }
+
+    @Operation(
+            summary = "멤버 일괄 강퇴",
+            description = """
+            인증 필요. (OWNER 권한 필요)
+
+            - Path: /api/chat/rooms/{roomId}/members/kick/bulk
+            - 요청 바디: MemberBulkRequest (최대 100명, 중복은 한 번만 처리)
+            - 동작: 권한을 한 번 확인한 뒤 활성 멤버만 일괄 강퇴
+            - 응답: 사용자별 결과 (KICKED / NOT_MEMBER / ALREADY_LEFT / SELF)
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 성공 (대상별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "요청 값 검증 실패", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "채팅방 없음", content = @Content)
+    })
+    @PostMapping("/{roomId}/members/kick/bulk")
+    public ResponseEntity<List<MemberBulkResult>> kickMembers(
+            @PathVariable String roomId,
+            @Valid @RequestBody MemberBulkRequest request,
+            @AuthenticationPrincipal UsersPrincipal owner) {
+
+        return ResponseEntity.ok(chatRoomUseCase.kickMembers(roomId, request, new CustomUser(owner.getUserId())));
+    }
+
     @Operation(
             summary = "채팅방 삭제",
             description = """
@@ -138,6 +192,7 @@ public class ChatRoomController {
             - Path: /api/chat/rooms
             - 동작: 로그인한 사용자가 참여 중인 채팅방 목록을 반환
             - 응답: List<MyChatRoomResponse>
+            - 이후 변경분은 STOMP /user/queue/rooms 로 푸시되므로, 화면 진입 시 1회만 호출하면 된다.
             """
     )
     @ApiResponses({
@@ -4,6 +4,7 @@ package org.example.buskmate.messenger.room.domain;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -26,6 +27,16 @@ import java.time.LocalDateTime;
  * </ul>
  *
  * <p>{@link #delete()}는 멱등(idempotent)하게 동작한다. (이미 삭제된 경우 변화 없음)</p>
+ *
+ * <h2>마지막 메시지 포인터</h2>
+ * <p>“내 채팅방 목록” 정렬과 안 읽은 메시지 수 계산을 메시지 테이블 집계 없이 처리하기 위해 마지막 메시지의
+ * ID/순번/시각/미리보기를 비정규화하여 보관한다. 이 컬럼들은 JPA 더티 체킹으로 덮어쓰이지 않도록
+ * {@code insertable/updatable = false}로 매핑하며, {@code ChatRoomLastMessageUpdater}가 배치 UPDATE로만 갱신한다.</p>
+ *
+ * <h2>메시지 순번 카운터</h2>
+ * <p>{@code message_seq}는 방에서 마지막으로 예약된 메시지 순번이다. {@code ChatMessageSeqAllocator}가
+ * 전송 트랜잭션 안에서 {@code message_seq = message_seq + 1} UPDATE로만 증가시키므로, 여러 노드가 같은 방에
+ * 전송해도 행 잠금으로 직렬화되고 롤백되면 함께 되돌아간다.</p>
  */
 @Entity
 @Getter
@@ -50,6 +61,24 @@ public class ChatRoom {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 마지막 메시지 포인터 (비정규화, 기존 방은 ChatRoomLastMessageBackfiller가 채움)
+    @Column(name = "last_message_id", length = 26, insertable = false, updatable = false)
+    private String lastMessageId;
+
+    @Column(name = "last_message_seq", insertable = false, updatable = false)
+    private Long lastMessageSeq;
+
+    @Column(name = "last_message_at", insertable = false, updatable = false)
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "last_message_preview", length = 100, insertable = false, updatable = false)
+    private String lastMessagePreview;
+
+    // 메시지 순번 카운터 (0이면 아직 기존 메시지로부터 초기화되지 않음)
+    @ColumnDefault("0")
+    @Column(name = "message_seq", nullable = false, insertable = false, updatable = false)
+    private long messageSeq;
+
 
     public ChatRoom(String roomId, String title) {
         this.roomId = roomId;
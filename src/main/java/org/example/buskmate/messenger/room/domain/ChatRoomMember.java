@@ -19,9 +19,14 @@ import java.time.LocalDateTime;
  * <ul>
  *   <li>{@code joinedAt}: 최초 가입 시각 (영속화 시점에 설정)</li>
  *   <li>{@code leftAt}: 방 나가기 시각 (null이면 활성 멤버)</li>
- *   <li>읽음 상태: 마지막으로 읽은 메시지 및 시각</li>
+ *   <li>읽음 상태: 마지막으로 읽은 메시지(ULID), 방 내 순번 및 시각</li>
  * </ul>
  *
+ * <p>읽음 상태는 엔티티를 거치지 않고 {@code ChatMemberJdbcRepository}의 배치 UPDATE로만 갱신한다.
+ * 읽은 순번이 앞으로만 가는지는 UPDATE의 WHERE 조건이 판단한다.
+ * {@code last_read_message_id}(메시지 PK)는 이전 스키마 컬럼이며, 값은 {@code ChatReadPointerBackfiller}가
+ * {@code last_read_message_ulid}/{@code last_read_seq}로 옮긴다.</p>
+ *
  * <p><b>활성 여부:</b> {@link #isActive()}가 {@code true}면 현재 방에 남아 있는 멤버이다.</p>
  */
 @Entity
@@ -33,6 +38,10 @@ import java.time.LocalDateTime;
                         name = "uk_chat_room_member",
                         columnNames = {"room_id", "user_id"}
                 )
+        },
+        indexes = {
+                // 내 채팅방 목록: user_id로 범위 탐색 후 활성 멤버십만 인덱스에서 걸러낸다.
+                @Index(name = "idx_chat_room_member_user_left_room", columnList = "user_id, left_at, room_id")
         }
 )
 @NoArgsConstructor
@@ -59,10 +68,16 @@ public class ChatRoomMember {
     @Column(name = "left_at")
     private LocalDateTime leftAt;
 
-    // 읽음 상태
+    // 읽음 상태 (ChatReadReceiptBuffer가 배치 UPDATE로 갱신)
     @Column(name = "last_read_message_id")
     private Long lastReadMessageId;
 
+    @Column(name = "last_read_message_ulid", length = 26)
+    private String lastReadMessageUlid;
+
+    @Column(name = "last_read_seq")
+    private Long lastReadSeq;
+
     @Column(name = "last_read_at")
     private LocalDateTime lastReadAt;
 
@@ -88,10 +103,4 @@ public class ChatRoomMember {
         this.leftAt = LocalDateTime.now();
     }
 
-    // 메시지 읽음 처리
-    public void markRead(Long messageId) {
-        this.lastReadMessageId = messageId;
-        this.lastReadAt = LocalDateTime.now();
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.example.buskmate.messenger.room.dto;
+
+/**
+ * 채팅방 활성 멤버의 읽음 위치 스냅샷.
+ *
+ * <p>{@code ChatRoomMembersCache}가 방 단위 멤버 목록을 적재할 때 사용한다.</p>
+ *
+ * @param userId      사용자 식별자
+ * @param lastReadSeq 마지막으로 읽은 메시지 순번 (읽은 적이 없으면 null)
+ */
+public record ChatMemberReadState(
+        String userId,
+        Long lastReadSeq
+) {}
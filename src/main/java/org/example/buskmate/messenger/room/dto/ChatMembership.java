@@ -0,0 +1,39 @@
+package org.example.buskmate.messenger.room.dto;
+
+import org.example.buskmate.messenger.room.domain.ChatRoomStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 멤버십 스냅샷 DTO.
+ *
+ * <p>메시지 전송/조회 경로에서 “방 상태 + 멤버 활성 여부”를 한 번에 판단하기 위한 조회 모델이다.
+ * {@code ChatMembershipCache}에 (roomId, userId) 단위로 캐시된다.</p>
+ *
+ * <h2>필드 의미</h2>
+ * <ul>
+ *   <li>{@code roomPk}: 채팅방 DB 내부 PK (엔티티 참조 프록시 생성용)</li>
+ *   <li>{@code roomId}: 채팅방 식별자(외부 노출용)</li>
+ *   <li>{@code roomStatus}: 채팅방 상태</li>
+ *   <li>{@code leftAt}: 멤버 나가기 시각 (null이면 활성 멤버)</li>
+ * </ul>
+ *
+ * @param roomPk 채팅방 내부 PK
+ * @param roomId 채팅방 식별자
+ * @param roomStatus 채팅방 상태
+ * @param leftAt 나가기 시각 (활성 멤버면 null)
+ */
+public record ChatMembership(
+        Long roomPk,
+        String roomId,
+        ChatRoomStatus roomStatus,
+        LocalDateTime leftAt
+) {
+    public boolean isActive() {
+        return leftAt == null;
+    }
+
+    public boolean isRoomDeleted() {
+        return roomStatus == ChatRoomStatus.DELETED;
+    }
+}
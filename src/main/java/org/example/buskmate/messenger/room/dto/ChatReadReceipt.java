@@ -0,0 +1,35 @@
+package org.example.buskmate.messenger.room.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 멤버 읽음 처리 값.
+ *
+ * <p>{@code ChatReadReceiptBuffer}가 (방, 사용자) 단위로 합친 뒤 배치 UPDATE에 사용한다.</p>
+ *
+ * @param roomPk    채팅방 DB PK
+ * @param userId    사용자 식별자
+ * @param messageId 마지막으로 읽은 메시지 식별자(ULID)
+ * @param seq       마지막으로 읽은 메시지의 방 내 순번
+ * @param readAt    읽음 처리 시각
+ * @param verified  (메시지 ID, 순번) 쌍이 서버에서 확인된 값인지 여부. 아니면 반영 시 메시지 테이블로 확인한다.
+ */
+public record ChatReadReceipt(
+        Long roomPk,
+        String userId,
+        String messageId,
+        long seq,
+        LocalDateTime readAt,
+        boolean verified
+) {
+
+    /**
+     * 두 값 중 더 뒤(순번이 큰) 메시지까지 읽은 값을 반환한다. 순번이 같으면 확인된 값을 우선한다.
+     */
+    public ChatReadReceipt later(ChatReadReceipt other) {
+        if (other.seq != seq) {
+            return other.seq > seq ? other : this;
+        }
+        return other.verified && !verified ? other : this;
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.buskmate.messenger.room.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 마지막 메시지 포인터 갱신 값.
+ *
+ * <p>{@code ChatRoomLastMessageUpdater}가 방 단위로 합친 뒤 배치 UPDATE에 사용한다.</p>
+ *
+ * @param roomPk    채팅방 DB PK
+ * @param messageId 메시지 식별자(ULID)
+ * @param seq       방 내 메시지 순번
+ * @param createdAt 메시지 생성 시각
+ * @param preview   메시지 미리보기 (최대 {@link #PREVIEW_LENGTH}자)
+ */
+public record ChatRoomLastMessage(
+        Long roomPk,
+        String messageId,
+        long seq,
+        LocalDateTime createdAt,
+        String preview
+) {
+
+    public static final int PREVIEW_LENGTH = 100;
+
+    public static ChatRoomLastMessage of(Long roomPk, String messageId, long seq, LocalDateTime createdAt, String content) {
+        String preview = content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) : content;
+        return new ChatRoomLastMessage(roomPk, messageId, seq, createdAt, preview);
+    }
+
+    /**
+     * 두 값 중 더 최신(순번이 큰) 메시지를 반환한다.
+     */
+    public ChatRoomLastMessage newer(ChatRoomLastMessage other) {
+        return other.seq > seq ? other : this;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.buskmate.messenger.room.dto;
+
+/**
+ * 동기화(catch-up)용 채팅방 상태 DTO.
+ *
+ * <p>재연결한 사용자의 활성 채팅방 목록과 각 방의 마지막 메시지 순번을 조회 1회로 가져오기 위한 모델이다.</p>
+ *
+ * @param roomPk         채팅방 내부 PK
+ * @param roomId         채팅방 식별자(외부 노출용)
+ * @param lastMessageSeq 마지막 메시지 순번 (비정규화 포인터, 메시지가 없으면 null 가능)
+ * @param messageSeq     순번 카운터 값 (커밋된 마지막 순번, 아직 초기화되지 않은 방은 0)
+ */
+public record ChatRoomSyncState(
+        Long roomPk,
+        String roomId,
+        Long lastMessageSeq,
+        long messageSeq
+) {}
@@ -0,0 +1,24 @@
+package org.example.buskmate.messenger.room.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 채팅방 목록 갱신 이벤트. ({@code /user/queue/rooms})
+ *
+ * <p>참여 중인 방에 새 메시지가 오면 {@link MyChatRoomResponse}의 변하는 필드만 담아 보낸다.
+ * 클라이언트는 같은 {@code roomId}의 항목을 덮어쓰고 {@code lastMessageAt} 기준으로 다시 정렬하면 되며,
+ * 목록 조회 API를 다시 호출할 필요가 없다.</p>
+ *
+ * @param roomId             채팅방 식별자
+ * @param lastMessageAt      마지막 메시지 시각
+ * @param lastMessagePreview 마지막 메시지 미리보기
+ * @param lastMessageSeq     마지막 메시지 순번
+ * @param unreadCount        안 읽은 메시지 수
+ */
+public record ChatRoomUpdateEvent(
+        String roomId,
+        LocalDateTime lastMessageAt,
+        String lastMessagePreview,
+        long lastMessageSeq,
+        long unreadCount
+) {}
@@ -0,0 +1,18 @@
+package org.example.buskmate.messenger.room.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 멤버 일괄 초대/강퇴 요청 DTO.
+ *
+ * <p>중복된 식별자는 한 번만 처리되며, 결과는 요청 순서대로 반환된다.</p>
+ *
+ * @param memberIds 대상 사용자 식별자 목록 (최대 100명)
+ */
+public record MemberBulkRequest(
+        @NotEmpty @Size(max = 100) List<@NotBlank String> memberIds
+) {}
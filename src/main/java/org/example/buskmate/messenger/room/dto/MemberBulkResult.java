@@ -0,0 +1,12 @@
+package org.example.buskmate.messenger.room.dto;
+
+/**
+ * 멤버 일괄 초대/강퇴의 사용자별 결과 DTO.
+ *
+ * @param memberId 대상 사용자 식별자
+ * @param status   처리 결과
+ */
+public record MemberBulkResult(
+        String memberId,
+        MemberBulkStatus status
+) {}
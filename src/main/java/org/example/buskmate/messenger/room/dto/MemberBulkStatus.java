@@ -0,0 +1,21 @@
+package org.example.buskmate.messenger.room.dto;
+
+/**
+ * 멤버 일괄 초대/강퇴의 사용자별 처리 결과.
+ */
+public enum MemberBulkStatus {
+    /** 새 멤버로 추가됨 */
+    INVITED,
+    /** 이미 활성 멤버라 변경 없음 */
+    ALREADY_MEMBER,
+    /** 나간 멤버라 다시 추가하지 않음 (단건 초대와 동일한 정책) */
+    LEFT_MEMBER,
+    /** 강퇴됨 */
+    KICKED,
+    /** 방 멤버가 아님 */
+    NOT_MEMBER,
+    /** 이미 나간 멤버라 변경 없음 */
+    ALREADY_LEFT,
+    /** 요청자 자신이라 처리하지 않음 */
+    SELF
+}
@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
  *   <li>{@code title}: 채팅방 제목</li>
  *   <li>{@code myRole}: 해당 채팅방에서의 내 역할(예: OWNER, MEMBER)</li>
  *   <li>{@code lastMessageAt}: 마지막 메시지 시각(없으면 null일 수 있음)</li>
+ *   <li>{@code lastMessagePreview}: 마지막 메시지 미리보기(없으면 null일 수 있음)</li>
+ *   <li>{@code unreadCount}: 안 읽은 메시지 수 (방의 마지막 순번 − 내가 마지막으로 읽은 순번)</li>
  * </ul>
  *
  * <p><b>용도:</b> 채팅방 리스트 화면/사이드바 등에서 사용한다.</p>
@@ -22,10 +24,14 @@ import java.time.LocalDateTime;
  * @param title 채팅방 제목
  * @param myRole 내 역할
  * @param lastMessageAt 마지막 메시지 시각 (메시지가 없으면 null 가능)
+ * @param lastMessagePreview 마지막 메시지 미리보기 (메시지가 없으면 null 가능)
+ * @param unreadCount 안 읽은 메시지 수
  */
 public record MyChatRoomResponse(
         String roomId,
         String title,
         ChatRoomRole myRole,
-        LocalDateTime lastMessageAt
+        LocalDateTime lastMessageAt,
+        String lastMessagePreview,
+        Long unreadCount
 ) {}
@@ -0,0 +1,158 @@
+package org.example.buskmate.messenger.room.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.room.domain.ChatRoomRole;
+import org.example.buskmate.messenger.room.dto.ChatReadReceipt;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@code chat_room_member} 대량 갱신 전용 JDBC 리포지토리.
+ *
+ * <p>읽음 처리는 스크롤마다 발생할 수 있으므로, (방, 사용자) 단위로 합쳐진 값을
+ * {@code uk_chat_room_member} 유니크 인덱스를 타는 하나의 JDBC 배치 UPDATE로 반영한다.</p>
+ *
+ * <p>일괄 초대의 신규 멤버도 엔티티별 {@code save} 대신 하나의 JDBC 배치 INSERT로 추가한다.
+ * ({@code IDENTITY} 전략에서는 Hibernate가 INSERT를 배치로 묶지 못한다.)</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMemberJdbcRepository {
+
+    /**
+     * 읽은 순번이 앞으로만 진행되도록, 더 뒤의 메시지일 때만 덮어쓴다.
+     */
+    private static final String UPDATE_LAST_READ_SQL = """
+        update chat_room_member
+           set last_read_message_ulid = ?,
+               last_read_seq = ?,
+               last_read_at = ?
+         where room_id = ?
+           and user_id = ?
+           and left_at is null
+           and (last_read_seq is null or last_read_seq < ?)
+    """;
+
+    /**
+     * 클라이언트가 보낸 (메시지 ID, 순번) 쌍이 같은 메시지를 가리킬 때만 덮어쓴다. ({@code (room_id, seq)} 유니크 인덱스)
+     * 메시지가 보관 테이블로 옮겨졌을 수 있으므로 두 테이블을 모두 확인한다.
+     */
+    private static final String UPDATE_LAST_READ_VERIFIED_SQL = UPDATE_LAST_READ_SQL + """
+           and (exists (select 1 from chat_message c where c.room_id = ? and c.seq = ? and c.message_id = ?)
+                or exists (select 1 from chat_message_archive a where a.room_id = ? and a.seq = ? and a.message_id = ?))
+    """;
+
+    /**
+     * 이전 스키마의 {@code last_read_message_id}(메시지 PK)를 ULID/순번으로 옮긴다. (PK 범위 단위)
+     * 순번이 아직 없는 메시지는 건너뛰고, 이미 더 뒤를 읽은 멤버는 덮어쓰지 않는다.
+     */
+    private static final String BACKFILL_LAST_READ_SQL = """
+        update chat_room_member m
+          join %s c on c.id = m.last_read_message_id
+           set m.last_read_message_ulid = c.message_id,
+               m.last_read_seq = c.seq
+         where m.id > ? and m.id <= ?
+           and m.last_read_message_ulid is null
+           and c.seq is not null
+           and (m.last_read_seq is null or m.last_read_seq < c.seq)
+    """;
+
+    private static final String INSERT_MEMBER_SQL = """
+        insert into chat_room_member (room_id, user_id, role, joined_at)
+        values (?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 멤버별 읽음 상태를 JDBC 배치로 갱신한다.
+     *
+     * <p>서버가 확인한 값은 그대로, 확인되지 않은 값은 메시지 테이블과 대조하는 UPDATE로 반영한다. (각각 배치 1회)</p>
+     *
+     * @param receipts 읽음 처리 값 목록 ((방, 사용자)당 최대 1건)
+     */
+    public void batchUpdateLastRead(List<ChatReadReceipt> receipts) {
+        if (receipts.isEmpty()) {
+            return;
+        }
+        Map<Boolean, List<ChatReadReceipt>> byVerified = receipts.stream()
+                .collect(Collectors.partitioningBy(ChatReadReceipt::verified));
+
+        List<ChatReadReceipt> verified = byVerified.get(true);
+        if (!verified.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, verified, verified.size(), ChatMemberJdbcRepository::setLastRead);
+        }
+        List<ChatReadReceipt> unverified = byVerified.get(false);
+        if (!unverified.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_READ_VERIFIED_SQL, unverified, unverified.size(), (ps, r) -> {
+                setLastRead(ps, r);
+                ps.setLong(7, r.roomPk());
+                ps.setLong(8, r.seq());
+                ps.setString(9, r.messageId());
+                ps.setLong(10, r.roomPk());
+                ps.setLong(11, r.seq());
+                ps.setString(12, r.messageId());
+            });
+        }
+    }
+
+    private static void setLastRead(PreparedStatement ps, ChatReadReceipt r) throws SQLException {
+        ps.setString(1, r.messageId());
+        ps.setLong(2, r.seq());
+        ps.setTimestamp(3, Timestamp.valueOf(r.readAt()));
+        ps.setLong(4, r.roomPk());
+        ps.setString(5, r.userId());
+        ps.setLong(6, r.seq());
+    }
+
+    /**
+     * 같은 방, 같은 역할의 멤버 여러 명을 하나의 JDBC 배치로 추가한다.
+     *
+     * <p>호출자는 대상이 아직 멤버가 아님을 확인한 뒤 호출해야 한다.
+     * 동시에 같은 사용자가 추가되면 {@code uk_chat_room_member} 위반으로 트랜잭션이 실패한다.</p>
+     *
+     * @param roomPk   채팅방 DB PK
+     * @param userIds  추가할 사용자 식별자 목록
+     * @param role     역할
+     * @param joinedAt 가입 시각
+     */
+    public void batchInsertMembers(Long roomPk, List<String> userIds, ChatRoomRole role, LocalDateTime joinedAt) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Timestamp joined = Timestamp.valueOf(joinedAt);
+        jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, roomPk);
+            ps.setString(2, userId);
+            ps.setString(3, role.name());
+            ps.setTimestamp(4, joined);
+        });
+    }
+
+    /**
+     * 멤버 PK의 최댓값을 조회한다. (멤버가 없으면 0)
+     */
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from chat_room_member", Long.class);
+        return maxId == null ? 0L : maxId;
+    }
+
+    /**
+     * PK가 {@code (fromId, toId]} 범위인 멤버의 이전 읽음 포인터({@code last_read_message_id})를
+     * {@code last_read_message_ulid}/{@code last_read_seq}로 옮긴다. (핫/보관 테이블 모두)
+     *
+     * @return 갱신된 멤버 수
+     */
+    public int backfillLastRead(long fromId, long toId) {
+        return jdbcTemplate.update(BACKFILL_LAST_READ_SQL.formatted("chat_message"), fromId, toId)
+                + jdbcTemplate.update(BACKFILL_LAST_READ_SQL.formatted("chat_message_archive"), fromId, toId);
+    }
+}
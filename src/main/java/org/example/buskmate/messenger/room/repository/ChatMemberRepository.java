@@ -2,6 +2,9 @@ package org.example.buskmate.messenger.room.repository;
 
 import org.example.buskmate.messenger.room.domain.ChatRoom;
 import org.example.buskmate.messenger.room.domain.ChatRoomMember;
+import org.example.buskmate.messenger.room.dto.ChatMemberReadState;
+import org.example.buskmate.messenger.room.dto.ChatMembership;
+import org.example.buskmate.messenger.room.dto.ChatRoomSyncState;
 import org.example.buskmate.messenger.room.dto.MyChatRoomResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +44,18 @@ public interface ChatMemberRepository extends JpaRepository<ChatRoomMember, Long
      */
     Optional<ChatRoomMember> findByRoomAndUserId(ChatRoom room, String userId);
 
+    /**
+     * 특정 채팅방에서 여러 사용자의 멤버십을 한 번에 조회한다. (나간 멤버 포함)
+     *
+     * <p>일괄 초대/강퇴에서 요청자와 대상들의 멤버십을 {@code uk_chat_room_member}를 타는
+     * IN 조회 1회로 가져오기 위해 사용한다.</p>
+     *
+     * @param room    채팅방 엔티티
+     * @param userIds 사용자 식별자 목록
+     * @return 존재하는 멤버십 목록
+     */
+    List<ChatRoomMember> findByRoomAndUserIdIn(ChatRoom room, Collection<String> userIds);
+
     /**
      * 특정 채팅방에서 특정 사용자의 멤버십 존재 여부를 반환한다.
      *
@@ -49,6 +65,50 @@ public interface ChatMemberRepository extends JpaRepository<ChatRoomMember, Long
      */
     boolean existsByRoomAndUserId(ChatRoom room, String userId);
 
+    /**
+     * 외부 노출용 채팅방 식별자(roomId)와 사용자 식별자로 멤버십 스냅샷을 조회한다.
+     *
+     * <p>방 조회와 멤버 조회를 하나의 조인 쿼리로 합쳐, 멤버십 캐시 미스 시에도
+     * SELECT 1회로 방 상태와 멤버 활성 여부를 함께 확인할 수 있도록 한다.</p>
+     *
+     * @param roomId 채팅방 식별자(외부 노출용)
+     * @param userId 사용자 식별자
+     * @return 멤버십이 존재하면 {@link Optional}에 담아 반환
+     */
+    @Query("""
+        select new org.example.buskmate.messenger.room.dto.ChatMembership(
+            r.id,
+            r.roomId,
+            r.status,
+            m.leftAt
+        )
+        from ChatRoomMember m
+        join m.room r
+        where r.roomId = :roomId
+          and m.userId = :userId
+    """)
+    Optional<ChatMembership> findMembership(@Param("roomId") String roomId,
+                                            @Param("userId") String userId);
+
+    /**
+     * 특정 채팅방의 활성 멤버와 각자의 마지막 읽은 순번을 조회한다.
+     *
+     * <p>새 메시지 알림 fan-out 대상 목록을 캐시에 적재할 때 사용한다.</p>
+     *
+     * @param roomPk 채팅방 DB PK
+     * @return 활성 멤버 읽음 위치 목록
+     */
+    @Query("""
+        select new org.example.buskmate.messenger.room.dto.ChatMemberReadState(
+            m.userId,
+            m.lastReadSeq
+        )
+        from ChatRoomMember m
+        where m.room.id = :roomPk
+          and m.leftAt is null
+    """)
+    List<ChatMemberReadState> findActiveReadStates(@Param("roomPk") Long roomPk);
+
     /**
      * 특정 채팅방의 “활성 멤버”(leftAt이 null)들을 일괄적으로 나가기 처리한다.
      *
@@ -70,9 +130,38 @@ public interface ChatMemberRepository extends JpaRepository<ChatRoomMember, Long
     int leaveAllActiveByRoom(@Param("room") ChatRoom room,
                              @Param("now") LocalDateTime now);
 
+    /**
+     * 특정 채팅방에서 지정한 사용자들 중 “활성 멤버”만 일괄적으로 나가기 처리한다.
+     *
+     * <p>일괄 강퇴에서 사용한다. {@code leftAt is null} 조건으로 이미 나간 멤버는 건드리지 않는다.</p>
+     *
+     * @param room    채팅방
+     * @param userIds 나가기 처리할 사용자 식별자 목록
+     * @param now     나가기 처리 시각
+     * @return 업데이트된 행(row) 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update ChatRoomMember m
+        set m.leftAt = :now
+        where m.room = :room
+          and m.userId in :userIds
+          and m.leftAt is null
+    """)
+    int leaveActiveByRoomAndUserIds(@Param("room") ChatRoom room,
+                                    @Param("userIds") Collection<String> userIds,
+                                    @Param("now") LocalDateTime now);
+
     /**
      * 특정 사용자가 참여 중인 채팅방 목록을 마지막 메시지 시각 기준으로 정렬하여 조회한다.
      *
+     * <p>마지막 메시지 시각/미리보기는 {@link ChatRoom}에 비정규화된 포인터를 사용하므로,
+     * 메시지 테이블을 조인/집계하지 않는다. 비용은 사용자가 참여한 방의 수에만 비례한다.
+     * ({@code idx_chat_room_member_user_left_room} 인덱스 범위 탐색 + 방 PK 조회)</p>
+     *
+     * <p>안 읽은 메시지 수는 {@code COUNT(*)} 대신 방의 마지막 메시지 순번과 멤버의 마지막 읽은 순번의
+     * 차이로 계산한다.</p>
+     *
      * <p>정렬 규칙:</p>
      * <ol>
      *   <li>메시지가 있는 방이 메시지 없는 방보다 먼저 오도록 정렬한다.</li>
@@ -85,7 +174,6 @@ public interface ChatMemberRepository extends JpaRepository<ChatRoomMember, Long
      *   <li>{@code m.userId = :userId}</li>
      *   <li>활성 멤버십: {@code m.leftAt is null}</li>
      *   <li>활성 채팅방: {@code r.status = ACTIVE}</li>
-     *   <li>삭제되지 않은 메시지만 집계: {@code msg.deletedAt is null}</li>
      * </ul>
      *
      * <p><b>반환:</b> {@link MyChatRoomResponse} DTO로 프로젝션한다.</p>
@@ -98,22 +186,47 @@ public interface ChatMemberRepository extends JpaRepository<ChatRoomMember, Long
             r.roomId,
             r.title,
             m.role,
-            max(msg.createdAt)
+            r.lastMessageAt,
+            r.lastMessagePreview,
+            case
+                when coalesce(r.lastMessageSeq, 0) > coalesce(m.lastReadSeq, 0)
+                then coalesce(r.lastMessageSeq, 0) - coalesce(m.lastReadSeq, 0)
+                else 0
+            end
         )
         from ChatRoomMember m
         join m.room r
-        left join ChatMessage msg
-               on msg.room = r
-              and msg.deletedAt is null
         where m.userId = :userId
           and m.leftAt is null
           and r.status = org.example.buskmate.messenger.room.domain.ChatRoomStatus.ACTIVE
-        group by r.id, r.roomId, r.title, m.role
         order by
-          case when max(msg.createdAt) is null then 1 else 0 end,
-          max(msg.createdAt) desc,
+          case when r.lastMessageAt is null then 1 else 0 end,
+          r.lastMessageAt desc,
           r.id desc
     """)
     List<MyChatRoomResponse> findMyRoomsOrderByLastMessage(@Param("userId") String userId);
 
+    /**
+     * 특정 사용자가 참여 중인 활성 채팅방과 각 방의 마지막 메시지 순번을 조회한다.
+     *
+     * <p>다중 방 동기화(catch-up)에서 방마다 멤버십을 검증하지 않고, 조회 1회로 “접근 가능한 방” 집합을 얻는 데 사용한다.</p>
+     *
+     * @param userId 사용자 식별자
+     * @return 활성 채팅방 동기화 상태 목록
+     */
+    @Query("""
+        select new org.example.buskmate.messenger.room.dto.ChatRoomSyncState(
+            r.id,
+            r.roomId,
+            r.lastMessageSeq,
+            r.messageSeq
+        )
+        from ChatRoomMember m
+        join m.room r
+        where m.userId = :userId
+          and m.leftAt is null
+          and r.status = org.example.buskmate.messenger.room.domain.ChatRoomStatus.ACTIVE
+    """)
+    List<ChatRoomSyncState> findSyncStates(@Param("userId") String userId);
+
 }
@@ -0,0 +1,190 @@
+package org.example.buskmate.messenger.room.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.room.dto.ChatRoomLastMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code chat_room} 대량 갱신 전용 JDBC 리포지토리.
+ *
+ * <p>마지막 메시지 포인터는 전송마다 갱신되는 핫 컬럼이므로, 엔티티 로딩/더티 체킹 없이
+ * 방 단위로 합쳐진 값을 하나의 JDBC 배치 UPDATE로 반영한다.</p>
+ *
+ * <p>메시지 순번 카운터({@code message_seq})도 엔티티를 거치지 않고 증가 UPDATE로만 갱신한다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomJdbcRepository {
+
+    /**
+     * 방 내 순번이 더 큰(최신) 메시지일 때만 덮어써
+     * 플러시 순서가 뒤바뀌어도 포인터가 과거로 돌아가지 않도록 한다.
+     */
+    private static final String UPDATE_LAST_MESSAGE_SQL = """
+        update chat_room
+           set last_message_id = ?,
+               last_message_seq = ?,
+               last_message_at = ?,
+               last_message_preview = ?
+         where id = ?
+           and (last_message_seq is null or last_message_seq < ?)
+    """;
+
+    /**
+     * 카운터 초기값: 기존 메시지(핫/보관)의 최대 순번 + 아직 순번이 없는 이전 메시지 수.
+     * 순번 없는 메시지가 채워 넣을 {@code 최대 순번 + 1 ~ 초기값} 구간을 새 메시지가 쓰지 않도록 비워 둔다.
+     * ({@code ChatMessageSeqBackfiller} 참고)
+     */
+    private static final String INITIAL_MESSAGE_SEQ = """
+        (greatest(
+             (select coalesce(max(seq), 0) from chat_message where room_id = ?),
+             (select coalesce(max(seq), 0) from chat_message_archive where room_id = ?))
+         + (select count(*) from chat_message where room_id = ? and seq is null)
+         + (select count(*) from chat_message_archive where room_id = ? and seq is null))
+    """;
+
+    /** {@link #INITIAL_MESSAGE_SEQ}의 바인드 변수 수 */
+    private static final int INITIAL_MESSAGE_SEQ_PARAMS = 4;
+
+    /**
+     * 카운터가 초기화 전(0)이면 {@link #INITIAL_MESSAGE_SEQ}에서 이어가며 {@code 건수}만큼 올린다.
+     * 올린 값은 같은 트랜잭션에서 다시 읽는다. (DB 고유 함수 없이 동작)
+     */
+    private static final String ADD_MESSAGE_SEQ_SQL = """
+        update chat_room
+           set message_seq = case when message_seq = 0 then %s else message_seq end + ?
+         where id = ?
+    """.formatted(INITIAL_MESSAGE_SEQ);
+
+    private static final String CURRENT_MESSAGE_SEQ_SQL = """
+        select case when message_seq = 0 then %s else message_seq end
+          from chat_room
+         where id = ?
+    """.formatted(INITIAL_MESSAGE_SEQ);
+
+    private static final String INIT_MESSAGE_SEQ_SQL = """
+        update chat_room
+           set message_seq = case when message_seq = 0 then %s else message_seq end
+         where id = ?
+    """.formatted(INITIAL_MESSAGE_SEQ);
+
+    private static final String RESEED_MESSAGE_SEQ_SQL = """
+        update chat_room
+           set message_seq = greatest(
+                   message_seq,
+                   (select coalesce(max(seq), 0) from chat_message where room_id = ?),
+                   (select coalesce(max(seq), 0) from chat_message_archive where room_id = ?))
+         where id = ?
+    """;
+
+    private static final String ROOMS_WITHOUT_LAST_MESSAGE_SQL = """
+        select id, room_id
+          from chat_room
+         where id > ? and last_message_seq is null
+         order by id
+         limit ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 방의 메시지 순번 카운터를 {@code count}만큼 올리고 올린 값(예약 구간의 마지막 순번)을 반환한다.
+     *
+     * <p>트랜잭션 안에서 호출해야 한다. 방 행의 잠금은 트랜잭션이 끝날 때까지 유지되므로 같은 방의 예약은 노드와 무관하게 직렬화되고,
+     * 트랜잭션이 롤백되면 카운터도 함께 되돌아간다.</p>
+     *
+     * @param roomPk 채팅방 DB PK
+     * @param count  예약할 순번 수
+     * @return 예약된 마지막 순번
+     * @throws IllegalStateException 방이 없는 경우
+     */
+    public long addMessageSeq(Long roomPk, int count) {
+        Object[] args = new Object[INITIAL_MESSAGE_SEQ_PARAMS + 2];
+        Arrays.fill(args, 0, INITIAL_MESSAGE_SEQ_PARAMS, roomPk);
+        args[INITIAL_MESSAGE_SEQ_PARAMS] = count;
+        args[INITIAL_MESSAGE_SEQ_PARAMS + 1] = roomPk;
+        if (jdbcTemplate.update(ADD_MESSAGE_SEQ_SQL, args) == 0) {
+            throw new IllegalStateException("채팅방이 존재하지 않습니다: " + roomPk);
+        }
+        Long seq = jdbcTemplate.queryForObject("select message_seq from chat_room where id = ?", Long.class, roomPk);
+        return seq == null ? 0L : seq;
+    }
+
+    /**
+     * 방에서 마지막으로 예약된 메시지 순번을 조회한다. (메시지가 없으면 0)
+     */
+    public long findMessageSeq(Long roomPk) {
+        List<Long> seqs = jdbcTemplate.queryForList(CURRENT_MESSAGE_SEQ_SQL, Long.class, roomPkArgs(roomPk));
+        return seqs.isEmpty() || seqs.getFirst() == null ? 0L : seqs.getFirst();
+    }
+
+    /**
+     * 카운터가 초기화 전이면 초기화하고 현재 값을 반환한다.
+     *
+     * <p>방 행을 잠그므로 현재 트랜잭션이 끝날 때까지 같은 방의 순번 예약이 대기한다.</p>
+     *
+     * @param roomPk 채팅방 DB PK
+     * @return 카운터 값 (메시지가 없으면 0)
+     * @throws IllegalStateException 방이 없는 경우
+     */
+    public long initMessageSeq(Long roomPk) {
+        if (jdbcTemplate.update(INIT_MESSAGE_SEQ_SQL, roomPkArgs(roomPk)) == 0) {
+            throw new IllegalStateException("채팅방이 존재하지 않습니다: " + roomPk);
+        }
+        Long seq = jdbcTemplate.queryForObject("select message_seq from chat_room where id = ?", Long.class, roomPk);
+        return seq == null ? 0L : seq;
+    }
+
+    /**
+     * 카운터가 실제 저장된 최대 순번보다 뒤처져 있으면 끌어올린다. (순번 충돌 후 보정)
+     */
+    public void reseedMessageSeq(Long roomPk) {
+        jdbcTemplate.update(RESEED_MESSAGE_SEQ_SQL, roomPk, roomPk, roomPk);
+    }
+
+    /**
+     * 방별 마지막 메시지 포인터를 하나의 JDBC 배치로 갱신한다.
+     *
+     * @param lastMessages 방별 마지막 메시지 (방당 최대 1건)
+     */
+    public void batchUpdateLastMessage(List<ChatRoomLastMessage> lastMessages) {
+        if (lastMessages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, lastMessages, lastMessages.size(), (ps, m) -> {
+            ps.setString(1, m.messageId());
+            ps.setLong(2, m.seq());
+            ps.setTimestamp(3, Timestamp.valueOf(m.createdAt()));
+            ps.setString(4, m.preview());
+            ps.setLong(5, m.roomPk());
+            ps.setLong(6, m.seq());
+        });
+    }
+
+    private static Object[] roomPkArgs(Long roomPk) {
+        Object[] args = new Object[INITIAL_MESSAGE_SEQ_PARAMS + 1];
+        Arrays.fill(args, roomPk);
+        return args;
+    }
+
+    /**
+     * 마지막 메시지 포인터가 없는 방을 PK 오름차순으로 조회한다.
+     *
+     * @param afterRoomPk 이 PK보다 큰 방부터 (처음이면 0)
+     * @param limit       최대 방 수
+     * @return 방 PK → 채팅방 식별자 (PK 오름차순)
+     */
+    public Map<Long, String> findRoomsWithoutLastMessage(long afterRoomPk, int limit) {
+        Map<Long, String> rooms = new LinkedHashMap<>();
+        jdbcTemplate.query(ROOMS_WITHOUT_LAST_MESSAGE_SQL,
+                rs -> { rooms.put(rs.getLong("id"), rs.getString("room_id")); }, afterRoomPk, limit);
+        return rooms;
+    }
+}
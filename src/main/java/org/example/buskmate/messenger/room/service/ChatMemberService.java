@@ -2,6 +2,9 @@ package org.example.buskmate.messenger.room.service;
 
 import org.example.buskmate.messenger.room.domain.ChatRoom;
 import org.example.buskmate.messenger.room.dto.CustomUser;
+import org.example.buskmate.messenger.room.dto.MemberBulkResult;
+
+import java.util.List;
 
 /**
  * 채팅방 멤버십 도메인 서비스 인터페이스.
@@ -13,6 +16,7 @@ import org.example.buskmate.messenger.room.dto.CustomUser;
  *   <li>채팅방 생성자(OWNER) 가입 처리</li>
  *   <li>멤버 초대(추가) 처리</li>
  *   <li>멤버 강퇴 처리</li>
+ *   <li>멤버 일괄 초대/강퇴 처리</li>
  *   <li>방 종료/삭제 시 전체 멤버 정리</li>
  *   <li>멤버십 검증(메시지 전송/구독 등에서 사용)</li>
  * </ul>
@@ -54,6 +58,32 @@ public interface ChatMemberService {
      */
     void kickMember(ChatRoom room, String memberId, CustomUser owner);
 
+    /**
+     * 채팅방에 여러 사용자를 한 번에 초대한다.
+     *
+     * <p>권한 검증은 요청 전체에 대해 한 번만 수행하며, 권한이 없으면 아무도 추가되지 않는다.
+     * 대상별 사유(이미 멤버, 자기 자신 등)는 예외 대신 결과로 반환한다.</p>
+     *
+     * @param room           대상 채팅방
+     * @param inviteeUserIds 초대할 사용자 식별자 목록
+     * @param owner          요청자(인증 사용자, 보통 OWNER)
+     * @return 사용자별 처리 결과 (요청 순서, 중복 제거)
+     */
+    List<MemberBulkResult> inviteMembers(ChatRoom room, List<String> inviteeUserIds, CustomUser owner);
+
+    /**
+     * 채팅방에서 여러 멤버를 한 번에 강퇴한다.
+     *
+     * <p>권한 검증은 요청 전체에 대해 한 번만 수행하며, 대상별 사유(멤버 아님, 이미 나감 등)는
+     * 예외 대신 결과로 반환한다.</p>
+     *
+     * @param room      대상 채팅방
+     * @param memberIds 강퇴할 사용자 식별자 목록
+     * @param owner     요청자(인증 사용자, 보통 OWNER)
+     * @return 사용자별 처리 결과 (요청 순서, 중복 제거)
+     */
+    List<MemberBulkResult> kickMembers(ChatRoom room, List<String> memberIds, CustomUser owner);
+
     /**
      * OWNER 권한으로 채팅방의 모든 멤버를 정리(일괄 강퇴/일괄 leave 처리)한다.
      *
@@ -80,4 +110,29 @@ public interface ChatMemberService {
      * @param userId 사용자 식별자
      */
     void validMember(ChatRoom room, String userId);
+
+    /**
+     * 외부 노출용 채팅방 식별자(roomId)로 “활성 방의 활성 멤버”인지 검증하고,
+     * 메시지 저장 등에 사용할 채팅방 참조를 반환한다.
+     *
+     * <p>메시지 전송/조회 핫패스용 검증 메서드로, 멤버십 캐시를 통해 검증하므로
+     * 캐시 히트 시 DB 조회가 발생하지 않는다. 반환되는 {@link ChatRoom}은 지연 로딩 참조(프록시)일 수 있으므로
+     * 식별자 외의 필드 접근은 피해야 한다.</p>
+     *
+     * @param roomId 채팅방 식별자(외부 노출용)
+     * @param userId 사용자 식별자
+     * @return 채팅방 참조
+     */
+    ChatRoom validMember(String roomId, String userId);
+
+    /**
+     * 외부 노출용 채팅방 식별자(roomId)로 “활성 방의 OWNER”인지 검증하고 채팅방을 반환한다.
+     *
+     * <p>대화 내보내기처럼 방장에게만 허용되는 조회에서 사용한다.</p>
+     *
+     * @param roomId 채팅방 식별자(외부 노출용)
+     * @param userId 사용자 식별자
+     * @return 채팅방 엔티티
+     */
+    ChatRoom validOwner(String roomId, String userId);
 }
@@ -4,12 +4,25 @@ import lombok.RequiredArgsConstructor;
 import org.example.buskmate.messenger.room.domain.ChatRoom;
 import org.example.buskmate.messenger.room.domain.ChatRoomMember;
 import org.example.buskmate.messenger.room.domain.ChatRoomRole;
+import org.example.buskmate.messenger.room.dto.ChatMembership;
 import org.example.buskmate.messenger.room.dto.CustomUser;
+import org.example.buskmate.messenger.room.dto.MemberBulkResult;
+import org.example.buskmate.messenger.room.dto.MemberBulkStatus;
+import org.example.buskmate.messenger.room.repository.ChatMemberJdbcRepository;
 import org.example.buskmate.messenger.room.repository.ChatMemberRepository;
+import org.example.buskmate.messenger.room.repository.ChatRoomRepository;
+import org.example.buskmate.messenger.support.ChatClusterEvent;
+import org.example.buskmate.messenger.support.ChatClusterEvents;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -33,11 +46,26 @@ import java.time.LocalDateTime;
  * </ul>
  *
  * <p><b>트랜잭션:</b> 모든 변경 작업은 트랜잭션으로 수행하며, 검증 메서드는 readOnly로 수행한다.</p>
+ *
+ * <h2>멤버십 캐시</h2>
+ * <p>초대/강퇴/전체 강퇴 시 {@link ChatClusterEvent}를 발행한다. 커밋 이후 모든 노드에서
+ * {@link ChatMembershipCache}를 무효화하여 핫패스 검증({@link #validMember(String, String)})이 항상 커밋된 멤버십을 따르도록 하고,
+ * {@link ChatSessionRoomAcl}을 갱신하여 접속 중인 STOMP 세션의 구독/전송 권한에 바로 반영하며,
+ * 목록 갱신 fan-out에 쓰는 {@link ChatRoomMembersCache}도 무효화한다.</p>
+ *
+ * <h2>일괄 초대/강퇴</h2>
+ * <p>요청자와 대상들의 멤버십을 IN 조회 1회로 가져와 권한을 한 번만 확인하고,
+ * 신규 멤버는 JDBC 배치 INSERT, 강퇴는 벌크 UPDATE 1회로 반영한다.
+ * 대상별 사유는 예외 대신 {@link MemberBulkStatus}로 돌려준다.</p>
  */
 @Service
 @RequiredArgsConstructor
 public class ChatMemberServiceImpl implements ChatMemberService {
     private final ChatMemberRepository chatMemberRepository;
+    private final ChatMemberJdbcRepository chatMemberJdbcRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatClusterEvents chatClusterEvents;
 
     /**
      * {@inheritDoc}
@@ -48,6 +76,7 @@ public class ChatMemberServiceImpl implements ChatMemberService {
     public void addMemberToChatRoom(ChatRoom chatRoom, CustomUser owner) {
         ChatRoomMember chatRoomMember = new ChatRoomMember(chatRoom, owner.getUserId(), ChatRoomRole.OWNER);
         chatMemberRepository.save(chatRoomMember);
+        chatClusterEvents.publish(ChatClusterEvent.memberJoined(chatRoom.getRoomId(), owner.getUserId()));
     }
 
     /**
@@ -87,6 +116,7 @@ public class ChatMemberServiceImpl implements ChatMemberService {
         }
 
         chatMemberRepository.save(new ChatRoomMember(room, inviteeUserId, ChatRoomRole.MEMBER));
+        chatClusterEvents.publish(ChatClusterEvent.memberJoined(room.getRoomId(), inviteeUserId));
     }
 
     /**
@@ -129,6 +159,109 @@ public class ChatMemberServiceImpl implements ChatMemberService {
         }
 
         target.leave(); // leftAt = now()
+        chatClusterEvents.publish(ChatClusterEvent.memberLeft(room.getRoomId(), memberId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <ul>
+     *   <li>자기 자신: {@link MemberBulkStatus#SELF}</li>
+     *   <li>이미 활성 멤버: {@link MemberBulkStatus#ALREADY_MEMBER}</li>
+     *   <li>나간 멤버: 단건 초대와 같이 다시 추가하지 않고 {@link MemberBulkStatus#LEFT_MEMBER}</li>
+     *   <li>그 외: 배치 INSERT 후 {@link MemberBulkStatus#INVITED}</li>
+     * </ul>
+     */
+    @Override
+    @Transactional
+    public List<MemberBulkResult> inviteMembers(ChatRoom room, List<String> inviteeUserIds, CustomUser owner) {
+        String ownerId = owner.getUserId();
+        Set<String> targets = new LinkedHashSet<>(inviteeUserIds);
+        Map<String, ChatRoomMember> members = findMembers(room, targets, ownerId);
+
+        ChatRoomMember inviter = members.get(ownerId);
+        if (inviter == null) {
+            throw new SecurityException("초대자가 해당 채팅방의 멤버가 아닙니다.");
+        }
+        if (inviter.getRole() != ChatRoomRole.OWNER) {
+            throw new SecurityException("방장만 멤버를 초대할 수 있습니다.");
+        }
+
+        List<MemberBulkResult> results = new ArrayList<>(targets.size());
+        List<String> invitees = new ArrayList<>();
+        for (String userId : targets) {
+            ChatRoomMember member = members.get(userId);
+            MemberBulkStatus status;
+            if (userId.equals(ownerId)) {
+                status = MemberBulkStatus.SELF;
+            } else if (member == null) {
+                invitees.add(userId);
+                status = MemberBulkStatus.INVITED;
+            } else {
+                status = member.isActive() ? MemberBulkStatus.ALREADY_MEMBER : MemberBulkStatus.LEFT_MEMBER;
+            }
+            results.add(new MemberBulkResult(userId, status));
+        }
+
+        if (!invitees.isEmpty()) {
+            chatMemberJdbcRepository.batchInsertMembers(room.getId(), invitees, ChatRoomRole.MEMBER, LocalDateTime.now());
+            for (String userId : invitees) {
+                chatClusterEvents.publish(ChatClusterEvent.memberJoined(room.getRoomId(), userId));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <ul>
+     *   <li>자기 자신: {@link MemberBulkStatus#SELF}</li>
+     *   <li>멤버십 없음: {@link MemberBulkStatus#NOT_MEMBER}</li>
+     *   <li>이미 나간 멤버: {@link MemberBulkStatus#ALREADY_LEFT}</li>
+     *   <li>그 외: 벌크 UPDATE로 {@code leftAt} 설정 후 {@link MemberBulkStatus#KICKED}</li>
+     * </ul>
+     */
+    @Override
+    @Transactional
+    public List<MemberBulkResult> kickMembers(ChatRoom room, List<String> memberIds, CustomUser owner) {
+        String ownerId = owner.getUserId();
+        Set<String> targets = new LinkedHashSet<>(memberIds);
+        Map<String, ChatRoomMember> members = findMembers(room, targets, ownerId);
+
+        ChatRoomMember kicker = members.get(ownerId);
+        if (kicker == null) {
+            throw new SecurityException("요청자가 해당 채팅방의 멤버가 아닙니다.");
+        }
+        if (kicker.getRole() != ChatRoomRole.OWNER) {
+            throw new SecurityException("방장만 멤버를 추방할 수 있습니다.");
+        }
+
+        List<MemberBulkResult> results = new ArrayList<>(targets.size());
+        List<String> kicked = new ArrayList<>();
+        for (String userId : targets) {
+            ChatRoomMember member = members.get(userId);
+            MemberBulkStatus status;
+            if (userId.equals(ownerId)) {
+                status = MemberBulkStatus.SELF;
+            } else if (member == null) {
+                status = MemberBulkStatus.NOT_MEMBER;
+            } else if (!member.isActive()) {
+                status = MemberBulkStatus.ALREADY_LEFT;
+            } else {
+                kicked.add(userId);
+                status = MemberBulkStatus.KICKED;
+            }
+            results.add(new MemberBulkResult(userId, status));
+        }
+
+        if (!kicked.isEmpty()) {
+            chatMemberRepository.leaveActiveByRoomAndUserIds(room, kicked, LocalDateTime.now());
+            for (String userId : kicked) {
+                chatClusterEvents.publish(ChatClusterEvent.memberLeft(room.getRoomId(), userId));
+            }
+        }
+        return results;
     }
 
     /**
@@ -148,6 +281,7 @@ public class ChatMemberServiceImpl implements ChatMemberService {
             throw new SecurityException("방장만 채팅방을 삭제할 수 있습니다.");
         }
         chatMemberRepository.leaveAllActiveByRoom(room, LocalDateTime.now());
+        chatClusterEvents.publish(ChatClusterEvent.roomClosed(room.getRoomId()));
     }
 
 
@@ -166,4 +300,83 @@ public class ChatMemberServiceImpl implements ChatMemberService {
             throw new SecurityException("채팅방을 나간 멤버는 조회할 수 없습니다.");
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@link ChatMembershipCache}에서 멤버십을 확인한 뒤, 내부 PK로 채팅방 참조를 만들어 반환한다.
+     * 캐시에 멤버십이 없으면 방 존재 여부를 확인해 기존과 동일한 예외를 던진다.</p>
+     * <ul>
+     *   <li>방 없음: {@link IllegalArgumentException}</li>
+     *   <li>삭제된 방: {@link IllegalStateException}</li>
+     *   <li>멤버 아님/나간 멤버: {@link SecurityException}</li>
+     * </ul>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ChatRoom validMember(String roomId, String userId) {
+        ChatMembership membership = chatMembershipCache.get(roomId, userId)
+                .orElseThrow(() -> notMember(roomId));
+
+        if (membership.isRoomDeleted()) {
+            throw new IllegalStateException("삭제된 채팅방입니다.");
+        }
+        if (!membership.isActive()) {
+            throw new SecurityException("채팅방을 나간 멤버는 조회할 수 없습니다.");
+        }
+        return chatRoomRepository.getReferenceById(membership.roomPk());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <ul>
+     *   <li>방 없음: {@link IllegalArgumentException}</li>
+     *   <li>삭제된 방: {@link IllegalStateException}</li>
+     *   <li>멤버 아님/나간 멤버/OWNER 아님: {@link SecurityException}</li>
+     * </ul>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ChatRoom validOwner(String roomId, String userId) {
+        ChatRoom room = chatRoomRepository.findByRoomId(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방이 존재하지 않습니다."));
+
+        if (room.isDeleted()) {
+            throw new IllegalStateException("삭제된 채팅방입니다.");
+        }
+
+        ChatRoomMember member = chatMemberRepository.findByRoomAndUserId(room, userId)
+                .filter(ChatRoomMember::isActive)
+                .orElseThrow(() -> new SecurityException("해당 채팅방의 멤버가 아닙니다."));
+
+        if (member.getRole() != ChatRoomRole.OWNER) {
+            throw new SecurityException("방장만 수행할 수 있습니다.");
+        }
+        return room;
+    }
+
+    /**
+     * 요청자와 대상들의 멤버십을 IN 조회 1회로 가져온다.
+     */
+    private Map<String, ChatRoomMember> findMembers(ChatRoom room, Set<String> targets, String ownerId) {
+        Set<String> userIds = new LinkedHashSet<>(targets);
+        userIds.add(ownerId);
+
+        Map<String, ChatRoomMember> members = new HashMap<>();
+        for (ChatRoomMember member : chatMemberRepository.findByRoomAndUserIdIn(room, userIds)) {
+            members.put(member.getUserId(), member);
+        }
+        return members;
+    }
+
+    private RuntimeException notMember(String roomId) {
+        ChatRoom room = chatRoomRepository.findByRoomId(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방이 존재하지 않습니다."));
+
+        if (room.isDeleted()) {
+            return new IllegalStateException("삭제된 채팅방입니다.");
+        }
+        return new SecurityException("해당 채팅방의 멤버가 아닙니다.");
+    }
 }
@@ -0,0 +1,118 @@
+package org.example.buskmate.messenger.room.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.room.dto.ChatMembership;
+import org.example.buskmate.messenger.room.repository.ChatMemberRepository;
+import org.example.buskmate.messenger.support.ChatClusterEvent;
+import org.example.buskmate.messenger.support.ChatClusterEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방 멤버십 캐시.
+ *
+ * <p>메시지 전송/조회 핫패스에서 매번 수행되던 “방 조회 + 멤버 조회” SELECT 2회를 없애기 위해
+ * (roomId, userId) 단위로 {@link ChatMembership} 스냅샷(방 상태, 멤버 활성 여부)을 보관한다.</p>
+ *
+ * <h2>무효화 규칙</h2>
+ * <p>멤버십을 변경하는 경로가 발행한 {@link ChatClusterEvent}를 커밋 이후 모든 노드에서 받아 무효화한다.</p>
+ * <ul>
+ *   <li>멤버 초대/강퇴({@code MEMBER_JOINED}/{@code MEMBER_LEFT}): 해당 멤버 항목 제거</li>
+ *   <li>전체 강퇴/방 삭제({@code ROOM_CLOSED}): 방 항목 전체 제거</li>
+ *   <li>{@code chat.membership-cache.ttl-ms}가 지난 항목은 다음 조회 때 다시 읽는다. (유실된 이벤트의 상한)</li>
+ * </ul>
+ *
+ * <h2>동시성</h2>
+ * <p>캐시 미스 로딩 도중 무효화가 일어나면, 로딩 결과는 반환만 하고 캐시에 적재하지 않는다.
+ * (무효화 세대 {@code epoch}로 판단) 따라서 커밋 이전 상태가 캐시에 남지 않는다.</p>
+ *
+ * <p><b>주의:</b> 멤버가 아닌 경우(조회 결과 없음)는 캐시하지 않는다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMembershipCache implements ChatClusterEventListener {
+
+    private final ChatMemberRepository chatMemberRepository;
+
+    private final Map<String, Map<String, CachedMembership>> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    @Value("${chat.membership-cache.max-rooms:10000}")
+    private int maxRooms;
+
+    @Value("${chat.membership-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    /**
+     * 멤버십 스냅샷을 조회한다. 캐시에 없으면 DB에서 조인 쿼리 1회로 로딩한다.
+     *
+     * @param roomId 채팅방 식별자(외부 노출용)
+     * @param userId 사용자 식별자
+     * @return 멤버십이 존재하면 {@link Optional}에 담아 반환
+     */
+    public Optional<ChatMembership> get(String roomId, String userId) {
+        Map<String, CachedMembership> members = rooms.get(roomId);
+        if (members != null) {
+            CachedMembership cached = members.get(userId);
+            if (cached != null && System.currentTimeMillis() - cached.loadedAt() <= ttlMs) {
+                return Optional.of(cached.membership());
+            }
+        }
+
+        long loadEpoch = epoch.get();
+        Optional<ChatMembership> loaded = chatMemberRepository.findMembership(roomId, userId);
+        loaded.ifPresent(membership -> put(loadEpoch, roomId, userId, membership));
+        return loaded;
+    }
+
+    @Override
+    public void onClusterEvent(ChatClusterEvent event) {
+        switch (event.type()) {
+            case MEMBER_JOINED, MEMBER_LEFT -> evictMember(event.roomId(), event.userId());
+            case ROOM_CLOSED -> evictRoom(event.roomId());
+            default -> { }
+        }
+    }
+
+    private void evictMember(String roomId, String userId) {
+        epoch.incrementAndGet();
+        Map<String, CachedMembership> members = rooms.get(roomId);
+        if (members != null) {
+            members.remove(userId);
+        }
+    }
+
+    private void evictRoom(String roomId) {
+        epoch.incrementAndGet();
+        rooms.remove(roomId);
+    }
+
+    private void put(long loadEpoch, String roomId, String userId, ChatMembership membership) {
+        if (rooms.size() >= maxRooms && !rooms.containsKey(roomId)) {
+            Iterator<String> it = rooms.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        CachedMembership cached = new CachedMembership(membership, System.currentTimeMillis());
+        rooms.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>()).put(userId, cached);
+
+        // 로딩 중 무효화가 발생했다면 방금 적재한 값이 오래된 상태일 수 있으므로 되돌린다.
+        if (epoch.get() != loadEpoch) {
+            Map<String, CachedMembership> members = rooms.get(roomId);
+            if (members != null) {
+                members.remove(userId, cached);
+            }
+        }
+    }
+
+    private record CachedMembership(ChatMembership membership, long loadedAt) {
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.buskmate.messenger.room.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.chat.service.ChatMessageSeqBackfiller;
+import org.example.buskmate.messenger.room.repository.ChatMemberJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이전 스키마 읽음 포인터 이전 작업.
+ *
+ * <p>{@code chat_room_member.last_read_message_id}(메시지 PK, bigint)에 남아 있는 값을
+ * {@code last_read_message_ulid}/{@code last_read_seq}로 옮긴다. 기존 컬럼의 타입과 값은 바꾸지 않는다.</p>
+ *
+ * <ul>
+ *   <li>메시지 순번이 있어야 옮길 수 있으므로 {@link ChatMessageSeqBackfiller}가 끝난 뒤 시작한다.</li>
+ *   <li>멤버 PK 범위({@code chat.read-backfill.batch-size}) 단위 UPDATE 한 문장씩, 각각 별도 트랜잭션(auto-commit)으로 실행한다.</li>
+ *   <li>한 주기에 최대 {@code chat.read-backfill.batches-per-run}개 범위를 처리하고, 시작 시점의 최대 PK까지 훑으면 끝난다.
+ *       (이후 생긴 멤버는 이전 컬럼을 쓰지 않는다)</li>
+ *   <li>이미 더 뒤를 읽은 멤버는 덮어쓰지 않으므로 여러 노드에서 동시에 실행되어도 안전하다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadPointerBackfiller {
+
+    private final ChatMemberJdbcRepository chatMemberJdbcRepository;
+    private final ChatMessageSeqBackfiller seqBackfiller;
+
+    @Value("${chat.read-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.read-backfill.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${chat.read-backfill.batches-per-run:10}")
+    private int batchesPerRun;
+
+    /** 처리를 마친 멤버 PK */
+    private long cursor;
+    /** 훑을 마지막 멤버 PK (첫 실행 시 고정, 그 전에는 -1) */
+    private long maxId = -1;
+    private boolean done;
+
+    @Scheduled(fixedDelayString = "${chat.read-backfill.interval-ms:60000}")
+    void backfill() {
+        if (!enabled || done || !seqBackfiller.isDone()) {
+            return;
+        }
+        int total = 0;
+        try {
+            if (maxId < 0) {
+                maxId = chatMemberJdbcRepository.findMaxId();
+            }
+            for (int i = 0; i < batchesPerRun && cursor < maxId; i++) {
+                long to = Math.min(maxId, cursor + batchSize);
+                total += chatMemberJdbcRepository.backfillLastRead(cursor, to);
+                cursor = to;
+            }
+        } catch (RuntimeException e) {
+            log.warn("[CHAT] read pointer backfill failed - cursor={}, updated={}", cursor, total, e);
+            return;
+        }
+        if (total > 0) {
+            log.info("[CHAT] read pointers backfilled - updated={}, cursor={}", total, cursor);
+        }
+        if (cursor >= maxId) {
+            done = true;
+            log.info("[CHAT] read pointer backfill finished");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.buskmate.messenger.room.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.room.dto.ChatReadReceipt;
+import org.example.buskmate.messenger.room.repository.ChatMemberJdbcRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 읽음 처리 버퍼.
+ *
+ * <p>클라이언트는 스크롤/포커스마다 읽음 처리를 보낼 수 있으므로, 요청마다 UPDATE하지 않고
+ * (방, 사용자) 단위로 “가장 뒤의 메시지” 하나만 메모리에 보관한 뒤 주기적으로 배치 UPDATE한다.</p>
+ *
+ * <ul>
+ *   <li>플러시 주기: {@code chat.read-receipt.flush-interval-ms} (기본 1000ms)</li>
+ *   <li>UPDATE는 읽은 순번이 앞으로 갈 때만 반영되므로 순서가 뒤바뀌어도 안전하다.</li>
+ *   <li>서버에서 확인되지 않은 (메시지 ID, 순번) 쌍은 UPDATE 조건에서 메시지 테이블과 대조해, 둘이 어긋난 값은 반영하지 않는다.</li>
+ * </ul>
+ *
+ * <p><b>주의:</b> 읽음 상태는 최대 플러시 주기만큼 늦게 반영되며, 비정상 종료 시 미반영분은 유실될 수 있다.
+ * (다음 읽음 처리 때 복구된다)</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadReceiptBuffer {
+
+    private final ChatMemberJdbcRepository chatMemberJdbcRepository;
+
+    private final Map<Key, ChatReadReceipt> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 읽음 처리를 기록한다.
+     *
+     * @param roomPk    채팅방 DB PK
+     * @param userId    사용자 식별자
+     * @param messageId 마지막으로 읽은 메시지 식별자(ULID)
+     * @param seq       마지막으로 읽은 메시지의 방 내 순번
+     * @param verified  (메시지 ID, 순번) 쌍을 서버가 이미 확인했는지 여부
+     */
+    public void record(Long roomPk, String userId, String messageId, long seq, boolean verified) {
+        ChatReadReceipt receipt = new ChatReadReceipt(roomPk, userId, messageId, seq, LocalDateTime.now(), verified);
+        pending.merge(new Key(roomPk, userId), receipt, ChatReadReceipt::later);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms:1000}")
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<ChatReadReceipt> batch = new ArrayList<>(pending.size());
+        for (Key key : pending.keySet()) {
+            ChatReadReceipt receipt = pending.remove(key);
+            if (receipt != null) {
+                batch.add(receipt);
+            }
+        }
+        try {
+            chatMemberJdbcRepository.batchUpdateLastRead(batch);
+        } catch (RuntimeException e) {
+            log.warn("[CHAT] read receipt flush failed - receipts={}", batch.size(), e);
+            batch.forEach(r -> pending.merge(new Key(r.roomPk(), r.userId()), r, ChatReadReceipt::later));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private record Key(Long roomPk, String userId) {
+    }
+}
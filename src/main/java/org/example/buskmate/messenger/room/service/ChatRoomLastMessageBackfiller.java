@@ -0,0 +1,92 @@
+package org.example.buskmate.messenger.room.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.chat.repository.ChatMessageArchiveJdbcRepository;
+import org.example.buskmate.messenger.chat.repository.ChatMessageJdbcRepository;
+import org.example.buskmate.messenger.chat.service.ChatMessageSeqBackfiller;
+import org.example.buskmate.messenger.room.dto.ChatRoomLastMessage;
+import org.example.buskmate.messenger.room.repository.ChatRoomJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 기존 채팅방의 마지막 메시지 포인터 채우기 작업.
+ *
+ * <p>{@code chat_room.last_message_*}는 포인터 도입 이후의 전송에서만 채워지므로, 그 전부터 있던 방은
+ * 다음 메시지가 올 때까지 내 채팅방 목록에서 미리보기/정렬/안 읽은 수가 비어 있다.
+ * 이 작업은 포인터가 없는 방의 마지막 메시지를 찾아 채운다.</p>
+ *
+ * <ul>
+ *   <li>메시지 순번이 있어야 하므로 {@link ChatMessageSeqBackfiller}가 끝난 뒤 시작한다.</li>
+ *   <li>한 주기에 방 PK 순으로 최대 {@code chat.room-last-message.backfill-batch-size}개 방을 처리하고,
+ *       방 PK 키셋으로 다음 주기에 이어간다. 방마다 {@code (room_id, seq)} 인덱스 역순 조회 1회
+ *       (핫 테이블에 없으면 보관 테이블 1회)이고, 갱신은 하나의 JDBC 배치 UPDATE이다.</li>
+ *   <li>UPDATE는 순번이 더 클 때만 반영되므로 그 사이 전송된 메시지의 포인터를 덮어쓰지 않는다.</li>
+ *   <li>끝까지 훑으면 이 노드에서는 더 이상 실행하지 않는다. (메시지가 없는 방은 첫 전송 때 채워진다)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomLastMessageBackfiller {
+
+    private final ChatRoomJdbcRepository chatRoomJdbcRepository;
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatMessageArchiveJdbcRepository archiveRepository;
+    private final ChatMessageSeqBackfiller seqBackfiller;
+
+    @Value("${chat.room-last-message.backfill-enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.room-last-message.backfill-batch-size:200}")
+    private int batchSize;
+
+    /** 처리를 마친 방 PK */
+    private long cursor;
+    private boolean done;
+
+    @Scheduled(fixedDelayString = "${chat.room-last-message.backfill-interval-ms:10000}")
+    void backfill() {
+        if (!enabled || done || !seqBackfiller.isDone()) {
+            return;
+        }
+        try {
+            Map<Long, String> rooms = chatRoomJdbcRepository.findRoomsWithoutLastMessage(cursor, batchSize);
+            if (rooms.isEmpty()) {
+                done = true;
+                log.info("[CHAT] room last message backfill finished");
+                return;
+            }
+
+            List<ChatRoomLastMessage> lastMessages = new ArrayList<>();
+            rooms.forEach((roomPk, roomId) -> findLatest(roomPk, roomId).ifPresent(m -> lastMessages.add(
+                    ChatRoomLastMessage.of(roomPk, m.messageId(), m.seq(), m.createdAt(), m.content()))));
+            chatRoomJdbcRepository.batchUpdateLastMessage(lastMessages);
+
+            cursor = rooms.keySet().stream().mapToLong(Long::longValue).max().orElse(cursor);
+            if (!lastMessages.isEmpty()) {
+                log.info("[CHAT] room last messages backfilled - rooms={}, cursor={}", lastMessages.size(), cursor);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[CHAT] room last message backfill failed - cursor={}", cursor, e);
+        }
+    }
+
+    private Optional<ChatMessageResponse> findLatest(Long roomPk, String roomId) {
+        Optional<ChatMessageResponse> hot = chatMessageJdbcRepository.findLatest(roomPk, roomId);
+        if (hot.isPresent()) {
+            return hot;
+        }
+        return archiveRepository.findBefore(roomPk, roomId, null, 1).stream()
+                .filter(m -> m.seq() != null)
+                .findFirst();
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.buskmate.messenger.room.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.room.dto.ChatRoomLastMessage;
+import org.example.buskmate.messenger.room.repository.ChatRoomJdbcRepository;
+import org.example.buskmate.messenger.support.AfterCommit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 마지막 메시지 포인터 갱신기.
+ *
+ * <p>메시지 전송마다 {@code chat_room}을 UPDATE하면 활발한 방에서 같은 행에 대한 쓰기 경합이 생긴다.
+ * 이 컴포넌트는 전송 트랜잭션이 커밋된 뒤 방별로 “가장 최신 메시지” 하나만 보관(coalesce)하고,
+ * 주기적으로 모인 값을 하나의 JDBC 배치 UPDATE로 반영한다.</p>
+ *
+ * <ul>
+ *   <li>플러시 주기: {@code chat.room-last-message.flush-interval-ms} (기본 200ms)</li>
+ *   <li>플러시 사이에 같은 방으로 N건이 전송되어도 UPDATE는 1건이다.</li>
+ *   <li>UPDATE는 순번이 더 클 때만 반영되므로 순서가 뒤바뀌어도 안전하다.</li>
+ * </ul>
+ *
+ * <p><b>주의:</b> 포인터는 최대 플러시 주기만큼 늦게 반영되며, 비정상 종료 시 미반영분은
+ * 해당 방의 다음 메시지 전송 때 복구된다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomLastMessageUpdater {
+
+    private final ChatRoomJdbcRepository chatRoomJdbcRepository;
+
+    private final Map<Long, ChatRoomLastMessage> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 전송된 메시지를 방의 마지막 메시지 후보로 기록한다. 트랜잭션 안에서 호출되면 커밋 이후에 반영된다.
+     *
+     * @param roomPk    채팅방 DB PK
+     * @param messageId 메시지 식별자(ULID)
+     * @param seq       방 내 메시지 순번
+     * @param createdAt 메시지 생성 시각
+     * @param content   메시지 본문
+     */
+    public void record(Long roomPk, String messageId, long seq, LocalDateTime createdAt, String content) {
+        ChatRoomLastMessage lastMessage = ChatRoomLastMessage.of(roomPk, messageId, seq, createdAt, content);
+        AfterCommit.run(() -> pending.merge(roomPk, lastMessage, ChatRoomLastMessage::newer));
+    }
+
+    @Scheduled(fixedDelayString = "${chat.room-last-message.flush-interval-ms:200}")
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<ChatRoomLastMessage> batch = new ArrayList<>(pending.size());
+        for (Long roomPk : pending.keySet()) {
+            ChatRoomLastMessage lastMessage = pending.remove(roomPk);
+            if (lastMessage != null) {
+                batch.add(lastMessage);
+            }
+        }
+        try {
+            chatRoomJdbcRepository.batchUpdateLastMessage(batch);
+        } catch (RuntimeException e) {
+            log.warn("[CHAT] last-message pointer flush failed - rooms={}", batch.size(), e);
+            // 다음 주기에 다시 시도한다. 그 사이 더 최신 메시지가 들어왔다면 그 값이 유지된다.
+            batch.forEach(m -> pending.merge(m.roomPk(), m, ChatRoomLastMessage::newer));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.buskmate.messenger.room.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.room.dto.ChatMemberReadState;
+import org.example.buskmate.messenger.room.repository.ChatMemberRepository;
+import org.example.buskmate.messenger.support.ChatClusterEvent;
+import org.example.buskmate.messenger.support.ChatClusterEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방별 활성 멤버 목록 캐시.
+ *
+ * <p>새 메시지가 올 때마다 방 멤버 전원에게 목록 갱신 이벤트를 보내려면 “방의 활성 멤버 + 각자의 읽은 순번”이
+ * 필요하다. 이를 방 단위로 한 번 조회해 보관하고, 읽음 처리는 {@link #advanceRead(String, String, long)}로
+ * 메모리에서 앞으로만 갱신한다.</p>
+ *
+ * <h2>무효화 규칙</h2>
+ * <ul>
+ *   <li>멤버 초대/강퇴/전체 강퇴/방 삭제: 커밋 이후 모든 노드에서 {@link ChatClusterEvent}를 받아 방 항목 전체를 제거한다.
+ *       ({@link ChatMembershipCache}와 같은 이벤트)</li>
+ *   <li>{@code chat.room-members-cache.ttl-ms}가 지난 항목은 다음 조회 때 다시 읽는다.
+ *       다른 노드에서 처리된 읽음 위치를 따라잡기 위함이며, 이때 메모리 값이 더 앞서 있으면 유지한다.</li>
+ * </ul>
+ *
+ * <p>로딩 도중 무효화가 일어나면 로딩 결과는 반환만 하고 캐시에 남기지 않는다. (무효화 세대 {@code epoch})</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMembersCache implements ChatClusterEventListener {
+
+    private final ChatMemberRepository chatMemberRepository;
+
+    private final Map<String, RoomMembers> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    @Value("${chat.room-members-cache.max-rooms:10000}")
+    private int maxRooms;
+
+    @Value("${chat.room-members-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    /**
+     * 방의 활성 멤버와 마지막 읽은 순번을 반환한다. 캐시에 없거나 오래됐으면 DB에서 조회 1회로 적재한다.
+     *
+     * @param roomId 채팅방 식별자(외부 노출용)
+     * @param roomPk 채팅방 DB PK
+     * @return userId → 마지막 읽은 순번 (읽은 적이 없으면 0)
+     */
+    public Map<String, Long> lastReadSeqs(String roomId, Long roomPk) {
+        long now = System.currentTimeMillis();
+        RoomMembers members = rooms.get(roomId);
+        if (members == null || now - members.loadedAt > ttlMs) {
+            members = load(roomId, roomPk, members, now);
+        }
+        Map<String, Long> snapshot = new HashMap<>(members.lastReadSeqs.size() * 2);
+        members.lastReadSeqs.forEach((userId, seq) -> snapshot.put(userId, seq.get()));
+        return snapshot;
+    }
+
+    /**
+     * 캐시된 멤버의 읽은 순번을 앞으로 옮긴다. (캐시에 없으면 무시)
+     *
+     * @param roomId 채팅방 식별자(외부 노출용)
+     * @param userId 사용자 식별자
+     * @param seq    읽은 메시지 순번
+     */
+    public void advanceRead(String roomId, String userId, long seq) {
+        RoomMembers members = rooms.get(roomId);
+        if (members == null) {
+            return;
+        }
+        AtomicLong lastRead = members.lastReadSeqs.get(userId);
+        if (lastRead != null) {
+            lastRead.accumulateAndGet(seq, Math::max);
+        }
+    }
+
+    /**
+     * 멤버 변경(초대/강퇴/전체 강퇴/방 삭제)이 있었던 방의 캐시를 제거한다.
+     */
+    @Override
+    public void onClusterEvent(ChatClusterEvent event) {
+        if (event.type() == ChatClusterEvent.Type.MESSAGE_APPENDED) {
+            return;
+        }
+        epoch.incrementAndGet();
+        rooms.remove(event.roomId());
+    }
+
+    private RoomMembers load(String roomId, Long roomPk, RoomMembers previous, long now) {
+        long loadEpoch = epoch.get();
+        RoomMembers loaded = new RoomMembers(now);
+        for (ChatMemberReadState state : chatMemberRepository.findActiveReadStates(roomPk)) {
+            long seq = state.lastReadSeq() == null ? 0L : state.lastReadSeq();
+            AtomicLong cached = previous == null ? null : previous.lastReadSeqs.get(state.userId());
+            if (cached != null) {
+                // 읽음 버퍼가 아직 DB에 반영하지 않은 값일 수 있다.
+                seq = Math.max(seq, cached.get());
+            }
+            loaded.lastReadSeqs.put(state.userId(), new AtomicLong(seq));
+        }
+
+        if (rooms.size() >= maxRooms && !rooms.containsKey(roomId)) {
+            Iterator<String> it = rooms.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        rooms.put(roomId, loaded);
+
+        // 로딩 중 무효화가 발생했다면 방금 적재한 값이 오래된 상태일 수 있으므로 되돌린다.
+        if (epoch.get() != loadEpoch) {
+            rooms.remove(roomId, loaded);
+        }
+        return loaded;
+    }
+
+    private static final class RoomMembers {
+        private final long loadedAt;
+        private final Map<String, AtomicLong> lastReadSeqs = new ConcurrentHashMap<>();
+
+        private RoomMembers(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.buskmate.messenger.room.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.room.dto.ChatRoomSyncState;
 import org.example.buskmate.messenger.room.dto.MyChatRoomResponse;
 import org.example.buskmate.messenger.room.repository.ChatMemberRepository;
 import org.springframework.stereotype.Component;
@@ -11,7 +12,7 @@ import java.util.List;
 /**
  * 채팅방 조회 전용 Reader.
  *
- * <p>“내 채팅방 목록”과 같이 읽기 전용 조회 유스케이스를 캡슐화한다.</p>
+ * <p>“내 채팅방 목록”, 재연결 동기화용 방 상태와 같이 읽기 전용 조회 유스케이스를 캡슐화한다.</p>
  *
  * <p>현재 구현은 {@link ChatMemberRepository#findMyRoomsOrderByLastMessage(String)}를 위임하여
  * 사용자가 참여 중인 채팅방 목록을 조회한다.</p>
@@ -29,7 +30,9 @@ public class ChatRoomReader {
     /**
      * 사용자가 참여 중인 채팅방 목록을 조회한다.
      *
-     * <p>정렬 기준(마지막 메시지 우선 등)은 repository 쿼리 정책을 따른다.</p>
+     * <p>정렬 기준(마지막 메시지 우선 등)은 repository 쿼리 정책을 따른다.
+     * 마지막 메시지 정보는 {@link ChatRoomLastMessageUpdater}가 갱신한 비정규화 포인터이므로
+     * 최대 플러시 주기만큼 늦게 반영될 수 있다.</p>
      *
      * @param userId 사용자 식별자
      * @return 내 채팅방 목록 DTO
@@ -38,4 +41,15 @@ public class ChatRoomReader {
     public List<MyChatRoomResponse> findMyRooms(String userId) {
         return chatMemberRepository.findMyRoomsOrderByLastMessage(userId);
     }
+
+    /**
+     * 사용자가 참여 중인 활성 채팅방과 각 방의 마지막 메시지 순번을 조회한다. (멤버십 검증 겸용, 조회 1회)
+     *
+     * @param userId 사용자 식별자
+     * @return 활성 채팅방 동기화 상태 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ChatRoomSyncState> findSyncStates(String userId) {
+        return chatMemberRepository.findSyncStates(userId);
+    }
 }
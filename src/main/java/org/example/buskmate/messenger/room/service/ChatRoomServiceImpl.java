@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import org.example.buskmate.messenger.room.domain.ChatRoom;
 import org.example.buskmate.messenger.room.domain.ChatRoomStatus;
 import org.example.buskmate.messenger.room.repository.ChatRoomRepository;
+import org.example.buskmate.messenger.support.ChatClusterEvent;
+import org.example.buskmate.messenger.support.ChatClusterEvents;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +40,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChatRoomServiceImpl implements ChatRoomService{
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatClusterEvents chatClusterEvents;
 
     /**
      * {@inheritDoc}
@@ -96,6 +99,7 @@ public class ChatRoomServiceImpl implements ChatRoomService{
             throw new IllegalStateException("삭제된 채팅방입니다.");
         }
         room.delete();
+        chatClusterEvents.publish(ChatClusterEvent.roomClosed(roomId));
     }
 
 }
@@ -0,0 +1,108 @@
+package org.example.buskmate.messenger.room.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.chat.service.ChatBroadcaster;
+import org.example.buskmate.messenger.room.dto.ChatRoomLastMessage;
+import org.example.buskmate.messenger.room.dto.ChatRoomUpdateEvent;
+import org.example.buskmate.messenger.support.AfterCommit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 내 채팅방 목록 갱신 푸시.
+ *
+ * <p>클라이언트가 정렬/마지막 메시지/안 읽은 수를 갱신하려고 {@code GET /api/chat/rooms}를 반복 호출하지 않도록,
+ * 새 메시지가 온 방의 요약을 각 활성 멤버의 {@code /user/queue/rooms}로 보낸다.</p>
+ *
+ * <h2>합치기</h2>
+ * <ul>
+ *   <li>전송 시에는 방별로 “가장 최신 메시지” 하나만 보관한다. (커밋 이후, O(1))</li>
+ *   <li>{@code chat.room-updates.window-ms}마다 바뀐 방들을 멤버 목록({@link ChatRoomMembersCache})으로 펼쳐
+ *       사용자별로 묶고, 사용자당 한 프레임({@code List<ChatRoomUpdateEvent>})으로 보낸다.</li>
+ *   <li>안 읽은 수는 보내는 시점의 읽은 순번으로 계산하므로, 보낸 사람 자신은 0이 된다.</li>
+ * </ul>
+ *
+ * <p>사용자 목적지는 {@link ChatBroadcaster}를 거치므로 {@code chat.broker.mode=redis}에서도
+ * 사용자가 연결된 노드로 전달된다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomUpdateNotifier {
+
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+    private static final String ROOMS_QUEUE = "/queue/rooms";
+
+    private final ChatRoomMembersCache chatRoomMembersCache;
+    private final ChatBroadcaster chatBroadcaster;
+
+    /** roomId → 마지막 메시지 */
+    private final Map<String, ChatRoomLastMessage> dirtyRooms = new ConcurrentHashMap<>();
+
+    /**
+     * 전송된 메시지를 기록한다. 트랜잭션 안에서 호출되면 커밋 이후에 반영된다.
+     *
+     * @param roomId    채팅방 식별자(외부 노출용)
+     * @param roomPk    채팅방 DB PK
+     * @param messageId 메시지 식별자(ULID)
+     * @param seq       방 내 메시지 순번
+     * @param createdAt 메시지 생성 시각
+     * @param content   메시지 본문
+     */
+    public void messageSent(String roomId, Long roomPk, String messageId, long seq, LocalDateTime createdAt, String content) {
+        ChatRoomLastMessage lastMessage = ChatRoomLastMessage.of(roomPk, messageId, seq, createdAt, content);
+        AfterCommit.run(() -> dirtyRooms.merge(roomId, lastMessage, ChatRoomLastMessage::newer));
+    }
+
+    /**
+     * 읽음 처리를 안 읽은 수 계산에 반영한다.
+     *
+     * @param roomId 채팅방 식별자(외부 노출용)
+     * @param userId 사용자 식별자
+     * @param seq    읽은 메시지 순번
+     */
+    public void read(String roomId, String userId, long seq) {
+        AfterCommit.run(() -> chatRoomMembersCache.advanceRead(roomId, userId, seq));
+    }
+
+    @Scheduled(fixedDelayString = "${chat.room-updates.window-ms:500}")
+    void flush() {
+        if (dirtyRooms.isEmpty()) {
+            return;
+        }
+        Map<String, List<ChatRoomUpdateEvent>> byUser = new HashMap<>();
+        for (String roomId : dirtyRooms.keySet()) {
+            ChatRoomLastMessage last = dirtyRooms.remove(roomId);
+            if (last == null) {
+                continue;
+            }
+            Map<String, Long> members;
+            try {
+                members = chatRoomMembersCache.lastReadSeqs(roomId, last.roomPk());
+            } catch (RuntimeException e) {
+                log.warn("[CHAT] room update member load failed - roomId={}", roomId, e);
+                continue;
+            }
+            members.forEach((userId, lastReadSeq) -> byUser
+                    .computeIfAbsent(userId, k -> new ArrayList<>())
+                    .add(new ChatRoomUpdateEvent(roomId, last.createdAt(), last.preview(), last.seq(),
+                            Math.max(0L, last.seq() - lastReadSeq))));
+        }
+
+        byUser.forEach((userId, events) -> {
+            try {
+                chatBroadcaster.broadcast(USER_DESTINATION_PREFIX + userId + ROOMS_QUEUE, events);
+            } catch (RuntimeException e) {
+                log.warn("[CHAT] room update push failed - userId={}", userId, e);
+            }
+        });
+    }
+}
@@ -85,6 +85,38 @@ public class ChatRoomUseCase {
         chatMemberService.kickMember(room, request.memberId(), owner);
     }
 
+    /**
+     * 채팅방에 여러 멤버를 한 번에 초대한다.
+     *
+     * <p>방 조회와 권한 검증은 요청당 한 번만 수행되며, 대상별 결과를 반환한다.</p>
+     *
+     * @param roomId  채팅방 식별자(외부 노출용)
+     * @param request 일괄 초대 요청
+     * @param owner   요청자(인증 사용자)
+     * @return 사용자별 처리 결과
+     */
+    @Transactional
+    public List<MemberBulkResult> inviteMembers(String roomId, MemberBulkRequest request, CustomUser owner) {
+        ChatRoom chatRoom = chatRoomService.getByRoomId(roomId);
+        return chatMemberService.inviteMembers(chatRoom, request.memberIds(), owner);
+    }
+
+    /**
+     * 채팅방에서 여러 멤버를 한 번에 강퇴한다.
+     *
+     * <p>방 조회와 권한 검증은 요청당 한 번만 수행되며, 대상별 결과를 반환한다.</p>
+     *
+     * @param roomId  채팅방 식별자(외부 노출용)
+     * @param request 일괄 강퇴 요청
+     * @param owner   요청자(인증 사용자)
+     * @return 사용자별 처리 결과
+     */
+    @Transactional
+    public List<MemberBulkResult> kickMembers(String roomId, MemberBulkRequest request, CustomUser owner) {
+        ChatRoom room = chatRoomService.getByRoomId(roomId);
+        return chatMemberService.kickMembers(room, request.memberIds(), owner);
+    }
+
     /**
      * 채팅방을 삭제(soft delete)한다.
      *
@@ -0,0 +1,164 @@
+package org.example.buskmate.messenger.room.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.buskmate.messenger.room.dto.ChatRoomSyncState;
+import org.example.buskmate.messenger.support.ChatClusterEvent;
+import org.example.buskmate.messenger.support.ChatClusterEventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * STOMP 세션별 채팅방 접근 목록(ACL).
+ *
+ * <p>CONNECT 시점에 사용자가 참여 중인 활성 채팅방 집합을 조회 1회로 적재하고,
+ * 이후 SUBSCRIBE/SEND 프레임마다의 권한 확인은 메모리 조회({@link #isAllowed(String, String)})로 끝낸다.</p>
+ *
+ * <h2>갱신 규칙</h2>
+ * <p>멤버십을 변경하는 경로가 발행한 {@link ChatClusterEvent}를 커밋 이후 모든 노드에서 받아,
+ * 그 노드에 접속한 해당 사용자의 모든 세션에 반영한다. (다른 노드에서 강퇴된 사용자의 구독/전송도 막힌다)</p>
+ * <ul>
+ *   <li>방 생성/멤버 초대({@code MEMBER_JOINED}): 접근 추가</li>
+ *   <li>멤버 강퇴({@code MEMBER_LEFT}): 접근 제거</li>
+ *   <li>전체 강퇴 / 방 삭제({@code ROOM_CLOSED}): 모든 세션에서 접근 제거</li>
+ * </ul>
+ *
+ * <h2>동시성</h2>
+ * <p>적재 도중 멤버십 변경이 일어나면(변경 세대 {@code epoch}로 판단) 다시 조회한다.
+ * 따라서 커밋 이전 상태로 적재된 집합이 남지 않는다.</p>
+ * <ul>
+ *   <li>초대/강퇴는 해당 사용자의 세대만 올리므로, 다른 사용자의 멤버십 변경이 잦아도 적재가 재시도되지 않는다.</li>
+ *   <li>방 삭제는 대상 사용자를 알 수 없으므로 전역 세대({@code closedEpoch})를 올린다. (빈도가 낮은 경로)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSessionRoomAcl implements ChatClusterEventListener {
+
+    private final ChatRoomReader chatRoomReader;
+
+    /** sessionId → 세션 ACL */
+    private final Map<String, SessionAcl> sessions = new ConcurrentHashMap<>();
+    /** userId → 사용자 세션 집합과 변경 세대 (한 사용자가 여러 탭/기기로 접속할 수 있음) */
+    private final Map<String, UserSessions> sessionsByUser = new ConcurrentHashMap<>();
+    private final AtomicLong closedEpoch = new AtomicLong();
+
+    /**
+     * 세션을 등록하고 사용자의 참여 채팅방 집합을 적재한다. (CONNECT 시 1회)
+     *
+     * @param sessionId STOMP 세션 식별자
+     * @param userId    사용자 식별자
+     */
+    public void register(String sessionId, String userId) {
+        SessionAcl acl = new SessionAcl(userId);
+        // 먼저 인덱스에 올려 두어야 적재 중 발생한 grant/revoke가 이 세션에도 반영된다.
+        sessions.put(sessionId, acl);
+        UserSessions user = sessionsByUser.compute(userId, (k, existing) -> {
+            UserSessions sessionsOfUser = existing == null ? new UserSessions() : existing;
+            sessionsOfUser.sessionIds.add(sessionId);
+            return sessionsOfUser;
+        });
+
+        while (true) {
+            long loadEpoch = user.epoch.get();
+            long loadClosedEpoch = closedEpoch.get();
+            Set<String> loaded = ConcurrentHashMap.newKeySet();
+            for (ChatRoomSyncState state : chatRoomReader.findSyncStates(userId)) {
+                loaded.add(state.roomId());
+            }
+            if (user.epoch.get() == loadEpoch && closedEpoch.get() == loadClosedEpoch) {
+                acl.rooms.addAll(loaded);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 세션을 제거한다. (DISCONNECT 시)
+     *
+     * @param sessionId STOMP 세션 식별자
+     */
+    public void unregister(String sessionId) {
+        SessionAcl acl = sessions.remove(sessionId);
+        if (acl == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(acl.userId, (k, user) -> {
+            user.sessionIds.remove(sessionId);
+            return user.sessionIds.isEmpty() ? null : user;
+        });
+    }
+
+    /**
+     * 세션이 채팅방에 접근할 수 있는지 확인한다. (DB 조회 없음)
+     *
+     * @param sessionId STOMP 세션 식별자
+     * @param roomId    채팅방 식별자(외부 노출용)
+     * @return 등록된 세션이고 참여 중인 방이면 {@code true}
+     */
+    public boolean isAllowed(String sessionId, String roomId) {
+        SessionAcl acl = sessions.get(sessionId);
+        return acl != null && acl.rooms.contains(roomId);
+    }
+
+    @Override
+    public void onClusterEvent(ChatClusterEvent event) {
+        switch (event.type()) {
+            case MEMBER_JOINED -> grant(event.roomId(), event.userId());
+            case MEMBER_LEFT -> revoke(event.roomId(), event.userId());
+            case ROOM_CLOSED -> revokeRoom(event.roomId());
+            default -> { }
+        }
+    }
+
+    private void grant(String roomId, String userId) {
+        forEachSession(userId, acl -> acl.rooms.add(roomId));
+    }
+
+    private void revoke(String roomId, String userId) {
+        forEachSession(userId, acl -> acl.rooms.remove(roomId));
+    }
+
+    /**
+     * 빈도가 낮은 경로이므로 역인덱스 없이 전체 세션을 순회한다.
+     */
+    private void revokeRoom(String roomId) {
+        closedEpoch.incrementAndGet();
+        sessions.values().forEach(acl -> acl.rooms.remove(roomId));
+    }
+
+    /**
+     * 사용자의 변경 세대를 올린 뒤 접속 중인 모든 세션에 반영한다. 접속한 세션이 없으면 아무것도 하지 않는다.
+     */
+    private void forEachSession(String userId, Consumer<SessionAcl> action) {
+        UserSessions user = sessionsByUser.get(userId);
+        if (user == null) {
+            return;
+        }
+        user.epoch.incrementAndGet();
+        for (String sessionId : user.sessionIds) {
+            SessionAcl acl = sessions.get(sessionId);
+            if (acl != null) {
+                action.accept(acl);
+            }
+        }
+    }
+
+    private static final class UserSessions {
+        private final Set<String> sessionIds = ConcurrentHashMap.newKeySet();
+        private final AtomicLong epoch = new AtomicLong();
+    }
+
+    private static final class SessionAcl {
+        private final String userId;
+        private final Set<String> rooms = ConcurrentHashMap.newKeySet();
+
+        private SessionAcl(String userId) {
+            this.userId = userId;
+        }
+    }
+}
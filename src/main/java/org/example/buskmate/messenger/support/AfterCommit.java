@@ -0,0 +1,36 @@
+package org.example.buskmate.messenger.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 유틸리티.
+ *
+ * <p>캐시 무효화/인메모리 버퍼 반영처럼 “DB에 커밋된 상태”만 따라야 하는 작업을
+ * 현재 트랜잭션의 커밋 이후로 미룬다. 활성 트랜잭션이 없으면 즉시 실행한다.</p>
+ *
+ * <p><b>주의:</b> 트랜잭션이 롤백되면 작업은 실행되지 않는다.</p>
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 작업을 실행한다. (트랜잭션이 없으면 즉시 실행)
+     *
+     * @param action 실행할 작업
+     */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
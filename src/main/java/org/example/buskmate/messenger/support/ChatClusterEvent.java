@@ -0,0 +1,52 @@
+package org.example.buskmate.messenger.support;
+
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+
+/**
+ * 노드 로컬 캐시 동기화 이벤트.
+ *
+ * <p>멤버십/방 상태/최근 메시지처럼 각 노드가 메모리에 들고 있는 상태를 바꾸는 변경을 나타낸다.
+ * {@link ChatClusterEvents}로 발행하면 커밋 이후 모든 노드의 {@link ChatClusterEventListener}에 전달된다.</p>
+ *
+ * <ul>
+ *   <li>{@link Type#MEMBER_JOINED}: 방 생성/멤버 초대 ({@code roomId}, {@code userId})</li>
+ *   <li>{@link Type#MEMBER_LEFT}: 멤버 강퇴 ({@code roomId}, {@code userId})</li>
+ *   <li>{@link Type#ROOM_CLOSED}: 전체 강퇴/방 삭제 ({@code roomId})</li>
+ *   <li>{@link Type#MESSAGE_APPENDED}: 메시지 전송 ({@code roomId}, {@code message})</li>
+ * </ul>
+ *
+ * @param type    이벤트 종류
+ * @param roomId  채팅방 식별자(외부 노출용)
+ * @param userId  대상 사용자 식별자 (멤버 이벤트가 아니면 null)
+ * @param message 전송된 메시지 (메시지 이벤트가 아니면 null)
+ */
+public record ChatClusterEvent(
+        Type type,
+        String roomId,
+        String userId,
+        ChatMessageResponse message
+) {
+
+    public enum Type {
+        MEMBER_JOINED,
+        MEMBER_LEFT,
+        ROOM_CLOSED,
+        MESSAGE_APPENDED
+    }
+
+    public static ChatClusterEvent memberJoined(String roomId, String userId) {
+        return new ChatClusterEvent(Type.MEMBER_JOINED, roomId, userId, null);
+    }
+
+    public static ChatClusterEvent memberLeft(String roomId, String userId) {
+        return new ChatClusterEvent(Type.MEMBER_LEFT, roomId, userId, null);
+    }
+
+    public static ChatClusterEvent roomClosed(String roomId) {
+        return new ChatClusterEvent(Type.ROOM_CLOSED, roomId, null, null);
+    }
+
+    public static ChatClusterEvent messageAppended(ChatMessageResponse message) {
+        return new ChatClusterEvent(Type.MESSAGE_APPENDED, message.roomId(), null, message);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.buskmate.messenger.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 현재 노드의 모든 {@link ChatClusterEventListener}에 이벤트를 전달한다.
+ *
+ * <p>한 수신자의 실패가 다른 수신자의 반영을 막지 않도록 수신자별로 예외를 격리한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatClusterEventDispatcher {
+
+    private final List<ChatClusterEventListener> listeners;
+
+    public void dispatch(ChatClusterEvent event) {
+        for (ChatClusterEventListener listener : listeners) {
+            try {
+                listener.onClusterEvent(event);
+            } catch (RuntimeException e) {
+                log.warn("[CHAT] cluster event listener failed - type={}, roomId={}, listener={}",
+                        event.type(), event.roomId(), listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
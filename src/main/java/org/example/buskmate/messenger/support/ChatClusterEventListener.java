@@ -0,0 +1,17 @@
+package org.example.buskmate.messenger.support;
+
+/**
+ * {@link ChatClusterEvent} 수신자.
+ *
+ * <p>노드 로컬 상태를 가진 컴포넌트가 구현하며, {@link ChatClusterEventDispatcher}가 모든 구현체에 이벤트를 전달한다.
+ * 이벤트는 어느 노드에서 발생했든 커밋된 변경이므로, 수신자는 바로 자신의 메모리 상태에 반영하면 된다.</p>
+ */
+public interface ChatClusterEventListener {
+
+    /**
+     * 이벤트를 현재 노드의 상태에 반영한다.
+     *
+     * @param event 커밋된 변경 이벤트
+     */
+    void onClusterEvent(ChatClusterEvent event);
+}
@@ -0,0 +1,21 @@
+package org.example.buskmate.messenger.support;
+
+/**
+ * 노드 로컬 캐시 동기화 이벤트 발행 포트.
+ *
+ * <p>{@code chat.broker.mode} 설정에 따라 구현체가 선택된다.</p>
+ *
+ * <ul>
+ *   <li>{@code simple}(기본): {@link LocalChatClusterEvents} — 현재 노드의 수신자에게만 전달</li>
+ *   <li>{@code redis}: {@link RedisChatClusterEvents} — 현재 노드에 바로 반영하고 Redis pub/sub으로 다른 노드에도 전달</li>
+ * </ul>
+ */
+public interface ChatClusterEvents {
+
+    /**
+     * 이벤트를 발행한다. 트랜잭션 안에서 호출되면 커밋 이후에 전달되고, 롤백되면 전달되지 않는다.
+     *
+     * @param event 발행할 이벤트
+     */
+    void publish(ChatClusterEvent event);
+}
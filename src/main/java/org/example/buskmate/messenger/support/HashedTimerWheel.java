@@ -0,0 +1,96 @@
+package org.example.buskmate.messenger.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 해시드 타이머 휠(hashed timer wheel).
+ *
+ * <p>만료 시각을 {@code tickMs} 단위 슬롯(원형 배열)에 나눠 담는다. 등록은 O(1)이고,
+ * {@link #advance(long)}는 지난 틱의 슬롯만 확인하므로 항목 수와 무관하게 틱당 비용이 작다.
+ * (우선순위 큐처럼 등록/갱신마다 O(log n) 재정렬하지 않는다)</p>
+ *
+ * <p>갱신(TTL 연장)은 휠에서 항목을 꺼내지 않고, 호출자가 항목의 실제 만료 시각을 따로 보관했다가
+ * 휠에서 나왔을 때 아직 살아 있으면 다시 등록하는 방식(lazy reschedule)을 전제로 한다.</p>
+ *
+ * <p><b>스레드 안전:</b> 모든 메서드는 인스턴스 단위로 동기화된다.</p>
+ *
+ * @param <T> 항목 타입
+ */
+public final class HashedTimerWheel<T> {
+
+    private final long tickMs;
+    private final long startMs;
+    private final List<ArrayDeque<Entry<T>>> slots;
+    private final int mask;
+
+    /** 마지막으로 처리한 틱 */
+    private long currentTick;
+
+    /**
+     * @param tickMs    틱 간격(ms)
+     * @param wheelSize 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param nowMs     기준 시각(ms)
+     */
+    public HashedTimerWheel(long tickMs, int wheelSize, long nowMs) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs와 wheelSize는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMs = tickMs;
+        this.startMs = nowMs;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new ArrayDeque<>());
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 항목을 만료 시각에 등록한다. 이미 지난 시각이면 다음 틱에 만료된다.
+     *
+     * @param item       항목
+     * @param deadlineMs 만료 시각(ms)
+     */
+    public synchronized void schedule(T item, long deadlineMs) {
+        long deadlineTick = Math.max(currentTick + 1, ceilDiv(deadlineMs - startMs, tickMs));
+        slots.get((int) (deadlineTick & mask)).addLast(new Entry<>(item, deadlineTick));
+    }
+
+    /**
+     * {@code nowMs}까지의 틱을 진행하고 만료된 항목을 돌려준다.
+     *
+     * <p>한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인한다.</p>
+     *
+     * @param nowMs 현재 시각(ms)
+     * @return 만료된 항목 목록 (휠에서 제거됨)
+     */
+    public synchronized List<T> advance(long nowMs) {
+        long targetTick = Math.floorDiv(nowMs - startMs, tickMs);
+        if (targetTick <= currentTick) {
+            return List.of();
+        }
+        long steps = Math.min(targetTick - currentTick, slots.size());
+        List<T> expired = new ArrayList<>();
+        for (long i = 1; i <= steps; i++) {
+            Iterator<Entry<T>> it = slots.get((int) ((currentTick + i) & mask)).iterator();
+            while (it.hasNext()) {
+                Entry<T> entry = it.next();
+                if (entry.deadlineTick <= targetTick) {
+                    it.remove();
+                    expired.add(entry.item);
+                }
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) { }
+}
@@ -0,0 +1,23 @@
+package org.example.buskmate.messenger.support;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 {@link ChatClusterEvents} 구현체. (기본값)
+ *
+ * <p>커밋 이후 현재 노드의 수신자에게만 전달한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class LocalChatClusterEvents implements ChatClusterEvents {
+
+    private final ChatClusterEventDispatcher dispatcher;
+
+    @Override
+    public void publish(ChatClusterEvent event) {
+        AfterCommit.run(() -> dispatcher.dispatch(event));
+    }
+}
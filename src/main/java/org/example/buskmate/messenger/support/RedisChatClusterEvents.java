@@ -0,0 +1,128 @@
+package org.example.buskmate.messenger.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 멀티 노드용 {@link ChatClusterEvents} 구현체. ({@code chat.broker.mode=redis})
+ *
+ * <p>커밋 이후 현재 노드의 수신자에 바로 반영하고, 같은 이벤트를 Redis 채널({@value #CHANNEL})에 발행한다.
+ * 다른 노드는 {@link #deliverLocally(byte[])}로 받아 각자의 수신자에 반영하며, 자기 노드가 발행한 이벤트는 건너뛴다.</p>
+ *
+ * <h2>바이너리 레이아웃</h2>
+ * <pre>
+ * UTF origin, UTF type, UTF roomId, boolean hasUser [UTF userId], boolean hasMessage
+ * [UTF messageId, long seq(-1 = null), UTF senderId, int length + UTF-8 content, long epochSecond, int nano]
+ * </pre>
+ *
+ * <p><b>주의:</b> Redis pub/sub은 최대 한 번 전달이므로, 연결이 끊긴 동안의 이벤트는 유실될 수 있다.
+ * 각 캐시의 TTL/재적재 규칙이 이 경우의 상한이 된다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisChatClusterEvents implements ChatClusterEvents {
+
+    public static final String CHANNEL = "chat:cluster";
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final ChatClusterEventDispatcher dispatcher;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisChatClusterEvents(RedisConnectionFactory redisConnectionFactory, ChatClusterEventDispatcher dispatcher) {
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void publish(ChatClusterEvent event) {
+        AfterCommit.run(() -> {
+            dispatcher.dispatch(event);
+            try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+                connection.publish(CHANNEL.getBytes(StandardCharsets.UTF_8), encode(nodeId, event));
+            } catch (RuntimeException e) {
+                log.warn("[CHAT] cluster event publish failed - type={}, roomId={}", event.type(), event.roomId(), e);
+            }
+        });
+    }
+
+    /**
+     * Redis에서 수신한 이벤트를 현재 노드의 수신자에 반영한다. (자기 노드가 발행한 이벤트는 무시)
+     *
+     * @param body {@link #encode(String, ChatClusterEvent)}로 인코딩된 이벤트
+     */
+    public void deliverLocally(byte[] body) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+            if (nodeId.equals(in.readUTF())) {
+                return;
+            }
+            dispatcher.dispatch(decodeEvent(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static byte[] encode(String origin, ChatClusterEvent event) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeUTF(origin);
+            out.writeUTF(event.type().name());
+            out.writeUTF(event.roomId());
+            out.writeBoolean(event.userId() != null);
+            if (event.userId() != null) {
+                out.writeUTF(event.userId());
+            }
+            ChatMessageResponse message = event.message();
+            out.writeBoolean(message != null);
+            if (message != null) {
+                out.writeUTF(message.messageId());
+                out.writeLong(message.seq() == null ? -1L : message.seq());
+                out.writeUTF(message.senderId());
+                byte[] content = message.content().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(content.length);
+                out.write(content);
+                out.writeLong(message.createdAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(message.createdAt().getNano());
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ChatClusterEvent decodeEvent(DataInputStream in) throws IOException {
+        ChatClusterEvent.Type type = ChatClusterEvent.Type.valueOf(in.readUTF());
+        String roomId = in.readUTF();
+        String userId = in.readBoolean() ? in.readUTF() : null;
+        ChatMessageResponse message = null;
+        if (in.readBoolean()) {
+            String messageId = in.readUTF();
+            long seq = in.readLong();
+            String senderId = in.readUTF();
+            byte[] content = new byte[in.readInt()];
+            in.readFully(content);
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            message = new ChatMessageResponse(roomId, messageId, seq < 0 ? null : seq, senderId,
+                    new String(content, StandardCharsets.UTF_8), createdAt);
+        }
+        return new ChatClusterEvent(type, roomId, userId, message);
+    }
+}
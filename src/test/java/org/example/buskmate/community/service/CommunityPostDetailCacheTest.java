@@ -0,0 +1,123 @@
+package org.example.buskmate.community.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.buskmate.community.dto.CommunityPostDetail;
+import org.example.buskmate.community.dto.CommunityPostVersionState;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CommunityPostDetailCache} 버전 검증/제거/병합 검증.
+ */
+class CommunityPostDetailCacheTest {
+
+    private static final Long POST_ID = 1L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CommunityPostDetailCache cache = new CommunityPostDetailCache(meterRegistry, 100);
+
+    @Test
+    void hitWhenVersionsMatch() {
+        CommunityPostDetail detail = detail(3L, 5L);
+        cache.put(detail);
+
+        assertSame(detail, cache.get(state(3L, 5L)));
+        assertEquals(1.0, requests("hit"));
+    }
+
+    @Test
+    void postVersionMismatchIsStale() {
+        cache.put(detail(3L, 5L));
+
+        assertNull(cache.get(state(4L, 5L)));
+        assertEquals(1.0, requests("stale"));
+    }
+
+    @Test
+    void commentVersionMismatchIsStale() {
+        cache.put(detail(3L, 5L));
+
+        assertNull(cache.get(state(3L, 6L)));
+        assertEquals(1.0, requests("stale"));
+    }
+
+    @Test
+    void missWhenAbsent() {
+        assertNull(cache.get(state(3L, 5L)));
+        assertEquals(1.0, requests("miss"));
+    }
+
+    @Test
+    void evictRemovesEntry() {
+        cache.put(detail(3L, 5L));
+        cache.evict(POST_ID);
+
+        assertNull(cache.get(state(3L, 5L)));
+        assertEquals(1.0, requests("miss"));
+    }
+
+    @Test
+    void olderLoadDoesNotOverwriteNewerEntry() {
+        CommunityPostDetail newer = detail(4L, 6L);
+        cache.put(newer);
+        cache.put(detail(3L, 5L));
+
+        assertSame(newer, cache.get(state(4L, 6L)));
+    }
+
+    @Test
+    void newerLoadReplacesOlderEntry() {
+        cache.put(detail(3L, 5L));
+        CommunityPostDetail newer = detail(3L, 6L);
+        cache.put(newer);
+
+        assertSame(newer, cache.get(state(3L, 6L)));
+    }
+
+    @Test
+    void divergedLoadReplacesEntry() {
+        // 게시글 버전은 앞서고 댓글 버전은 뒤처진 경우 어느 쪽도 최신이 아니므로 마지막 적재를 따른다.
+        cache.put(detail(4L, 5L));
+        CommunityPostDetail loaded = detail(3L, 6L);
+        cache.put(loaded);
+
+        assertSame(loaded, cache.get(state(3L, 6L)));
+    }
+
+    @Test
+    void isNewerRequiresNoVersionBehind() {
+        assertTrue(CommunityPostDetailCache.isNewer(detail(4L, 5L), detail(3L, 5L)));
+        assertTrue(CommunityPostDetailCache.isNewer(detail(3L, 6L), detail(3L, 5L)));
+        assertFalse(CommunityPostDetailCache.isNewer(detail(3L, 5L), detail(3L, 5L)));
+        assertFalse(CommunityPostDetailCache.isNewer(detail(4L, 5L), detail(3L, 6L)));
+    }
+
+    @Test
+    void bindsCaffeineMetrics() {
+        cache.put(detail(3L, 5L));
+        cache.get(state(3L, 5L));
+
+        assertEquals(1.0, meterRegistry.get("cache.size").tag("cache", CommunityPostDetailCache.CACHE_NAME).gauge().value());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", CommunityPostDetailCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("community.post_detail_cache.requests").tag("result", result).counter().count();
+    }
+
+    private static CommunityPostDetail detail(long version, long commentVersion) {
+        return new CommunityPostDetail(POST_ID, "author", "title", "content", version, commentVersion, List.of(), null);
+    }
+
+    private static CommunityPostVersionState state(long version, long commentVersion) {
+        return new CommunityPostVersionState(POST_ID, version, commentVersion, 0L);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.buskmate.messenger.chat.service;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * {@link ChatMessageBinaryCodec}과 JSON의 프레임 크기/인코딩 시간 비교.
+ *
+ * <p>시간 값은 환경 의존적이므로 검증하지 않고 로그로만 남긴다.
+ * 기본 {@code test}에서는 제외되며 {@code gradle benchmark}로 따로 실행한다.</p>
+ */
+@Tag("benchmark")
+class ChatMessageBinaryCodecBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageBinaryCodecBenchmark.class);
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private final ChatMessageResponse message = new ChatMessageResponse(
+            UlidCreator.getUlid().toString(),
+            UlidCreator.getUlid().toString(),
+            1234L,
+            UlidCreator.getUlid().toString(),
+            "오늘 홍대 버스킹 7시에 시작해요! 늦지 마세요 :)",
+            LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS)
+    );
+
+    @Test
+    void compareWithJson() {
+        int jsonBytes = jsonMapper.writeValueAsBytes(message).length;
+        int binaryBytes = ChatMessageBinaryCodec.encode(message).length;
+
+        long jsonNanos = measure(() -> jsonMapper.writeValueAsBytes(message));
+        long binaryNanos = measure(() -> ChatMessageBinaryCodec.encode(message));
+
+        log.info("[chat codec] bytes/frame json={} binary={} ({}%)",
+                jsonBytes, binaryBytes, String.format("%.1f", 100.0 * binaryBytes / jsonBytes));
+        log.info("[chat codec] encode ns/op json={} binary={}",
+                String.format("%.1f", (double) jsonNanos / ITERATIONS),
+                String.format("%.1f", (double) binaryNanos / ITERATIONS));
+    }
+
+    private static long measure(Runnable encode) {
+        for (int i = 0; i < WARMUP; i++) {
+            encode.run();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encode.run();
+        }
+        return System.nanoTime() - started;
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.buskmate.messenger.chat.service;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.BufferUnderflowException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ChatMessageBinaryCodec} 왕복/경계값 검증.
+ */
+class ChatMessageBinaryCodecTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 678_000_000);
+
+    @Test
+    void roundTrip() {
+        ChatMessageResponse message = message(1234L, "오늘 홍대 버스킹 7시에 시작해요! 늦지 마세요 :)");
+
+        assertEquals(message, ChatMessageBinaryCodec.decode(ChatMessageBinaryCodec.encode(message)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 127L, 128L, 16_383L, 16_384L, Integer.MAX_VALUE, 1L << 56, Long.MAX_VALUE})
+    void seqVarintBounds(long seq) {
+        ChatMessageResponse message = message(seq, "hi");
+
+        assertEquals(seq, ChatMessageBinaryCodec.decode(ChatMessageBinaryCodec.encode(message)).seq());
+    }
+
+    @Test
+    void varintLengthGrowsAtSevenBitBoundary() {
+        int oneByte = ChatMessageBinaryCodec.encode(message(127L, "hi")).length;
+        int twoBytes = ChatMessageBinaryCodec.encode(message(128L, "hi")).length;
+
+        assertEquals(oneByte + 1, twoBytes);
+    }
+
+    @Test
+    void nullSeqRoundTripsAsNull() {
+        ChatMessageResponse message = message(null, "legacy");
+
+        assertNull(ChatMessageBinaryCodec.decode(ChatMessageBinaryCodec.encode(message)).seq());
+    }
+
+    @Test
+    void createdAtBeforeEpoch() {
+        LocalDateTime createdAt = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1_000_000);
+        ChatMessageResponse message = new ChatMessageResponse(
+                "room", UlidCreator.getUlid().toString(), 1L, "sender", "old", createdAt);
+
+        assertEquals(createdAt, ChatMessageBinaryCodec.decode(ChatMessageBinaryCodec.encode(message)).createdAt());
+    }
+
+    @Test
+    void createdAtTruncatedToMillis() {
+        LocalDateTime createdAt = CREATED_AT.plusNanos(999);
+        ChatMessageResponse message = new ChatMessageResponse(
+                "room", UlidCreator.getUlid().toString(), 1L, "sender", "hi", createdAt);
+
+        assertEquals(createdAt.truncatedTo(ChronoUnit.MILLIS),
+                ChatMessageBinaryCodec.decode(ChatMessageBinaryCodec.encode(message)).createdAt());
+    }
+
+    @Test
+    void emptyContent() {
+        ChatMessageResponse message = message(1L, "");
+
+        assertEquals("", ChatMessageBinaryCodec.decode(ChatMessageBinaryCodec.encode(message)).content());
+    }
+
+    @Test
+    void multibyteContent() {
+        String content = "한글 😀 漢字 é";
+        ChatMessageResponse message = message(1L, content);
+
+        byte[] encoded = ChatMessageBinaryCodec.encode(message);
+        ChatMessageResponse decoded = ChatMessageBinaryCodec.decode(encoded);
+
+        assertEquals(content, decoded.content());
+        // 길이 접두어는 문자 수가 아니라 UTF-8 바이트 수여야 한다.
+        byte[] utf8 = content.getBytes(StandardCharsets.UTF_8);
+        byte[] tail = new byte[utf8.length];
+        System.arraycopy(encoded, encoded.length - utf8.length, tail, 0, utf8.length);
+        assertArrayEquals(utf8, tail);
+    }
+
+    @Test
+    void longContentUsesMultiByteLengthPrefix() {
+        String content = "가".repeat(10_000);
+        ChatMessageResponse message = message(1L, content);
+
+        assertEquals(content, ChatMessageBinaryCodec.decode(ChatMessageBinaryCodec.encode(message)).content());
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] encoded = ChatMessageBinaryCodec.encode(message(1L, "hi"));
+        encoded[0] = 2;
+
+        assertThrows(IllegalArgumentException.class, () -> ChatMessageBinaryCodec.decode(encoded));
+    }
+
+    @Test
+    void rejectsTruncatedFrame() {
+        byte[] encoded = ChatMessageBinaryCodec.encode(message(1L, "hi"));
+        byte[] truncated = new byte[10];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+
+        assertThrows(BufferUnderflowException.class, () -> ChatMessageBinaryCodec.decode(truncated));
+    }
+
+    @Test
+    void smallerThanJson() {
+        ChatMessageResponse message = message(1234L, "오늘 홍대 버스킹 7시에 시작해요! 늦지 마세요 :)");
+
+        int jsonBytes = JsonMapper.builder().build().writeValueAsBytes(message).length;
+        int binaryBytes = ChatMessageBinaryCodec.encode(message).length;
+
+        assertTrue(binaryBytes < jsonBytes);
+    }
+
+    private static ChatMessageResponse message(Long seq, String content) {
+        return new ChatMessageResponse(
+                UlidCreator.getUlid().toString(),
+                UlidCreator.getUlid().toString(),
+                seq,
+                UlidCreator.getUlid().toString(),
+                content,
+                CREATED_AT
+        );
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.buskmate.messenger.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.buskmate.messenger.chat.exception.ChatRateLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ChatSendRateLimiter} 버스트/충전 속도/유휴 정리 검증. (가짜 시계 사용)
+ */
+class ChatSendRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long IDLE_EVICT_MS = 1_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void burstThenReject() {
+        ChatSendRateLimiter limiter = limiter(5, 20, 1_000, 1_000, 100_000);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire("user", "room");
+        }
+        ChatRateLimitExceededException e =
+                assertThrows(ChatRateLimitExceededException.class, () -> limiter.acquire("user", "room"));
+
+        assertEquals("room", e.getRoomId());
+        assertEquals(200L, e.getRetryAfterMs());
+        assertEquals(1.0, rejected("user"));
+    }
+
+    @Test
+    void steadyRateAfterBurst() {
+        ChatSendRateLimiter limiter = limiter(5, 20, 1_000, 1_000, 100_000);
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire("user", "room");
+        }
+
+        // 초당 5개 → 200ms마다 한 개씩 충전된다.
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(SECOND / 5);
+            assertDoesNotThrow(() -> limiter.acquire("user", "room"));
+            assertThrows(ChatRateLimitExceededException.class, () -> limiter.acquire("user", "room"));
+        }
+        assertEquals(10.0, rejected("user"));
+    }
+
+    @Test
+    void refillIsCappedAtBurst() {
+        ChatSendRateLimiter limiter = limiter(5, 3, 1_000, 1_000, 100_000);
+        limiter.acquire("user", "room");
+
+        clock.addAndGet(60 * SECOND);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("user", "room");
+        }
+        assertThrows(ChatRateLimitExceededException.class, () -> limiter.acquire("user", "room"));
+    }
+
+    @Test
+    void roomLimitRejectsAfterUserTokenIsSpent() {
+        ChatSendRateLimiter limiter = limiter(1_000, 1_000, 1, 2, 100_000);
+        limiter.acquire("a", "room");
+        limiter.acquire("b", "room");
+
+        assertThrows(ChatRateLimitExceededException.class, () -> limiter.acquire("c", "room"));
+        assertEquals(1.0, rejected("room"));
+        assertEquals(0.0, rejected("user"));
+    }
+
+    @Test
+    void keysAreIndependent() {
+        ChatSendRateLimiter limiter = limiter(1, 1, 1_000, 1_000, 100_000);
+        limiter.acquire("a", "room-a");
+
+        assertThrows(ChatRateLimitExceededException.class, () -> limiter.acquire("a", "room-b"));
+        assertDoesNotThrow(() -> limiter.acquire("b", "room-b"));
+    }
+
+    @Test
+    void idleFullBucketsAreEvicted() {
+        ChatSendRateLimiter limiter = limiter(5, 20, 1_000, 1_000, 100_000);
+        limiter.acquire("user", "room");
+        assertEquals(1.0, keys("user"));
+
+        // 버킷이 가득 찬 뒤 idle-evict 동안 그대로면 다음 요청의 정리에서 제거된다.
+        clock.addAndGet(SECOND + TimeUnit.MILLISECONDS.toNanos(IDLE_EVICT_MS) + 1);
+        limiter.acquire("other", "other-room");
+
+        assertEquals(1.0, keys("user"));
+        assertEquals(1.0, keys("room"));
+    }
+
+    @Test
+    void overCapacityEvictsEveryFullBucket() {
+        ChatSendRateLimiter limiter = limiter(1_000, 1, 1_000, 1, 2);
+        limiter.acquire("a", "room-a");
+        limiter.acquire("b", "room-b");
+
+        // 1ms 뒤 모두 가득 찼지만 idle-evict는 지나지 않았다. 키 수가 max-keys를 넘었으므로 모두 제거한다.
+        clock.addAndGet(SECOND);
+        limiter.acquire("c", "room-c");
+
+        assertEquals(1.0, keys("user"));
+        assertEquals(1.0, keys("room"));
+    }
+
+    @Test
+    void concurrentSweepDoesNotLeakTokens() throws Exception {
+        int burst = 4;
+        int threads = 16;
+        ChatSendRateLimiter limiter = limiter(1, burst, 1_000_000, 1_000_000, 100_000);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 5000; round++) {
+                // 매 라운드 버킷이 가득 찬 채 idle-evict가 지나, 첫 요청의 정리와 나머지 요청의 소모가 겹친다.
+                clock.addAndGet(burst * SECOND + TimeUnit.MILLISECONDS.toNanos(IDLE_EVICT_MS) + 1);
+
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicInteger allowed = new AtomicInteger();
+                List<Future<?>> futures = new ArrayList<>(threads);
+                for (int t = 0; t < threads; t++) {
+                    String roomId = "room-" + t;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            limiter.acquire("user", roomId);
+                            allowed.incrementAndGet();
+                        } catch (ChatRateLimitExceededException ignored) {
+                            // 한도 초과
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+
+                assertEquals(burst, allowed.get(), "round " + round);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(keys("user") <= 1.0);
+    }
+
+    private ChatSendRateLimiter limiter(double userPerSecond, int userBurst,
+                                        double roomPerSecond, int roomBurst, int maxKeys) {
+        return new ChatSendRateLimiter(meterRegistry, clock::get, true,
+                userPerSecond, userBurst, roomPerSecond, roomBurst, IDLE_EVICT_MS, maxKeys);
+    }
+
+    private double rejected(String scope) {
+        return meterRegistry.get("chat.rate_limit.rejected").tag("scope", scope).counter().count();
+    }
+
+    private double keys(String scope) {
+        return meterRegistry.get("chat.rate_limit.keys").tag("scope", scope).gauge().value();
+    }
+}
@@ -0,0 +1,260 @@
+package org.example.buskmate.messenger.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.buskmate.messenger.chat.dto.ChatMessageResponse;
+import org.example.buskmate.messenger.config.RedisBrokerRelayConfig;
+import org.example.buskmate.messenger.presence.dto.ChatPresenceResponse;
+import org.example.buskmate.messenger.presence.service.ChatPresenceRegistry;
+import org.example.buskmate.messenger.presence.service.RedisChatPresencePublisher;
+import org.example.buskmate.messenger.room.domain.ChatRoomStatus;
+import org.example.buskmate.messenger.room.dto.ChatMembership;
+import org.example.buskmate.messenger.room.dto.ChatRoomSyncState;
+import org.example.buskmate.messenger.room.repository.ChatMemberRepository;
+import org.example.buskmate.messenger.room.service.ChatMembershipCache;
+import org.example.buskmate.messenger.room.service.ChatRoomReader;
+import org.example.buskmate.messenger.room.service.ChatSessionRoomAcl;
+import org.example.buskmate.messenger.support.ChatClusterEvent;
+import org.example.buskmate.messenger.support.ChatClusterEventDispatcher;
+import org.example.buskmate.messenger.support.RedisChatClusterEvents;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@code chat.broker.mode=redis} 두 노드 간 전달 검증.
+ *
+ * <p>노드마다 Redis 연결, 브로드캐스터, 캐시 동기화 이벤트, 리스너 컨테이너를 따로 두고
+ * 한 노드의 메시지 브로드캐스트와 강퇴가 다른 노드의 구독자/멤버십 캐시/세션 ACL에 반영되는지,
+ * 노드별 접속 상태 스냅샷이 합쳐져 전달되는지, 프레임과 이벤트가 발행 순서대로 반영되는지 확인한다.
+ * (Docker가 없으면 건너뛴다)</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisChatRelayTwoNodeTest {
+
+    private static final String ROOM_ID = "room-1";
+    private static final String USER_ID = "user-1";
+    private static final String SESSION_ID = "session-1";
+    private static final ChatMembership ACTIVE = new ChatMembership(1L, ROOM_ID, ChatRoomStatus.ACTIVE, null);
+    private static final Pattern SEQ = Pattern.compile("\"seq\":(\\d+)");
+    private static final ChatMembership LEFT = new ChatMembership(1L, ROOM_ID, ChatRoomStatus.ACTIVE, LocalDateTime.now());
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void messageBroadcastReachesOtherNode() {
+        ChatMessageResponse message = new ChatMessageResponse(
+                ROOM_ID, "01J00000000000000000000000", 1L, USER_ID, "hello", LocalDateTime.now());
+
+        nodeA.broadcaster.broadcastMessage(ROOM_ID, message);
+
+        await(() -> !nodeB.sent.isEmpty());
+        Message<?> delivered = nodeB.sent.getFirst();
+        assertEquals("/chat/room/" + ROOM_ID, SimpMessageHeaderAccessor.getDestination(delivered.getHeaders()));
+        assertTrue(new String((byte[]) delivered.getPayload()).contains("hello"));
+    }
+
+    @Test
+    void framesArriveInPublishOrder() {
+        int count = 200;
+        for (int seq = 1; seq <= count; seq++) {
+            nodeA.broadcaster.broadcastMessage(ROOM_ID, new ChatMessageResponse(
+                    ROOM_ID, "01J00000000000000000000000", (long) seq, USER_ID, "m" + seq, LocalDateTime.now()));
+        }
+
+        await(() -> nodeB.roomSeqs().size() == count);
+        List<Long> seqs = nodeB.roomSeqs();
+        for (int i = 0; i < count; i++) {
+            assertEquals(i + 1L, seqs.get(i));
+        }
+    }
+
+    @Test
+    void clusterEventsApplyInPublishOrder() {
+        when(nodeB.memberRepository.findMembership(ROOM_ID, USER_ID)).thenReturn(Optional.of(ACTIVE));
+        nodeB.acl.register(SESSION_ID, USER_ID);
+
+        // 강퇴 → 재초대가 뒤바뀌어 반영되면 마지막 상태가 강퇴로 남는다.
+        for (int i = 0; i < 50; i++) {
+            nodeA.events.publish(ChatClusterEvent.memberLeft(ROOM_ID, USER_ID));
+            nodeA.events.publish(ChatClusterEvent.memberJoined(ROOM_ID, USER_ID));
+        }
+        nodeA.events.publish(ChatClusterEvent.memberLeft(ROOM_ID, "marker"));
+
+        await(() -> nodeB.receivedEvents.get() == 101);
+        assertTrue(nodeB.acl.isAllowed(SESSION_ID, ROOM_ID));
+    }
+
+    @Test
+    void kickEvictsMembershipOnOtherNode() {
+        when(nodeB.memberRepository.findMembership(ROOM_ID, USER_ID)).thenReturn(Optional.of(ACTIVE));
+        assertTrue(nodeB.membershipCache.get(ROOM_ID, USER_ID).orElseThrow().isActive());
+
+        // 강퇴가 커밋된 DB 상태. 캐시가 무효화되지 않으면 이전 스냅샷(활성)이 계속 반환된다.
+        when(nodeB.memberRepository.findMembership(ROOM_ID, USER_ID)).thenReturn(Optional.of(LEFT));
+        nodeA.events.publish(ChatClusterEvent.memberLeft(ROOM_ID, USER_ID));
+
+        await(() -> !nodeB.membershipCache.get(ROOM_ID, USER_ID).orElseThrow().isActive());
+    }
+
+    @Test
+    void kickRevokesSessionOnOtherNode() {
+        nodeB.acl.register(SESSION_ID, USER_ID);
+        assertTrue(nodeB.acl.isAllowed(SESSION_ID, ROOM_ID));
+
+        nodeA.events.publish(ChatClusterEvent.memberLeft(ROOM_ID, USER_ID));
+
+        await(() -> !nodeB.acl.isAllowed(SESSION_ID, ROOM_ID));
+    }
+
+    @Test
+    void presenceMergesNodeSnapshots() {
+        nodeA.presence.publish(new ChatPresenceResponse(ROOM_ID, List.of("user-a"), List.of()));
+        nodeB.presence.publish(new ChatPresenceResponse(ROOM_ID, List.of("user-b"), List.of("user-b")));
+
+        String merged = "{\"roomId\":\"" + ROOM_ID + "\",\"onlineUserIds\":[\"user-a\",\"user-b\"],\"typingUserIds\":[\"user-b\"]}";
+        await(() -> merged.equals(nodeA.lastPresence()));
+        await(() -> merged.equals(nodeB.lastPresence()));
+
+        // 한 노드의 상태가 비어도 다른 노드의 상태는 남는다.
+        nodeA.presence.publish(new ChatPresenceResponse(ROOM_ID, List.of(), List.of()));
+        String onlyB = "{\"roomId\":\"" + ROOM_ID + "\",\"onlineUserIds\":[\"user-b\"],\"typingUserIds\":[\"user-b\"]}";
+        await(() -> onlyB.equals(nodeB.lastPresence()));
+        assertEquals(onlyB, nodeA.lastPresence());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met within 5s");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 노드 하나에 해당하는 Redis 모드 구성.
+     */
+    private static final class Node {
+        private final List<Message<?>> sent = new CopyOnWriteArrayList<>();
+        private final AtomicInteger receivedEvents = new AtomicInteger();
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisChatBroadcaster broadcaster;
+        private final RedisChatClusterEvents events;
+        private final RedisChatPresencePublisher presence;
+        private final ChatMemberRepository memberRepository = mock(ChatMemberRepository.class);
+        private final ChatMembershipCache membershipCache;
+        private final ChatSessionRoomAcl acl;
+        private final RedisMessageListenerContainer container;
+
+        private Node() {
+            connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+            messagingTemplate.setMessageConverter(new JacksonJsonMessageConverter());
+            broadcaster = new RedisChatBroadcaster(messagingTemplate, connectionFactory, new ChatBinarySubscriptionRegistry(), 5);
+            broadcaster.start();
+
+            membershipCache = new ChatMembershipCache(memberRepository);
+            ReflectionTestUtils.setField(membershipCache, "maxRooms", 100);
+            ReflectionTestUtils.setField(membershipCache, "ttlMs", 60_000L);
+            ChatRoomReader chatRoomReader = mock(ChatRoomReader.class);
+            when(chatRoomReader.findSyncStates(anyString()))
+                    .thenReturn(List.of(new ChatRoomSyncState(1L, ROOM_ID, null, 0L)));
+            acl = new ChatSessionRoomAcl(chatRoomReader);
+            events = new RedisChatClusterEvents(connectionFactory,
+                    new ChatClusterEventDispatcher(List.of(membershipCache, acl, event -> receivedEvents.incrementAndGet())));
+
+            presence = new RedisChatPresencePublisher(messagingTemplate, connectionFactory, 30_000);
+
+            container = new RedisBrokerRelayConfig()
+                    .chatRelayListenerContainer(connectionFactory, broadcaster, events, presence);
+            container.afterPropertiesSet();
+            container.start();
+        }
+
+        private List<Long> roomSeqs() {
+            String destination = "/chat/room/" + ROOM_ID;
+            List<Long> seqs = new ArrayList<>();
+            for (Message<?> message : sent) {
+                if (destination.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                    Matcher matcher = SEQ.matcher(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+                    if (matcher.find()) {
+                        seqs.add(Long.parseLong(matcher.group(1)));
+                    }
+                }
+            }
+            return seqs;
+        }
+
+        private String lastPresence() {
+            String destination = ChatPresenceRegistry.destinationOf(ROOM_ID);
+            for (int i = sent.size() - 1; i >= 0; i--) {
+                Message<?> message = sent.get(i);
+                if (destination.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                    return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+                }
+            }
+            return null;
+        }
+
+        private void close() {
+            container.stop();
+            broadcaster.shutdown();
+            connectionFactory.destroy();
+        }
+    }
+}